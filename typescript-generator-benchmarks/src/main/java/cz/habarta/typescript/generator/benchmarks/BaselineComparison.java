@@ -0,0 +1,80 @@
+
+package cz.habarta.typescript.generator.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import cz.habarta.typescript.generator.util.Utils;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Compares two JMH result files in JSON format (created using <code>-rf json -rff file.json</code>),
+ * for example committed baseline and results of current build.
+ * Usage: <code>BaselineComparison baseline.json current.json [threshold-percent]</code>.
+ * Exits with status 1 if any benchmark is slower than baseline by more than threshold (default 10 %).
+ */
+public class BaselineComparison {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparison <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        final Map<String, Result> baseline = load(new File(args[0]));
+        final Map<String, Result> current = load(new File(args[1]));
+        final double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        boolean regression = false;
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            final Result currentResult = entry.getValue();
+            final Result baselineResult = baseline.get(entry.getKey());
+            if (baselineResult == null) {
+                System.out.println(String.format("%-100s %12.3f %s (new)", entry.getKey(), currentResult.score, currentResult.unit));
+                continue;
+            }
+            // for throughput modes higher score is better, for time modes lower score is better
+            final double change = 100.0 * (currentResult.score - baselineResult.score) / baselineResult.score;
+            final double slowdown = currentResult.higherIsBetter ? -change : change;
+            final boolean slower = slowdown > threshold;
+            regression |= slower;
+            System.out.println(String.format("%-100s %12.3f -> %12.3f %s (%+.1f %%)%s",
+                    entry.getKey(), baselineResult.score, currentResult.score, currentResult.unit, change, slower ? " REGRESSION" : ""));
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.println(String.format("%-100s (removed)", key));
+            }
+        }
+        if (regression) {
+            System.exit(1);
+        }
+    }
+
+    private static class Result {
+        public double score;
+        public String unit;
+        public boolean higherIsBetter;
+    }
+
+    private static Map<String, Result> load(File file) throws IOException {
+        final Map<String, Result> results = new LinkedHashMap<>();
+        final JsonNode root = Utils.getObjectMapper().readTree(file);
+        for (JsonNode benchmark : root) {
+            final StringBuilder key = new StringBuilder(benchmark.path("benchmark").asText());
+            final JsonNode params = benchmark.path("params");
+            for (Iterator<Map.Entry<String, JsonNode>> iterator = params.fields(); iterator.hasNext(); ) {
+                final Map.Entry<String, JsonNode> param = iterator.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            final Result result = new Result();
+            result.score = benchmark.path("primaryMetric").path("score").asDouble();
+            result.unit = benchmark.path("primaryMetric").path("scoreUnit").asText();
+            result.higherIsBetter = "thrpt".equals(benchmark.path("mode").asText());
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+}
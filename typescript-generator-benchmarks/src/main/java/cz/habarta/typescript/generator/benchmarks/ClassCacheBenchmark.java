@@ -0,0 +1,89 @@
+package cz.habarta.typescript.generator.benchmarks;
+
+import cz.habarta.typescript.generator.DefaultTypeProcessor;
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.TypeProcessor;
+import cz.habarta.typescript.generator.compiler.SymbolTable;
+import cz.habarta.typescript.generator.util.GenericsResolver;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Per-class computations which are cached:
+ * <ul>
+ * <li>classification of classes by {@link DefaultTypeProcessor} (memoized per processor instance, new processor is created for each invocation),</li>
+ * <li>inheritance paths used by {@link GenericsResolver#resolveField(Class, Field)} for fields inherited in polymorphic hierarchies
+ *     (cached globally per class).</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClassCacheBenchmark {
+
+    private Settings settings;
+    private List<Type> types;
+    private List<Class<?>> hierarchyClasses;
+
+    @Setup
+    public void setup(SyntheticModelState state) throws ClassNotFoundException {
+        settings = state.createSettings();
+        types = new ArrayList<>();
+        for (Type beanClass : state.model.getBeanClasses()) {
+            for (Field field : ((Class<?>) beanClass).getDeclaredFields()) {
+                types.add(field.getGenericType());
+            }
+        }
+        hierarchyClasses = new ArrayList<>();
+        for (int h = 0; h < state.hierarchies; h++) {
+            for (int l = 1; l < state.hierarchyDepth + 1; l++) {
+                hierarchyClasses.add(state.model.getClassLoader().loadClass(SyntheticModel.PACKAGE_NAME + ".Hierarchy" + h + "Level" + l));
+            }
+        }
+    }
+
+    @Benchmark
+    public int classifyTypes() {
+        final TypeProcessor.Context context = new TypeProcessor.Context(new SymbolTable(settings), new DefaultTypeProcessor(), null);
+        int processed = 0;
+        for (Type type : types) {
+            if (context.processType(type) != null) {
+                processed++;
+            }
+        }
+        return processed;
+    }
+
+    @Benchmark
+    public int resolveInheritedFields() {
+        int resolved = 0;
+        for (Class<?> cls : hierarchyClasses) {
+            for (Class<?> c = cls; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (GenericsResolver.resolveField(cls, field) != null) {
+                        resolved++;
+                    }
+                }
+            }
+        }
+        return resolved;
+    }
+
+}
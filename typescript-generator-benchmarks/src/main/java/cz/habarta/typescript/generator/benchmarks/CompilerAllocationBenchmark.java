@@ -0,0 +1,66 @@
+package cz.habarta.typescript.generator.benchmarks;
+
+import cz.habarta.typescript.generator.Logger;
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+import cz.habarta.typescript.generator.emitter.TsModel;
+import cz.habarta.typescript.generator.parser.Model;
+import cz.habarta.typescript.generator.parser.SourceType;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Compilation of large model (10 000 beans by default) by {@link cz.habarta.typescript.generator.compiler.ModelCompiler#javaToTypeScript(Model)}.
+ * It is intended to be run with GC profiler to get allocation profile of model transformations:
+ * <pre>
+ * java -jar benchmarks.jar CompilerAllocationBenchmark -prof gc
+ * </pre>
+ * (<code>gc.alloc.rate.norm</code> is number of bytes allocated per compilation).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class CompilerAllocationBenchmark {
+
+    @Param({"10000"})
+    public int beans;
+
+    @Param({"2"})
+    public int genericsDepth;
+
+    private Settings settings;
+    private Model model;
+
+    @Setup
+    public void setup() {
+        TypeScriptGenerator.setLogger(new Logger(Logger.Level.Warning));
+        final SyntheticModel syntheticModel = SyntheticModel.get(new SyntheticModel.Config(beans, genericsDepth, 10, 3, 20, 100));
+        settings = SyntheticModelState.createSettings(syntheticModel);
+        settings.generateJaxrsApplicationClient = true;
+        model = new TypeScriptGenerator(settings).getModelParser().parseModel(
+                syntheticModel.getAllClasses().stream()
+                        .map(SourceType::new)
+                        .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public TsModel javaToTypeScript() {
+        return new TypeScriptGenerator(settings).getModelCompiler().javaToTypeScript(model);
+    }
+
+}
@@ -0,0 +1,54 @@
+
+package cz.habarta.typescript.generator.benchmarks;
+
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+import cz.habarta.typescript.generator.emitter.TsModel;
+import cz.habarta.typescript.generator.parser.Model;
+import cz.habarta.typescript.generator.parser.SourceType;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Transformation of parsed {@link Model} into {@link TsModel}
+ * ({@link cz.habarta.typescript.generator.compiler.ModelCompiler#javaToTypeScript(Model)}).
+ * Model is parsed once (including JAX-RS resources), only compilation is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompilerBenchmark {
+
+    private Settings settings;
+    private Model model;
+
+    @Setup
+    public void setup(SyntheticModelState state) {
+        settings = state.createSettings();
+        settings.generateJaxrsApplicationClient = true;
+        model = new TypeScriptGenerator(settings).getModelParser().parseModel(
+                state.model.getAllClasses().stream()
+                        .map(SourceType::new)
+                        .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public TsModel javaToTypeScript() {
+        return new TypeScriptGenerator(settings).getModelCompiler().javaToTypeScript(model);
+    }
+
+}
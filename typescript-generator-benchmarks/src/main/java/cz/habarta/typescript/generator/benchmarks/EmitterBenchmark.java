@@ -0,0 +1,58 @@
+
+package cz.habarta.typescript.generator.benchmarks;
+
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+import cz.habarta.typescript.generator.emitter.TsModel;
+import cz.habarta.typescript.generator.parser.Model;
+import cz.habarta.typescript.generator.parser.SourceType;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Emitting of compiled {@link TsModel} ({@link cz.habarta.typescript.generator.emitter.Emitter#emit}).
+ * Model is parsed and compiled once, only emitting to in-memory writer is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmitterBenchmark {
+
+    private Settings settings;
+    private TsModel tsModel;
+
+    @Setup
+    public void setup(SyntheticModelState state) {
+        settings = state.createSettings();
+        settings.generateJaxrsApplicationClient = true;
+        final TypeScriptGenerator generator = new TypeScriptGenerator(settings);
+        final Model model = generator.getModelParser().parseModel(
+                state.model.getAllClasses().stream()
+                        .map(SourceType::new)
+                        .collect(Collectors.toList()));
+        tsModel = generator.getModelCompiler().javaToTypeScript(model);
+    }
+
+    @Benchmark
+    public String emit() {
+        final StringWriter writer = new StringWriter();
+        new TypeScriptGenerator(settings).getEmitter().emit(tsModel, writer, null, true);
+        return writer.toString();
+    }
+
+}
@@ -0,0 +1,84 @@
+package cz.habarta.typescript.generator.benchmarks;
+
+import cz.habarta.typescript.generator.util.GlobMatcher;
+import cz.habarta.typescript.generator.util.Utils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Matching of class names (as found by classpath scanning) against class name globs
+ * (<code>classPatterns</code>, <code>excludeClassPatterns</code>, ...).
+ * Compares {@link GlobMatcher} with trying regexps created by {@link Utils#globsToRegexps(List)} one by one.
+ * Half of the globs are exact class names, the other half contain wildcards.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GlobMatcherBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int globs;
+
+    @Param({"10000"})
+    public int classNames;
+
+    private List<String> names;
+    private GlobMatcher globMatcher;
+    private List<Pattern> regexps;
+
+    @Setup
+    public void setup() {
+        names = new ArrayList<>();
+        for (int i = 0; i < classNames; i++) {
+            names.add("com.example.module" + (i % 100) + ".sub" + (i % 7) + (i % 3 == 0 ? ".Dto" : ".Service") + i);
+        }
+        final List<String> patterns = new ArrayList<>();
+        for (int i = 0; i < globs; i++) {
+            patterns.add(i % 2 == 0
+                    ? "com.example.module" + (i % 100) + ".sub" + (i % 7) + ".Service" + i
+                    : "com.example.module" + (i % 100) + ".sub" + (i % 7) + ".Dto*");
+        }
+        globMatcher = new GlobMatcher(patterns);
+        regexps = Utils.globsToRegexps(patterns);
+    }
+
+    @Benchmark
+    public int globMatcher() {
+        int matched = 0;
+        for (String name : names) {
+            if (globMatcher.matches(name)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int regexpList() {
+        int matched = 0;
+        for (String name : names) {
+            if (Utils.classNameMatches(name, regexps)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+}
@@ -0,0 +1,44 @@
+
+package cz.habarta.typescript.generator.benchmarks;
+
+import cz.habarta.typescript.generator.Input;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Classpath scanning and loading of input classes ({@link Input#from(Input.Parameters)}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InputBenchmark {
+
+    @Benchmark
+    public Input classNamePatterns(SyntheticModelState state) {
+        final Input.Parameters parameters = new Input.Parameters();
+        parameters.classNamePatterns = Collections.singletonList(SyntheticModel.PACKAGE_NAME + ".Bean*");
+        parameters.classLoader = state.model.getClassLoader();
+        parameters.scanningAcceptedPackages = Collections.singletonList(SyntheticModel.PACKAGE_NAME);
+        return Input.from(parameters);
+    }
+
+    @Benchmark
+    public Input classesWithAnnotations(SyntheticModelState state) {
+        final Input.Parameters parameters = new Input.Parameters();
+        parameters.classesWithAnnotations = Collections.singletonList("jakarta.ws.rs.Path");
+        parameters.classLoader = state.model.getClassLoader();
+        parameters.scanningAcceptedPackages = Collections.singletonList(SyntheticModel.PACKAGE_NAME);
+        return Input.from(parameters);
+    }
+
+}
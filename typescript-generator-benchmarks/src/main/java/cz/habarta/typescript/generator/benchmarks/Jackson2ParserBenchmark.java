@@ -0,0 +1,66 @@
+package cz.habarta.typescript.generator.benchmarks;
+
+import cz.habarta.typescript.generator.Logger;
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+import cz.habarta.typescript.generator.parser.Model;
+import cz.habarta.typescript.generator.parser.SourceType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Parsing of model with many and deep Jackson polymorphic hierarchies using {@link cz.habarta.typescript.generator.parser.Jackson2Parser}.
+ * Classes in hierarchies are referenced from many beans and from their subclasses so this benchmark
+ * shows effect of caching Jackson introspection (serializers, deserializers and bean descriptions) in the parser.
+ * Unlike other benchmarks it uses its own model parameters (not {@link SyntheticModelState}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Jackson2ParserBenchmark {
+
+    @Param({"500"})
+    public int beans;
+
+    @Param({"10", "100"})
+    public int hierarchies;
+
+    @Param({"3", "6"})
+    public int hierarchyDepth;
+
+    private Settings settings;
+    private List<SourceType<Type>> sourceTypes;
+
+    @Setup
+    public void setup() {
+        TypeScriptGenerator.setLogger(new Logger(Logger.Level.Warning));
+        final SyntheticModel model = SyntheticModel.get(new SyntheticModel.Config(beans, 1, hierarchies, hierarchyDepth, 20, 0));
+        settings = SyntheticModelState.createSettings(model);
+        sourceTypes = model.getBeanClasses().stream()
+                .map(SourceType::new)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Model parseModel() {
+        return new TypeScriptGenerator(settings).getModelParser().parseModel(sourceTypes);
+    }
+
+}
@@ -0,0 +1,88 @@
+package cz.habarta.typescript.generator.benchmarks;
+
+import cz.habarta.typescript.generator.util.ListIndex;
+import cz.habarta.typescript.generator.util.TrackingList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Lookups by name in model lists which are populated at the same time (the way compiler looks up beans in <code>TsModel</code>).
+ * After each appended item one lookup is made.
+ * Compares {@link ListIndex} (over plain list and over {@link TrackingList}) with linear search which is quadratic in list size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListIndexBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private List<String> names;
+
+    @Setup
+    public void setup() {
+        names = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            names.add("cz.habarta.typescript.generator.Bean" + i);
+        }
+    }
+
+    @Benchmark
+    public int listIndex() {
+        return appendAndLookup(new ArrayList<>());
+    }
+
+    @Benchmark
+    public int listIndexOverTrackingList() {
+        return appendAndLookup(TrackingList.of(new ArrayList<>()));
+    }
+
+    @Benchmark
+    public int linearSearch() {
+        final List<String> list = new ArrayList<>();
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            list.add(names.get(i));
+            final String key = names.get(i / 2);
+            for (String item : list) {
+                if (Objects.equals(item, key)) {
+                    found++;
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    private int appendAndLookup(List<String> list) {
+        final ListIndex<String, String> index = new ListIndex<>(list, Function.identity());
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            list.add(names.get(i));
+            if (index.get(names.get(i / 2)) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+}
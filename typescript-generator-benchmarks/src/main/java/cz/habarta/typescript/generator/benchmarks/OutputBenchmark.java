@@ -0,0 +1,84 @@
+package cz.habarta.typescript.generator.benchmarks;
+
+import cz.habarta.typescript.generator.Output;
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+import cz.habarta.typescript.generator.emitter.TsModel;
+import cz.habarta.typescript.generator.parser.Model;
+import cz.habarta.typescript.generator.parser.SourceType;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Emitting of compiled {@link TsModel} to file using {@link Output#to(File, boolean, boolean)}.
+ * The same file is rewritten by each invocation, so with <code>onlyIfChanged</code> the content is always unchanged
+ * and only temporary file is written and compared.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OutputBenchmark {
+
+    @Param({"false", "true"})
+    public boolean atomic;
+
+    @Param({"false", "true"})
+    public boolean onlyIfChanged;
+
+    private Settings settings;
+    private TsModel tsModel;
+    private File directory;
+    private File file;
+
+    @Setup
+    public void setup(SyntheticModelState state) throws IOException {
+        settings = state.createSettings();
+        settings.generateJaxrsApplicationClient = true;
+        final TypeScriptGenerator generator = new TypeScriptGenerator(settings);
+        final Model model = generator.getModelParser().parseModel(
+                state.model.getAllClasses().stream()
+                        .map(SourceType::new)
+                        .collect(Collectors.toList()));
+        tsModel = generator.getModelCompiler().javaToTypeScript(model);
+        directory = Files.createTempDirectory("typescript-generator-benchmark-output").toFile();
+        file = new File(directory, "output.ts");
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+        directory.delete();
+    }
+
+    @Benchmark
+    public File emit() {
+        final Output output = Output.to(file, atomic, onlyIfChanged);
+        try {
+            new TypeScriptGenerator(settings).getEmitter().emit(tsModel, output.getWriter(), output.getName(), output.shouldCloseWriter());
+        } catch (RuntimeException e) {
+            output.discard();
+            throw e;
+        }
+        return file;
+    }
+
+}
@@ -0,0 +1,58 @@
+
+package cz.habarta.typescript.generator.benchmarks;
+
+import cz.habarta.typescript.generator.JsonLibrary;
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+import cz.habarta.typescript.generator.parser.Model;
+import cz.habarta.typescript.generator.parser.SourceType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Parsing of Java classes into {@link Model} ({@link cz.habarta.typescript.generator.parser.ModelParser#parseModel(List)})
+ * using different JSON libraries. New generator (with empty caches) is created for each invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+
+    @Param({"jackson2", "jsonb", "gson"})
+    public JsonLibrary jsonLibrary;
+
+    private Settings settings;
+    private List<SourceType<Type>> sourceTypes;
+
+    @Setup
+    public void setup(SyntheticModelState state) {
+        settings = state.createSettings();
+        settings.jsonLibrary = jsonLibrary;
+        sourceTypes = state.model.getBeanClasses().stream()
+                .map(SourceType::new)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Model parseModel() {
+        return new TypeScriptGenerator(settings).getModelParser().parseModel(sourceTypes);
+    }
+
+}
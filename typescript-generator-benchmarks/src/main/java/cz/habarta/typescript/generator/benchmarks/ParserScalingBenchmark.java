@@ -0,0 +1,60 @@
+package cz.habarta.typescript.generator.benchmarks;
+
+import cz.habarta.typescript.generator.Logger;
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+import cz.habarta.typescript.generator.parser.Model;
+import cz.habarta.typescript.generator.parser.SourceType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Scaling of {@link cz.habarta.typescript.generator.parser.ModelParser#parseModel(List)} with number of classes.
+ * All bean classes are passed as input and every bean is also referenced from other beans (directly, in collections and generic wrappers)
+ * so the parser queue gets many duplicate types. Time per class should stay roughly constant when number of classes grows.
+ * Unlike {@link ParserBenchmark} it uses its own model parameters (not {@link SyntheticModelState}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class ParserScalingBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    public int classes;
+
+    private Settings settings;
+    private List<SourceType<Type>> sourceTypes;
+
+    @Setup
+    public void setup() {
+        TypeScriptGenerator.setLogger(new Logger(Logger.Level.Warning));
+        final SyntheticModel model = SyntheticModel.get(new SyntheticModel.Config(classes, 1, 10, 3, 20, 0));
+        settings = SyntheticModelState.createSettings(model);
+        sourceTypes = model.getBeanClasses().stream()
+                .map(SourceType::new)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public Model parseModel() {
+        return new TypeScriptGenerator(settings).getModelParser().parseModel(sourceTypes);
+    }
+
+}
@@ -0,0 +1,54 @@
+
+package cz.habarta.typescript.generator.benchmarks;
+
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+import cz.habarta.typescript.generator.parser.JaxrsApplicationParser;
+import cz.habarta.typescript.generator.parser.RestApplicationModel;
+import cz.habarta.typescript.generator.parser.SourceType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Parsing of JAX-RS resources ({@link JaxrsApplicationParser}) without parsing of referenced JSON classes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RestParserBenchmark {
+
+    private Settings settings;
+    private List<Type> resourceClasses;
+
+    @Setup
+    public void setup(SyntheticModelState state) {
+        settings = state.createSettings();
+        settings.generateJaxrsApplicationInterface = true;
+        resourceClasses = state.model.getResourceClasses();
+    }
+
+    @Benchmark
+    public RestApplicationModel jaxrs() {
+        final JaxrsApplicationParser parser = new JaxrsApplicationParser(settings, new TypeScriptGenerator(settings).getCommonTypeProcessor());
+        for (Type resourceClass : resourceClasses) {
+            parser.tryParse(new SourceType<>(resourceClass));
+        }
+        return parser.getModel();
+    }
+
+}
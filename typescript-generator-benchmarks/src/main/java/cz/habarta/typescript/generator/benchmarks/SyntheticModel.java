@@ -0,0 +1,290 @@
+
+package cz.habarta.typescript.generator.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+
+/**
+ * Synthetic Java model used as benchmark input.
+ * Java sources are generated according to {@link Config}, compiled using system Java compiler
+ * and loaded using separate class loader. Generated model contains:
+ * <ul>
+ * <li>beans referencing other beans directly, in lists and in nested generic wrappers,</li>
+ * <li>polymorphic hierarchies annotated with Jackson <code>@JsonTypeInfo</code>/<code>@JsonSubTypes</code>,</li>
+ * <li>enums,</li>
+ * <li>JAX-RS resources using the beans.</li>
+ * </ul>
+ * Models are cached by configuration so each configuration is compiled only once per JVM.
+ */
+public class SyntheticModel {
+
+    public static final String PACKAGE_NAME = "synthetic";
+
+    private static final Map<Config, SyntheticModel> models = new ConcurrentHashMap<>();
+
+    private final Config config;
+    private final File classesDirectory;
+    private final URLClassLoader classLoader;
+
+    public static class Config {
+        public final int beans;
+        public final int genericsDepth;
+        public final int hierarchies;
+        public final int hierarchyDepth;
+        public final int enums;
+        public final int resources;
+
+        public Config(int beans, int genericsDepth, int hierarchies, int hierarchyDepth, int enums, int resources) {
+            this.beans = Math.max(1, beans);
+            this.genericsDepth = Math.max(0, genericsDepth);
+            this.hierarchies = Math.max(1, hierarchies);
+            this.hierarchyDepth = Math.max(1, hierarchyDepth);
+            this.enums = Math.max(1, enums);
+            this.resources = Math.max(0, resources);
+        }
+
+        private List<Integer> key() {
+            return Arrays.asList(beans, genericsDepth, hierarchies, hierarchyDepth, enums, resources);
+        }
+
+        @Override
+        public int hashCode() {
+            return key().hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Config && key().equals(((Config) obj).key());
+        }
+
+        @Override
+        public String toString() {
+            return String.format("beans=%d, genericsDepth=%d, hierarchies=%d, hierarchyDepth=%d, enums=%d, resources=%d",
+                    beans, genericsDepth, hierarchies, hierarchyDepth, enums, resources);
+        }
+    }
+
+    private SyntheticModel(Config config, File classesDirectory) {
+        this.config = config;
+        this.classesDirectory = classesDirectory;
+        try {
+            this.classLoader = new URLClassLoader(new URL[] {classesDirectory.toURI().toURL()}, SyntheticModel.class.getClassLoader());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static SyntheticModel get(Config config) {
+        return models.computeIfAbsent(config, SyntheticModel::create);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public File getClassesDirectory() {
+        return classesDirectory;
+    }
+
+    public URLClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    /**
+     * Returns names of bean classes (polymorphic hierarchies and enums are reachable from beans).
+     */
+    public List<String> getBeanClassNames() {
+        final List<String> names = new ArrayList<>();
+        for (int i = 0; i < config.beans; i++) {
+            names.add(PACKAGE_NAME + ".Bean" + i);
+        }
+        return names;
+    }
+
+    public List<String> getResourceClassNames() {
+        final List<String> names = new ArrayList<>();
+        for (int i = 0; i < config.resources; i++) {
+            names.add(PACKAGE_NAME + ".Resource" + i);
+        }
+        return names;
+    }
+
+    /**
+     * Returns bean classes and JAX-RS resource classes.
+     */
+    public List<Type> getAllClasses() {
+        final List<Type> classes = new ArrayList<>();
+        classes.addAll(getBeanClasses());
+        classes.addAll(getResourceClasses());
+        return classes;
+    }
+
+    public List<Type> getBeanClasses() {
+        return loadClasses(getBeanClassNames());
+    }
+
+    public List<Type> getResourceClasses() {
+        return loadClasses(getResourceClassNames());
+    }
+
+    private List<Type> loadClasses(List<String> classNames) {
+        final List<Type> classes = new ArrayList<>();
+        for (String className : classNames) {
+            try {
+                classes.add(classLoader.loadClass(className));
+            } catch (ClassNotFoundException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return classes;
+    }
+
+    private static SyntheticModel create(Config config) {
+        try {
+            final File directory = Files.createTempDirectory("typescript-generator-benchmark").toFile();
+            final File sourcesDirectory = new File(directory, "src");
+            final File classesDirectory = new File(directory, "classes");
+            final File packageDirectory = new File(sourcesDirectory, PACKAGE_NAME);
+            packageDirectory.mkdirs();
+            classesDirectory.mkdirs();
+            final List<File> sources = new ArrayList<>();
+            for (Map.Entry<String, String> entry : generateSources(config).entrySet()) {
+                final File file = new File(packageDirectory, entry.getKey() + ".java");
+                Files.write(file.toPath(), entry.getValue().getBytes(StandardCharsets.UTF_8));
+                sources.add(file);
+            }
+            compile(sources, classesDirectory);
+            return new SyntheticModel(config, classesDirectory);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void compile(List<File> sources, File classesDirectory) {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new RuntimeException("Java compiler not available, benchmarks must be run using JDK");
+        }
+        final List<String> arguments = new ArrayList<>(Arrays.asList(
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", classesDirectory.getPath(),
+                "-nowarn",
+                "-proc:none"
+        ));
+        for (File source : sources) {
+            arguments.add(source.getPath());
+        }
+        final int result = compiler.run(null, null, null, arguments.toArray(new String[0]));
+        if (result != 0) {
+            throw new RuntimeException("Compilation of synthetic model failed");
+        }
+    }
+
+    static Map<String, String> generateSources(Config config) {
+        final Map<String, String> sources = new LinkedHashMap<>();
+        sources.put("Wrapper", ""
+                + "package " + PACKAGE_NAME + ";\n"
+                + "public class Wrapper<T> {\n"
+                + "    public T value;\n"
+                + "    public java.util.List<T> items;\n"
+                + "    public java.util.Map<String, T> byKey;\n"
+                + "}\n");
+        for (int e = 0; e < config.enums; e++) {
+            sources.put("Enum" + e, ""
+                    + "package " + PACKAGE_NAME + ";\n"
+                    + "public enum Enum" + e + " {\n"
+                    + "    ALPHA, BETA, GAMMA, DELTA, EPSILON\n"
+                    + "}\n");
+        }
+        for (int h = 0; h < config.hierarchies; h++) {
+            final StringBuilder subTypes = new StringBuilder();
+            for (int l = 1; l < config.hierarchyDepth + 1; l++) {
+                subTypes.append(l > 1 ? ",\n" : "")
+                        .append("    @com.fasterxml.jackson.annotation.JsonSubTypes.Type(value = Hierarchy").append(h).append("Level").append(l)
+                        .append(".class, name = \"level").append(l).append("\")");
+            }
+            sources.put("Hierarchy" + h, ""
+                    + "package " + PACKAGE_NAME + ";\n"
+                    + "@com.fasterxml.jackson.annotation.JsonTypeInfo(use = com.fasterxml.jackson.annotation.JsonTypeInfo.Id.NAME, property = \"kind\")\n"
+                    + "@com.fasterxml.jackson.annotation.JsonSubTypes({\n"
+                    + subTypes + "\n"
+                    + "})\n"
+                    + "public abstract class Hierarchy" + h + " {\n"
+                    + "    public String id;\n"
+                    + "}\n");
+            for (int l = 1; l < config.hierarchyDepth + 1; l++) {
+                final String superclass = l == 1 ? "Hierarchy" + h : "Hierarchy" + h + "Level" + (l - 1);
+                sources.put("Hierarchy" + h + "Level" + l, ""
+                        + "package " + PACKAGE_NAME + ";\n"
+                        + "public class Hierarchy" + h + "Level" + l + " extends " + superclass + " {\n"
+                        + "    public String level" + l + "Name;\n"
+                        + "    public Enum" + ((h + l) % config.enums) + " level" + l + "Status;\n"
+                        + "}\n");
+            }
+        }
+        for (int i = 0; i < config.beans; i++) {
+            sources.put("Bean" + i, ""
+                    + "package " + PACKAGE_NAME + ";\n"
+                    + "public class Bean" + i + " {\n"
+                    + "    public String name;\n"
+                    + "    public int count;\n"
+                    + "    public java.util.Date created;\n"
+                    + "    public Enum" + (i % config.enums) + " status;\n"
+                    + "    public Bean" + ((i + 1) % config.beans) + " next;\n"
+                    + "    public java.util.List<Bean" + ((i + 2) % config.beans) + "> children;\n"
+                    + "    public java.util.Map<String, Bean" + ((i + 3) % config.beans) + "> lookup;\n"
+                    + "    public " + wrapped("Bean" + ((i + 5) % config.beans), config.genericsDepth) + " wrapped;\n"
+                    + "    public Hierarchy" + (i % config.hierarchies) + " polymorphic;\n"
+                    + "}\n");
+        }
+        for (int r = 0; r < config.resources; r++) {
+            final String bean = "Bean" + (r % config.beans);
+            sources.put("Resource" + r, ""
+                    + "package " + PACKAGE_NAME + ";\n"
+                    + "@jakarta.ws.rs.Path(\"resource" + r + "\")\n"
+                    + "public class Resource" + r + " {\n"
+                    + "    @jakarta.ws.rs.GET\n"
+                    + "    @jakarta.ws.rs.Path(\"{id}\")\n"
+                    + "    public " + bean + " get(@jakarta.ws.rs.PathParam(\"id\") String id) {\n"
+                    + "        return null;\n"
+                    + "    }\n"
+                    + "    @jakarta.ws.rs.GET\n"
+                    + "    public java.util.List<" + bean + "> search(@jakarta.ws.rs.QueryParam(\"q\") String q, @jakarta.ws.rs.QueryParam(\"limit\") Integer limit) {\n"
+                    + "        return null;\n"
+                    + "    }\n"
+                    + "    @jakarta.ws.rs.POST\n"
+                    + "    public " + wrapped(bean, config.genericsDepth) + " create(" + bean + " body) {\n"
+                    + "        return null;\n"
+                    + "    }\n"
+                    + "    @jakarta.ws.rs.DELETE\n"
+                    + "    @jakarta.ws.rs.Path(\"{id}\")\n"
+                    + "    public void delete(@jakarta.ws.rs.PathParam(\"id\") String id) {\n"
+                    + "    }\n"
+                    + "}\n");
+        }
+        return sources;
+    }
+
+    private static String wrapped(String type, int depth) {
+        String result = type;
+        for (int d = 0; d < depth; d++) {
+            result = "Wrapper<" + result + ">";
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,62 @@
+
+package cz.habarta.typescript.generator.benchmarks;
+
+import cz.habarta.typescript.generator.JsonLibrary;
+import cz.habarta.typescript.generator.Logger;
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.TypeScriptFileType;
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+import cz.habarta.typescript.generator.TypeScriptOutputKind;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Benchmark parameters describing size and shape of {@link SyntheticModel}.
+ */
+@State(Scope.Benchmark)
+public class SyntheticModelState {
+
+    @Param({"100", "1000"})
+    public int beans;
+
+    @Param({"1", "3"})
+    public int genericsDepth;
+
+    @Param({"10"})
+    public int hierarchies;
+
+    @Param({"3"})
+    public int hierarchyDepth;
+
+    @Param({"20"})
+    public int enums;
+
+    @Param({"50"})
+    public int resources;
+
+    public SyntheticModel model;
+
+    @Setup
+    public void setupModel() {
+        TypeScriptGenerator.setLogger(new Logger(Logger.Level.Warning));
+        model = SyntheticModel.get(new SyntheticModel.Config(beans, genericsDepth, hierarchies, hierarchyDepth, enums, resources));
+    }
+
+    public Settings createSettings() {
+        return createSettings(model);
+    }
+
+    public static Settings createSettings(SyntheticModel model) {
+        final Settings settings = new Settings();
+        settings.jsonLibrary = JsonLibrary.jackson2;
+        settings.outputKind = TypeScriptOutputKind.module;
+        settings.outputFileType = TypeScriptFileType.implementationFile;
+        settings.classLoader = model.getClassLoader();
+        settings.noFileComment = true;
+        return settings;
+    }
+
+}
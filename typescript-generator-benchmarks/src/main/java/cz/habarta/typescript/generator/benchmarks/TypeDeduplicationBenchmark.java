@@ -0,0 +1,75 @@
+package cz.habarta.typescript.generator.benchmarks;
+
+import cz.habarta.typescript.generator.type.JParameterizedType;
+import cz.habarta.typescript.generator.type.TypeKey;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * De-duplication of types queued by {@link cz.habarta.typescript.generator.parser.ModelParser}.
+ * Compares set of {@link TypeKey}s (used by the parser) with linear search in list of already seen types.
+ * Each bean class is represented by raw class, <code>List&lt;Bean&gt;</code> and <code>Map&lt;String, Bean&gt;</code>
+ * and every type occurs twice as different (but equal) instances, the same as when the parser discovers type from multiple properties.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TypeDeduplicationBenchmark {
+
+    private List<Type> types;
+
+    @Setup
+    public void setup(SyntheticModelState state) {
+        types = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            for (Type beanClass : state.model.getBeanClasses()) {
+                types.add(beanClass);
+                types.add(new JParameterizedType(List.class, new Type[] {beanClass}, null));
+                types.add(new JParameterizedType(Map.class, new Type[] {String.class, beanClass}, null));
+            }
+        }
+    }
+
+    @Benchmark
+    public int typeKeySet() {
+        final Set<TypeKey> seen = new HashSet<>();
+        int unique = 0;
+        for (Type type : types) {
+            if (seen.add(TypeKey.of(type))) {
+                unique++;
+            }
+        }
+        return unique;
+    }
+
+    @Benchmark
+    public int listContains() {
+        final List<Type> seen = new ArrayList<>();
+        for (Type type : types) {
+            if (!seen.contains(type)) {
+                seen.add(type);
+            }
+        }
+        return seen.size();
+    }
+
+}
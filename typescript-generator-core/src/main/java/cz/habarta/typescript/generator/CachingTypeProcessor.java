@@ -0,0 +1,127 @@
+
+package cz.habarta.typescript.generator;
+
+import cz.habarta.typescript.generator.type.TypeKey;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Memoizes results of {@link #processTypeInTemporaryContext(Type, Object, Settings)} calls
+ * which are repeatedly made for the same types during class discovery.
+ * Calls with regular (non-temporary) context are not cached because resulting types contain symbols from caller's symbol table.
+ * If delegate processor is {@link TypeProcessor#isContextSensitive() context sensitive}
+ * cache key of {@link TypeProcessor.CacheableTypeContext} is part of the key
+ * and results for other type contexts are not cached,
+ * otherwise only class of type context is used.
+ */
+public class CachingTypeProcessor implements TypeProcessor {
+
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final TypeProcessor delegate;
+    private final boolean contextSensitive;
+    private final Map<Key, Result> cache;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public CachingTypeProcessor(TypeProcessor delegate) {
+        this(delegate, DEFAULT_MAX_SIZE);
+    }
+
+    public CachingTypeProcessor(TypeProcessor delegate, int maxSize) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.contextSensitive = delegate.isContextSensitive();
+        this.cache = new LinkedHashMap<Key, Result>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Result> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public Result processType(Type javaType, Context context) {
+        return delegate.processType(javaType, context);
+    }
+
+    @Override
+    public Result processTypeInTemporaryContext(Type type, Object typeContext, Settings settings) {
+        final Object contextKey;
+        if (typeContext == null) {
+            contextKey = null;
+        } else if (!contextSensitive) {
+            contextKey = typeContext.getClass();
+        } else if (typeContext instanceof CacheableTypeContext) {
+            contextKey = ((CacheableTypeContext) typeContext).getCacheKey();
+        } else {
+            misses.incrementAndGet();
+            return TypeProcessor.super.processTypeInTemporaryContext(type, typeContext, settings);
+        }
+        final Key key = new Key(TypeKey.of(type), contextKey, settings);
+        synchronized (cache) {
+            if (cache.containsKey(key)) {
+                hits.incrementAndGet();
+                return cache.get(key);
+            }
+        }
+        misses.incrementAndGet();
+        final Result result = TypeProcessor.super.processTypeInTemporaryContext(type, typeContext, settings);
+        synchronized (cache) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isContextSensitive() {
+        return contextSensitive;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CachingTypeProcessor{hits=%d, misses=%d}", getHits(), getMisses());
+    }
+
+    private static class Key {
+        private final TypeKey type;
+        private final Object context;
+        private final Settings settings;
+
+        public Key(TypeKey type, Object context, Settings settings) {
+            this.type = type;
+            this.context = context;
+            this.settings = settings;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return type.equals(other.type) && Objects.equals(context, other.context) && settings == other.settings;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * type.hashCode() + Objects.hashCode(context)) + System.identityHashCode(settings);
+        }
+    }
+
+}
@@ -0,0 +1,325 @@
+
+package cz.habarta.typescript.generator;
+
+import io.github.classgraph.ScanResult;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+
+/**
+ * Keeps class loaders and classpath scan results in memory so they can be reused by subsequent generator executions
+ * in long-lived JVMs (Gradle daemon, Maven daemon, watch mode).
+ * Classpath is split into two class loaders: one for jar files (dependencies) and one for directories (project classes).
+ * Each layer is recreated only when some of its entries changed (based on file sizes and modification times)
+ * so dependencies stay loaded when only project classes change.
+ * Classes and resources are looked up in parent class loader, then in directories and then in jar files,
+ * so project classes take precedence over classes from dependencies.
+ * At most {@value #MAX_ENTRIES} classpaths are kept, least recently used ones are closed when they are no longer in use.
+ */
+public class ClassLoaderCache {
+
+    public static final int MAX_ENTRIES = 8;
+
+    private static final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private static class Entry {
+        public final List<URL> jars;
+        public final List<URL> directories;
+        public final ClassLoader parent;
+        public final String jarsFingerprint;
+        public final String directoriesFingerprint;
+        public final URLClassLoader jarsClassLoader;
+        public final ProjectClassLoader classLoader;
+        public final Map<List<String>, ScanResult> scanResults = new HashMap<>();
+        public int leases;
+        public boolean obsolete;
+        public boolean jarsClassLoaderShared;
+
+        public Entry(List<URL> jars, List<URL> directories, ClassLoader parent, String jarsFingerprint, String directoriesFingerprint,
+                URLClassLoader jarsClassLoader, ProjectClassLoader classLoader) {
+            this.jars = jars;
+            this.directories = directories;
+            this.parent = parent;
+            this.jarsFingerprint = jarsFingerprint;
+            this.directoriesFingerprint = directoriesFingerprint;
+            this.jarsClassLoader = jarsClassLoader;
+            this.classLoader = classLoader;
+        }
+
+        public List<URL> getUrls() {
+            final List<URL> urls = new ArrayList<>(directories);
+            urls.addAll(jars);
+            return urls;
+        }
+    }
+
+    /**
+     * Class loader acquired from the cache. Closing the lease doesn't close the class loader unless it is obsolete
+     * (or it was not cached at all).
+     */
+    public static class Lease implements AutoCloseable {
+
+        private final URLClassLoader classLoader;
+        private final Entry entry;
+
+        private Lease(URLClassLoader classLoader, Entry entry) {
+            this.classLoader = classLoader;
+            this.entry = entry;
+        }
+
+        public URLClassLoader getClassLoader() {
+            return classLoader;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (entry == null) {
+                classLoader.close();
+            } else {
+                release(entry);
+            }
+        }
+
+    }
+
+    /**
+     * @param reuse if <code>false</code> new class loader is created and it is closed together with returned lease
+     */
+    public static Lease acquire(String name, List<URL> urls, ClassLoader parent, boolean reuse) {
+        if (!reuse) {
+            return new Lease(Settings.createClassLoader(name, urls.toArray(new URL[0]), parent), null);
+        }
+        final List<URL> jars = new ArrayList<>();
+        final List<URL> directories = new ArrayList<>();
+        for (URL url : urls) {
+            final File file = toFile(url);
+            if (file != null && file.isDirectory()) {
+                directories.add(url);
+            } else {
+                jars.add(url);
+            }
+        }
+        final String jarsFingerprint = fingerprint(jars);
+        final String directoriesFingerprint = fingerprint(directories);
+        synchronized (entries) {
+            final Entry cached = entries.get(name);
+            if (cached != null && cached.parent == parent && cached.jars.equals(jars) && cached.directories.equals(directories)
+                    && cached.jarsFingerprint.equals(jarsFingerprint) && cached.directoriesFingerprint.equals(directoriesFingerprint)) {
+                TypeScriptGenerator.getLogger().info("Reusing class loader, classpath is unchanged");
+                cached.leases++;
+                return new Lease(cached.classLoader, cached);
+            }
+            final boolean reuseJars = cached != null && cached.parent == parent && cached.jars.equals(jars) && cached.jarsFingerprint.equals(jarsFingerprint);
+            if (cached != null) {
+                TypeScriptGenerator.getLogger().info(reuseJars
+                        ? "Project classes changed, reusing class loader for dependencies"
+                        : "Classpath changed, creating new class loader");
+                cached.jarsClassLoaderShared = reuseJars;
+                cached.obsolete = true;
+                closeIfUnused(cached);
+            }
+            final URLClassLoader jarsClassLoader = reuseJars
+                    ? cached.jarsClassLoader
+                    : Settings.createClassLoader(name + "-dependencies", jars.toArray(new URL[0]), parent);
+            final ProjectClassLoader classLoader = new ProjectClassLoader(name, directories.toArray(new URL[0]), parent, jarsClassLoader);
+            final Entry entry = new Entry(jars, directories, parent, jarsFingerprint, directoriesFingerprint, jarsClassLoader, classLoader);
+            classLoader.entry = entry;
+            entry.leases++;
+            entries.put(name, entry);
+            evictEntries(MAX_ENTRIES);
+            return new Lease(classLoader, entry);
+        }
+    }
+
+    /**
+     * Removes all cached class loaders. Class loaders which are currently in use are closed when they are released.
+     */
+    public static void clear() {
+        synchronized (entries) {
+            evictEntries(0);
+        }
+    }
+
+    private static void evictEntries(int maxEntries) {
+        final Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            final Entry entry = iterator.next();
+            iterator.remove();
+            entry.obsolete = true;
+            closeIfUnused(entry);
+        }
+    }
+
+    /**
+     * Returns class loader for jar files if class loader was created by this cache, otherwise <code>null</code>.
+     */
+    static URLClassLoader getDependenciesClassLoader(URLClassLoader classLoader) {
+        return classLoader instanceof ProjectClassLoader ? ((ProjectClassLoader) classLoader).dependenciesClassLoader : null;
+    }
+
+    /**
+     * Returns all classpath URLs (directories and jars) if class loader was created by this cache, otherwise its own URLs.
+     */
+    public static URL[] getClasspath(URLClassLoader classLoader) {
+        final Entry entry = findEntry(classLoader);
+        return entry != null ? entry.getUrls().toArray(new URL[0]) : classLoader.getURLs();
+    }
+
+    /**
+     * Returns cached scan result for cached class loader or null if class loader is not cached.
+     * Returned scan result must not be closed by the caller.
+     */
+    public static ScanResult getScanResult(URLClassLoader classLoader, List<String> acceptedPackages, Supplier<ScanResult> scanner) {
+        final Entry entry = findEntry(classLoader);
+        if (entry == null) {
+            return null;
+        }
+        final List<String> key = acceptedPackages != null ? new ArrayList<>(acceptedPackages) : new ArrayList<>();
+        synchronized (entry.scanResults) {
+            final ScanResult cached = entry.scanResults.get(key);
+            if (cached != null) {
+                TypeScriptGenerator.getLogger().info("Reusing classpath scan result");
+                return cached;
+            }
+            final ScanResult scanResult = scanner.get();
+            entry.scanResults.put(key, scanResult);
+            return scanResult;
+        }
+    }
+
+    private static Entry findEntry(ClassLoader classLoader) {
+        return classLoader instanceof ProjectClassLoader ? ((ProjectClassLoader) classLoader).entry : null;
+    }
+
+    private static void release(Entry entry) {
+        synchronized (entries) {
+            entry.leases--;
+            closeIfUnused(entry);
+        }
+    }
+
+    private static void closeIfUnused(Entry entry) {
+        if (entry.obsolete && entry.leases == 0) {
+            synchronized (entry.scanResults) {
+                entry.scanResults.values().forEach(ScanResult::close);
+                entry.scanResults.clear();
+            }
+            try {
+                entry.classLoader.close();
+                if (!entry.jarsClassLoaderShared) {
+                    entry.jarsClassLoader.close();
+                }
+            } catch (IOException e) {
+                TypeScriptGenerator.getLogger().warning("Cannot close class loader: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Class loader for project directories which falls back to class loader for jar files.
+     * Lookup order is: parent class loader, directories, jar files.
+     */
+    private static class ProjectClassLoader extends URLClassLoader {
+
+        private final String name;
+        private final URLClassLoader dependenciesClassLoader;
+        private Entry entry;
+
+        public ProjectClassLoader(String name, URL[] directories, ClassLoader parent, URLClassLoader dependenciesClassLoader) {
+            super(directories, parent);
+            this.name = name;
+            this.dependenciesClassLoader = dependenciesClassLoader;
+        }
+
+        @Override
+        protected Class<?> findClass(String className) throws ClassNotFoundException {
+            try {
+                return super.findClass(className);
+            } catch (ClassNotFoundException e) {
+                return dependenciesClassLoader.loadClass(className);
+            }
+        }
+
+        @Override
+        public URL findResource(String resourceName) {
+            final URL url = super.findResource(resourceName);
+            return url != null ? url : dependenciesClassLoader.findResource(resourceName);
+        }
+
+        @Override
+        public Enumeration<URL> findResources(String resourceName) throws IOException {
+            final List<URL> urls = Collections.list(super.findResources(resourceName));
+            urls.addAll(Collections.list(dependenciesClassLoader.findResources(resourceName)));
+            return Collections.enumeration(urls);
+        }
+
+        @Override
+        public String toString() {
+            return "TsGenProjectClassLoader{" + name + ", dependencies: " + dependenciesClassLoader + "}";
+        }
+
+    }
+
+    private static File toFile(URL url) {
+        try {
+            return "file".equals(url.getProtocol()) ? new File(url.toURI()) : null;
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    private static String fingerprint(List<URL> urls) {
+        final StringBuilder sb = new StringBuilder();
+        for (URL url : urls) {
+            final File file = toFile(url);
+            sb.append(url).append('|');
+            if (file == null || !file.exists()) {
+                sb.append("-\n");
+            } else if (file.isDirectory()) {
+                try (Stream<Path> paths = Files.walk(file.toPath())) {
+                    paths.forEach(path -> {
+                        try {
+                            final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                            sb.append(path).append(':').append(attributes.size()).append(':').append(attributes.lastModifiedTime().toMillis()).append(';');
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                } catch (IOException | UncheckedIOException e) {
+                    sb.append("?");
+                }
+                sb.append('\n');
+            } else {
+                sb.append(file.length()).append(':').append(file.lastModified()).append('\n');
+            }
+        }
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            return new BigInteger(1, digest).toString(16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
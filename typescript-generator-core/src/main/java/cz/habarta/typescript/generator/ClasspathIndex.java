@@ -0,0 +1,65 @@
+
+package cz.habarta.typescript.generator;
+
+import io.github.classgraph.ScanResult;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Index of classes on classpath used to find input classes
+ * (by class name patterns, annotations, implemented interfaces or superclasses).
+ * Default implementation is backed by ClassGraph {@link ScanResult},
+ * {@link PersistentClasspathIndex} reuses class information stored on disk for unchanged jar files.
+ */
+public interface ClasspathIndex {
+
+    /**
+     * Returns names of all standard classes and interfaces (not annotations).
+     */
+    public List<String> getAllClassNames();
+
+    /**
+     * Returns names of classes implementing specified interface (or its subinterface) directly or using superclass
+     * and names of subinterfaces.
+     */
+    public List<String> getClassesImplementing(String interfaceName);
+
+    /**
+     * Returns names of standard classes extending specified class directly or indirectly.
+     */
+    public List<String> getSubclasses(String superclassName);
+
+    /**
+     * Returns names of classes annotated with specified annotation or meta-annotation.
+     */
+    public List<String> getClassesWithAnnotation(String annotationName);
+
+    public static ClasspathIndex of(ScanResult scanResult) {
+        return new ClasspathIndex() {
+            @Override
+            public List<String> getAllClassNames() {
+                final List<String> allClassNames = new ArrayList<>();
+                allClassNames.addAll(scanResult.getAllStandardClasses().getNames());
+                allClassNames.addAll(scanResult.getAllInterfaces().getNames());
+                return allClassNames;
+            }
+
+            @Override
+            public List<String> getClassesImplementing(String interfaceName) {
+                return scanResult.getClassesImplementing(interfaceName).getNames();
+            }
+
+            @Override
+            public List<String> getSubclasses(String superclassName) {
+                return scanResult.getSubclasses(superclassName).getNames();
+            }
+
+            @Override
+            public List<String> getClassesWithAnnotation(String annotationName) {
+                return scanResult.getClassesWithAnnotation(annotationName).getNames();
+            }
+        };
+    }
+
+}
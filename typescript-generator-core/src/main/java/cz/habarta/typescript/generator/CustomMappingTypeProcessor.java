@@ -6,12 +6,16 @@ import cz.habarta.typescript.generator.util.Utils;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 
 public class CustomMappingTypeProcessor implements TypeProcessor {
 
     private final List<Settings.CustomTypeMapping> customMappings;
+    private final Map<Class<?>, Optional<Settings.CustomTypeMapping>> matchingMappings = new ConcurrentHashMap<>();
 
     public CustomMappingTypeProcessor(List<Settings.CustomTypeMapping> customMappings) {
         this.customMappings = customMappings;
@@ -23,13 +27,7 @@ public class CustomMappingTypeProcessor implements TypeProcessor {
         if (rawClass == null) {
             return null;
         }
-        final Settings.CustomTypeMapping mapping = customMappings.stream()
-                .filter(m -> m.matchSubclasses
-                        ? m.rawClass.isAssignableFrom(rawClass)
-                        : m.rawClass.equals(rawClass)
-                )
-                .findFirst()
-                .orElse(null);
+        final Settings.CustomTypeMapping mapping = matchingMappings.computeIfAbsent(rawClass, this::findMatchingMapping).orElse(null);
         if (mapping == null) {
             return null;
         }
@@ -66,4 +64,13 @@ public class CustomMappingTypeProcessor implements TypeProcessor {
         }
     }
 
+    private Optional<Settings.CustomTypeMapping> findMatchingMapping(Class<?> rawClass) {
+        return customMappings.stream()
+                .filter(m -> m.matchSubclasses
+                        ? m.rawClass.isAssignableFrom(rawClass)
+                        : m.rawClass.equals(rawClass)
+                )
+                .findFirst();
+    }
+
 }
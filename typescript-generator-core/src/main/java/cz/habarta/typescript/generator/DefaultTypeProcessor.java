@@ -26,12 +26,14 @@ import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 
 public class DefaultTypeProcessor implements TypeProcessor {
 
     private final LoadedDataLibraries known;
+    private final Map<Class<?>, KnownClass> knownClasses = new ConcurrentHashMap<>();
 
     public DefaultTypeProcessor() {
         this(null);
@@ -41,6 +43,43 @@ public class DefaultTypeProcessor implements TypeProcessor {
         this.known = LoadedDataLibraries.join(getKnownClasses(), dataLibraries);
     }
 
+    /**
+     * Classification of class according to known classes, computed once per class.
+     */
+    private static class KnownClass {
+        public final TsType basicType;
+        public final boolean any;
+        public final Optional<Class<?>> listBaseClass;
+        public final Optional<Class<?>> mapBaseClass;
+        public final Optional<Class<?>> optionalBaseClass;
+        public final Optional<Class<?>> wrapperBaseClass;
+
+        public KnownClass(LoadedDataLibraries known, Class<?> cls) {
+            if (isAssignableFrom(known.stringClasses, cls)) {
+                this.basicType = TsType.String;
+            } else if (isAssignableFrom(known.numberClasses, cls)) {
+                this.basicType = TsType.Number;
+            } else if (isAssignableFrom(known.booleanClasses, cls)) {
+                this.basicType = TsType.Boolean;
+            } else if (isAssignableFrom(known.dateClasses, cls)) {
+                this.basicType = TsType.Date;
+            } else if (isAssignableFrom(known.voidClasses, cls)) {
+                this.basicType = TsType.Void;
+            } else {
+                this.basicType = null;
+            }
+            this.any = isAssignableFrom(known.anyClasses, cls);
+            this.listBaseClass = assignableFrom(known.listClasses, cls);
+            this.mapBaseClass = assignableFrom(known.mapClasses, cls);
+            this.optionalBaseClass = assignableFrom(known.optionalClasses, cls);
+            this.wrapperBaseClass = assignableFrom(known.wrapperClasses, cls);
+        }
+    }
+
+    private KnownClass classify(Class<?> cls) {
+        return knownClasses.computeIfAbsent(cls, c -> new KnownClass(known, c));
+    }
+
     private static boolean isAssignableFrom(List<Class<?>> classes, Class<?> cls) {
         return assignableFrom(classes, cls).isPresent();
     }
@@ -56,20 +95,9 @@ public class DefaultTypeProcessor implements TypeProcessor {
         }
         if (javaType instanceof Class) {
             final Class<?> javaClass = (Class<?>) javaType;
-            if (isAssignableFrom(known.stringClasses, javaClass)) {
-                return new Result(TsType.String);
-            }
-            if (isAssignableFrom(known.numberClasses, javaClass)) {
-                return new Result(TsType.Number);
-            }
-            if (isAssignableFrom(known.booleanClasses, javaClass)) {
-                return new Result(TsType.Boolean);
-            }
-            if (isAssignableFrom(known.dateClasses, javaClass)) {
-                return new Result(TsType.Date);
-            }
-            if (isAssignableFrom(known.voidClasses, javaClass)) {
-                return new Result(TsType.Void);
+            final TsType basicType = classify(javaClass).basicType;
+            if (basicType != null) {
+                return new Result(basicType);
             }
         }
         if (javaType instanceof Class) {
@@ -81,12 +109,12 @@ public class DefaultTypeProcessor implements TypeProcessor {
         }
         if (javaType instanceof Class) {
             final Class<?> javaClass = (Class<?>) javaType;
-            if (isAssignableFrom(known.anyClasses, javaClass)) {
+            if (classify(javaClass).any) {
                 return new Result(TsType.Any);
             }
             if (javaClass.isArray()) {
                 final Result result = context.processTypeInsideCollection(javaClass.getComponentType());
-                return new Result(new TsType.BasicArrayType(result.getTsType()), result.getDiscoveredClasses());
+                return new Result(TsType.intern(new TsType.BasicArrayType(result.getTsType())), result.getDiscoveredClasses());
             }
             if (javaClass.isEnum()) {
                 return new Result(new TsType.EnumReferenceType(context.getSymbol(javaClass)), javaClass);
@@ -136,7 +164,7 @@ public class DefaultTypeProcessor implements TypeProcessor {
         if (javaType instanceof GenericArrayType) {
             final GenericArrayType genericArrayType = (GenericArrayType) javaType;
             final Result result = context.processTypeInsideCollection(genericArrayType.getGenericComponentType());
-            return new Result(new TsType.BasicArrayType(result.getTsType()), result.getDiscoveredClasses());
+            return new Result(TsType.intern(new TsType.BasicArrayType(result.getTsType())), result.getDiscoveredClasses());
         }
         if (javaType instanceof TypeVariable) {
             final TypeVariable<?> typeVariable = (TypeVariable<?>) javaType;
@@ -171,7 +199,7 @@ public class DefaultTypeProcessor implements TypeProcessor {
             final JTypeWithNullability typeWithNullability = (JTypeWithNullability) javaType;
             final Result result = context.processType(typeWithNullability.getType());
             return new Result(
-                    typeWithNullability.isNullable() ? new TsType.NullableType(result.getTsType()) : result.getTsType(),
+                    typeWithNullability.isNullable() ? TsType.intern(new TsType.NullableType(result.getTsType())) : result.getTsType(),
                     result.getDiscoveredClasses()
             );
         }
@@ -180,14 +208,14 @@ public class DefaultTypeProcessor implements TypeProcessor {
 
     private Result processKnownGenericType(Type javaType, Class<?> rawClass, Context context) {
 
-        final Optional<Class<?>> listBaseClass = assignableFrom(known.listClasses, rawClass);
+        final Optional<Class<?>> listBaseClass = classify(rawClass).listBaseClass;
         if (listBaseClass.isPresent()) {
             final List<Type> resolvedGenericVariables = GenericsResolver.resolveBaseGenericVariables(listBaseClass.get(), javaType);
             final Result result = context.processTypeInsideCollection(resolvedGenericVariables.get(0));
-            return new Result(new TsType.BasicArrayType(result.getTsType()), result.getDiscoveredClasses());
+            return new Result(TsType.intern(new TsType.BasicArrayType(result.getTsType())), result.getDiscoveredClasses());
         }
 
-        final Optional<Class<?>> mapBaseClass = assignableFrom(known.mapClasses, rawClass);
+        final Optional<Class<?>> mapBaseClass = classify(rawClass).mapBaseClass;
         if (mapBaseClass.isPresent()) {
             final List<Type> resolvedGenericVariables = GenericsResolver.resolveBaseGenericVariables(mapBaseClass.get(), javaType);
             final Result keyResult = context.processType(resolvedGenericVariables.get(0));
@@ -206,14 +234,14 @@ public class DefaultTypeProcessor implements TypeProcessor {
             }
         }
 
-        final Optional<Class<?>> optionalBaseClass = assignableFrom(known.optionalClasses, rawClass);
+        final Optional<Class<?>> optionalBaseClass = classify(rawClass).optionalBaseClass;
         if (optionalBaseClass.isPresent()) {
             final List<Type> resolvedGenericVariables = GenericsResolver.resolveBaseGenericVariables(optionalBaseClass.get(), javaType);
             final Result result = context.processType(resolvedGenericVariables.get(0));
             return new Result(result.getTsType().optional(), result.getDiscoveredClasses());
         }
 
-        final Optional<Class<?>> wrapperBaseClass = assignableFrom(known.wrapperClasses, rawClass);
+        final Optional<Class<?>> wrapperBaseClass = classify(rawClass).wrapperBaseClass;
         if (wrapperBaseClass.isPresent()) {
             final List<Type> resolvedGenericVariables = GenericsResolver.resolveBaseGenericVariables(wrapperBaseClass.get(), javaType);
             final Result result = context.processType(resolvedGenericVariables.get(0));
@@ -0,0 +1,293 @@
+
+package cz.habarta.typescript.generator;
+
+import cz.habarta.typescript.generator.parser.BeanModel;
+import cz.habarta.typescript.generator.parser.DeclarationModel;
+import cz.habarta.typescript.generator.parser.Model;
+import cz.habarta.typescript.generator.parser.RestApplicationModel;
+import cz.habarta.typescript.generator.parser.RestMethodModel;
+import cz.habarta.typescript.generator.parser.SourceType;
+import cz.habarta.typescript.generator.util.Utils;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+
+/**
+ * On-disk cache which allows to skip generation when nothing changed since the last run.
+ * Cache entry contains typescript-generator version, fingerprint of {@link Settings}, input types,
+ * content hashes of class files of all classes from parsed model (and their supertypes) and hashes of output files.
+ */
+public class GenerationCache {
+
+    private final File cacheFile;
+    private final Settings settings;
+
+    public GenerationCache(File cacheFile, Settings settings) {
+        this.cacheFile = Objects.requireNonNull(cacheFile, "cacheFile");
+        this.settings = Objects.requireNonNull(settings, "settings");
+    }
+
+    public static class Entry {
+        public String version;
+        public String settingsFingerprint;
+        public List<String> inputTypes;
+        public Map<String, String> classHashes;
+        public Map<String, String> outputFileHashes;
+    }
+
+    /**
+     * Returns true if the cache entry matches current version, settings, input types, class files and output files.
+     */
+    public boolean isUpToDate(Input input) {
+        final Entry entry = load();
+        if (entry == null) {
+            TypeScriptGenerator.getLogger().info("Generation cache miss: no cache entry found in '" + cacheFile + "'");
+            return false;
+        }
+        if (!Objects.equals(entry.version, TypeScriptGenerator.Version)) {
+            return invalidated("typescript-generator version changed");
+        }
+        if (!Objects.equals(entry.settingsFingerprint, getSettingsFingerprint(settings))) {
+            return invalidated("settings changed");
+        }
+        if (!Objects.equals(entry.inputTypes, getInputTypes(input))) {
+            return invalidated("input classes changed");
+        }
+        if (entry.classHashes == null || entry.outputFileHashes == null) {
+            return invalidated("cache entry is incomplete");
+        }
+        for (Map.Entry<String, String> classHash : entry.classHashes.entrySet()) {
+            if (!Objects.equals(classHash.getValue(), hashClassFile(classHash.getKey()))) {
+                return invalidated("class '" + classHash.getKey() + "' changed");
+            }
+        }
+        for (Map.Entry<String, String> outputFileHash : entry.outputFileHashes.entrySet()) {
+            if (!Objects.equals(outputFileHash.getValue(), hashFile(new File(outputFileHash.getKey())))) {
+                return invalidated("output file '" + outputFileHash.getKey() + "' was modified or deleted");
+            }
+        }
+        TypeScriptGenerator.getLogger().info(String.format("Generation cache hit: %d classes unchanged, output is up to date", entry.classHashes.size()));
+        return true;
+    }
+
+    private static boolean invalidated(String reason) {
+        TypeScriptGenerator.getLogger().info("Generation cache invalidated: " + reason);
+        return false;
+    }
+
+    public void store(Input input, Model model, List<File> outputFiles) {
+        final Entry entry = new Entry();
+        entry.version = TypeScriptGenerator.Version;
+        entry.settingsFingerprint = getSettingsFingerprint(settings);
+        entry.inputTypes = getInputTypes(input);
+        entry.classHashes = new TreeMap<>();
+        for (Class<?> cls : getModelClasses(model)) {
+            final String hash = hashClassFile(cls.getName());
+            if (hash != null) {
+                entry.classHashes.put(cls.getName(), hash);
+            }
+        }
+        entry.outputFileHashes = new TreeMap<>();
+        for (File outputFile : outputFiles) {
+            entry.outputFileHashes.put(outputFile.getPath(), hashFile(outputFile));
+        }
+        try {
+            cacheFile.getAbsoluteFile().getParentFile().mkdirs();
+            Utils.getObjectMapper().writeValue(cacheFile, entry);
+            TypeScriptGenerator.getLogger().verbose(String.format("Generation cache updated with %d classes: %s", entry.classHashes.size(), cacheFile));
+        } catch (IOException e) {
+            TypeScriptGenerator.getLogger().warning("Cannot write generation cache: " + e.getMessage());
+        }
+    }
+
+    private Entry load() {
+        if (!cacheFile.isFile()) {
+            return null;
+        }
+        try {
+            return Utils.getObjectMapper().readValue(cacheFile, Entry.class);
+        } catch (IOException e) {
+            TypeScriptGenerator.getLogger().warning("Cannot read generation cache: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static List<String> getInputTypes(Input input) {
+        return input.getSourceTypes().stream()
+                .map(sourceType -> sourceType.type.getTypeName())
+                .collect(Collectors.toList());
+    }
+
+    private static Set<Class<?>> getModelClasses(Model model) {
+        final Set<Class<?>> classes = new LinkedHashSet<>();
+        final List<Class<?>> origins = new ArrayList<>();
+        model.getBeans().stream().map(DeclarationModel::getOrigin).forEach(origins::add);
+        model.getEnums().stream().map(DeclarationModel::getOrigin).forEach(origins::add);
+        model.getBeans().stream().map(BeanModel::getParent).filter(Objects::nonNull).map(Utils::getRawClassOrNull).forEach(origins::add);
+        if (model.getRestApplications() != null) {
+            for (RestApplicationModel restApplication : model.getRestApplications()) {
+                for (RestMethodModel method : restApplication.getMethods()) {
+                    origins.add(method.getOriginClass());
+                    origins.add(method.getRootResource());
+                }
+            }
+        }
+        for (Class<?> origin : origins) {
+            if (origin != null) {
+                addClassWithSupertypes(origin, classes);
+            }
+        }
+        return classes;
+    }
+
+    private static void addClassWithSupertypes(Class<?> cls, Set<Class<?>> classes) {
+        if (cls == null || cls.getClassLoader() == null || !classes.add(cls)) {
+            return;
+        }
+        addClassWithSupertypes(cls.getSuperclass(), classes);
+        for (Class<?> interfaceClass : cls.getInterfaces()) {
+            addClassWithSupertypes(interfaceClass, classes);
+        }
+        addClassWithSupertypes(cls.getEnclosingClass(), classes);
+    }
+
+    private String hashClassFile(String className) {
+        final ClassLoader classLoader = settings.classLoader != null ? settings.classLoader : Thread.currentThread().getContextClassLoader();
+        try (InputStream inputStream = classLoader.getResourceAsStream(className.replace('.', '/') + ".class")) {
+            if (inputStream == null) {
+                return null;
+            }
+            final MessageDigest digest = createDigest();
+            final byte[] buffer = new byte[8192];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, length);
+            }
+            return toHex(digest.digest());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String hashFile(File file) {
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            return toHex(createDigest().digest(Files.readAllBytes(file.toPath())));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Computes fingerprint of all public fields of {@link Settings} and configuration stored in its non-public fields.
+     * Values of simple types, collections and maps are included,
+     * objects from typescript-generator packages (for example configurations and extensions) are described using their public fields
+     * and other objects are described by their class names.
+     * Content of Javadoc XML files is also included.
+     */
+    static String getSettingsFingerprint(Settings settings) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(System.getProperty("java.version")).append('\n');
+        describePublicFields(settings, sb, 0);
+        sb.append('\n');
+        describe(settings.getNonPublicConfiguration(), sb, 1);
+        if (settings.javadocXmlFiles != null) {
+            for (File javadocXmlFile : settings.javadocXmlFiles) {
+                sb.append('\n').append(javadocXmlFile.getPath()).append('=').append(hashFile(javadocXmlFile));
+            }
+        }
+        return toHex(createDigest().digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void describePublicFields(Object object, StringBuilder sb, int depth) {
+        final List<Field> fields = Utils.getAllFields(object.getClass()).stream()
+                .filter(field -> Modifier.isPublic(field.getModifiers()) && !Modifier.isStatic(field.getModifiers()))
+                .filter(field -> !ClassLoader.class.isAssignableFrom(field.getType()))
+                .filter(field -> !GenerationMetrics.Listener.class.isAssignableFrom(field.getType()))
+                .collect(Collectors.toList());
+        sb.append(object.getClass().getName()).append('{');
+        for (Field field : fields) {
+            try {
+                sb.append(field.getName()).append('=');
+                describe(field.get(object), sb, depth + 1);
+                sb.append(';');
+            } catch (IllegalAccessException e) {
+                // skip
+            }
+        }
+        sb.append('}');
+    }
+
+    private static void describe(Object value, StringBuilder sb, int depth) {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum) {
+            sb.append(value);
+        } else if (value instanceof Class) {
+            sb.append(((Class<?>) value).getName());
+        } else if (value instanceof Type) {
+            sb.append(((Type) value).getTypeName());
+        } else if (value instanceof File) {
+            sb.append(((File) value).getPath());
+        } else if (value instanceof Pattern) {
+            sb.append(((Pattern) value).pattern());
+        } else if (value instanceof Collection) {
+            sb.append('[');
+            for (Object item : (Collection<?>) value) {
+                describe(item, sb, depth);
+                sb.append(',');
+            }
+            sb.append(']');
+        } else if (value instanceof Map) {
+            sb.append('{');
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                describe(entry.getKey(), sb, depth);
+                sb.append(':');
+                describe(entry.getValue(), sb, depth);
+                sb.append(',');
+            }
+            sb.append('}');
+        } else if (value instanceof SourceType) {
+            describe(((SourceType<?>) value).type, sb, depth);
+        } else if (depth < 5 && value.getClass().getName().startsWith("cz.habarta.typescript.generator.")) {
+            describePublicFields(value, sb, depth);
+        } else {
+            sb.append(value.getClass().getName());
+        }
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        final StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b & 0xFF));
+        }
+        return sb.toString();
+    }
+
+}
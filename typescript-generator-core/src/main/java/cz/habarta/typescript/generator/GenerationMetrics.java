@@ -0,0 +1,125 @@
+
+package cz.habarta.typescript.generator;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+
+/**
+ * Collects wall time, allocated bytes and item counts of individual generation stages
+ * (classpath scanning, parsing, model enrichers, model compiler transformations, extension transformers and emission).
+ * Allocated bytes are measured for the generating thread only (when supported by JVM),
+ * work done on other threads (for example parallel parsing) is not included.
+ */
+public class GenerationMetrics {
+
+    private static final com.sun.management.ThreadMXBean threadMXBean = getThreadMXBean();
+
+    private final Listener listener;
+    private final List<Stage> stages = new ArrayList<>();
+
+    public interface Listener {
+        public void stageFinished(Stage stage);
+    }
+
+    public static class Stage {
+        public String name;
+        public double timeMillis;
+        public Long allocatedBytes;
+        public Integer itemCount;
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder();
+            sb.append(String.format("%s: %.2f ms", name, timeMillis));
+            if (itemCount != null) {
+                sb.append(String.format(", %d items", itemCount));
+            }
+            if (allocatedBytes != null) {
+                sb.append(String.format(", %.2f MB allocated", allocatedBytes / (1024.0 * 1024.0)));
+            }
+            return sb.toString();
+        }
+    }
+
+    public static class Report {
+        public String typescriptGeneratorVersion;
+        public double totalTimeMillis;
+        public List<Stage> stages;
+    }
+
+    public GenerationMetrics(Listener listener) {
+        this.listener = listener;
+    }
+
+    public <T> T measure(String name, Supplier<T> action, ToIntFunction<? super T> itemCounter) {
+        final long allocatedStart = getAllocatedBytes();
+        final long start = System.nanoTime();
+        final T result = action.get();
+        final long end = System.nanoTime();
+        final long allocatedEnd = getAllocatedBytes();
+        final Stage stage = new Stage();
+        stage.name = name;
+        stage.timeMillis = (end - start) / 1_000_000.0;
+        stage.allocatedBytes = allocatedStart >= 0 && allocatedEnd >= 0 ? allocatedEnd - allocatedStart : null;
+        stage.itemCount = itemCounter != null ? itemCounter.applyAsInt(result) : null;
+        addStage(stage);
+        return result;
+    }
+
+    public <T> T measure(String name, T input, UnaryOperator<T> transformation, ToIntFunction<? super T> itemCounter) {
+        return measure(name, () -> transformation.apply(input), itemCounter);
+    }
+
+    public void measure(String name, Runnable action) {
+        measure(name, () -> {
+            action.run();
+            return null;
+        }, null);
+    }
+
+    public void addStage(Stage stage) {
+        stages.add(stage);
+        if (listener != null) {
+            listener.stageFinished(stage);
+        }
+    }
+
+    public List<Stage> getStages() {
+        return Collections.unmodifiableList(stages);
+    }
+
+    public Report getReport() {
+        final Report report = new Report();
+        report.typescriptGeneratorVersion = TypeScriptGenerator.Version;
+        report.totalTimeMillis = stages.stream().mapToDouble(stage -> stage.timeMillis).sum();
+        report.stages = new ArrayList<>(stages);
+        return report;
+    }
+
+    private static long getAllocatedBytes() {
+        return threadMXBean != null ? threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        try {
+            final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                final com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+                if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+                    return sunBean;
+                }
+            }
+            return null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+}
@@ -2,10 +2,13 @@
 package cz.habarta.typescript.generator;
 
 import cz.habarta.typescript.generator.parser.SourceType;
-import cz.habarta.typescript.generator.util.Utils;
+import cz.habarta.typescript.generator.util.GlobMatcher;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
+import java.io.File;
 import java.lang.reflect.Type;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -14,22 +17,35 @@ import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 public class Input {
 
     private final List<SourceType<Type>> sourceTypes;
+    private final List<GenerationMetrics.Stage> metrics;
 
     private Input(List<SourceType<Type>> sourceTypes) {
+        this(sourceTypes, Collections.emptyList());
+    }
+
+    private Input(List<SourceType<Type>> sourceTypes, List<GenerationMetrics.Stage> metrics) {
         this.sourceTypes = sourceTypes;
+        this.metrics = metrics;
     }
 
     public List<SourceType<Type>> getSourceTypes() {
         return sourceTypes;
     }
 
+    /**
+     * Returns metrics of stages performed when creating this input (classpath scanning).
+     */
+    public List<GenerationMetrics.Stage> getMetrics() {
+        return metrics;
+    }
+
     public static Input from(Type... types) {
         Objects.requireNonNull(types, "types");
         final List<SourceType<Type>> sourceTypes = new ArrayList<>();
@@ -50,45 +66,52 @@ public class Input {
         public Predicate<String> isClassNameExcluded;
         public URLClassLoader classLoader;
         public List<String> scanningAcceptedPackages;
+        public File classpathIndexDirectory;
         public boolean debug;
     }
 
     public static Input from(Parameters parameters) {
+        final GenerationMetrics metrics = new GenerationMetrics(null);
+        final List<SourceType<Type>> types = metrics.measure("scanning", () -> findSourceTypes(parameters), List::size);
+        return new Input(types, metrics.getStages());
+    }
+
+    private static List<SourceType<Type>> findSourceTypes(Parameters parameters) {
         final ClassLoader originalContextClassLoader = Thread.currentThread().getContextClassLoader();
         try {
             if (parameters.classLoader != null) {
                 Thread.currentThread().setContextClassLoader(parameters.classLoader);
             }
-            try (final ClasspathScanner classpathScanner = new ClasspathScanner(parameters.classLoader, parameters.scanningAcceptedPackages, parameters.debug)) {
+            try (final ClasspathScanner classpathScanner = new ClasspathScanner(parameters.classLoader, parameters.scanningAcceptedPackages, parameters.classpathIndexDirectory, parameters.debug)) {
                 final List<SourceType<Type>> types = new ArrayList<>();
                 if (parameters.classNames != null) {
                     types.addAll(fromClassNames(parameters.classNames));
                 }
                 if (parameters.classNamePatterns != null) {
-                    types.addAll(fromClassNamePatterns(classpathScanner.getScanResult(), parameters.classNamePatterns));
+                    types.addAll(fromClassNamePatterns(classpathScanner.getIndex(), parameters.classNamePatterns));
                 }
                 if (parameters.classesImplementingInterfaces != null) {
-                    final ScanResult scanResult = classpathScanner.getScanResult();
+                    final ClasspathIndex index = classpathScanner.getIndex();
                     final List<SourceType<Type>> c = fromClassNames(parameters.classesImplementingInterfaces.stream()
-                            .flatMap(interf -> scanResult.getClassesImplementing(interf).getNames().stream())
+                            .flatMap(interf -> index.getClassesImplementing(interf).stream())
                             .distinct()
                             .collect(Collectors.toList())
                     );
                     types.addAll(c);
                 }
                 if (parameters.classesExtendingClasses != null) {
-                    final ScanResult scanResult = classpathScanner.getScanResult();
+                    final ClasspathIndex index = classpathScanner.getIndex();
                     final List<SourceType<Type>> c = fromClassNames(parameters.classesExtendingClasses.stream()
-                            .flatMap(superclass -> scanResult.getSubclasses(superclass).getNames().stream())
+                            .flatMap(superclass -> index.getSubclasses(superclass).stream())
                             .distinct()
                             .collect(Collectors.toList())
                     );
                     types.addAll(c);
                 }
                 if (parameters.classesWithAnnotations != null) {
-                    final ScanResult scanResult = classpathScanner.getScanResult();
+                    final ClasspathIndex index = classpathScanner.getIndex();
                     types.addAll(fromClassNames(parameters.classesWithAnnotations.stream()
-                            .flatMap(annotation -> scanResult.getClassesWithAnnotation(annotation).getNames().stream())
+                            .flatMap(annotation -> index.getClassesWithAnnotation(annotation).stream())
                             .distinct()
                             .collect(Collectors.toList())
                     ));
@@ -97,14 +120,14 @@ public class Input {
                     types.addAll(fromClassNames(Arrays.asList(parameters.jaxrsApplicationClassName)));
                 }
                 if (parameters.automaticJaxrsApplication) {
-                    types.addAll(JaxrsApplicationScanner.scanAutomaticJaxrsApplication(classpathScanner.getScanResult(), parameters.isClassNameExcluded));
+                    types.addAll(JaxrsApplicationScanner.scanAutomaticJaxrsApplication(classpathScanner.getIndex(), parameters.isClassNameExcluded));
                 }
                 if (types.isEmpty()) {
                     final String errorMessage = "No input classes found.";
                     TypeScriptGenerator.getLogger().error(errorMessage);
                     throw new RuntimeException(errorMessage);
                 }
-                return new Input(types);
+                return types;
             }
         } finally {
             Thread.currentThread().setContextClassLoader(originalContextClassLoader);
@@ -115,55 +138,101 @@ public class Input {
 
         private final URLClassLoader classLoader;
         private final List<String> acceptedPackages;
+        private final File indexDirectory;
         private final boolean verbose;
         private ScanResult scanResult = null;
+        private boolean scanResultCached = false;
+        private ClasspathIndex index = null;
 
-        public ClasspathScanner(URLClassLoader classLoader, List<String> acceptedPackages, boolean verbose) {
+        public ClasspathScanner(URLClassLoader classLoader, List<String> acceptedPackages, File indexDirectory, boolean verbose) {
             this.classLoader = classLoader;
             this.acceptedPackages = acceptedPackages;
+            this.indexDirectory = indexDirectory;
             this.verbose = verbose;
         }
 
+        public ClasspathIndex getIndex() {
+            if (index == null) {
+                index = indexDirectory != null
+                        ? loadPersistentIndex()
+                        : ClasspathIndex.of(getScanResult());
+            }
+            return index;
+        }
+
+        private PersistentClasspathIndex loadPersistentIndex() {
+            TypeScriptGenerator.getLogger().info("Scanning classpath using index in: " + indexDirectory);
+            final Date scanStart = new Date();
+            final List<File> classpath = classLoader != null
+                    ? Stream.of(ClassLoaderCache.getClasspath(classLoader)).map(Input::toFile).filter(Objects::nonNull).collect(Collectors.toList())
+                    : new ClassGraph().getClasspathFiles();
+            final PersistentClasspathIndex result = PersistentClasspathIndex.load(indexDirectory, classpath, acceptedPackages);
+            final Date scanEnd = new Date();
+            final double timeInSeconds = (scanEnd.getTime() - scanStart.getTime()) / 1000.0;
+            final int indexed = result.getIndexHits() + result.getIndexMisses();
+            TypeScriptGenerator.getLogger().info(String.format("Scanning finished in %.2f seconds. Total number of classes: %d. Index hit rate: %d of %d jar files (%.0f%%).",
+                    timeInSeconds, result.getClassCount(), result.getIndexHits(), indexed, indexed > 0 ? 100.0 * result.getIndexHits() / indexed : 100.0));
+            return result;
+        }
+
         public ScanResult getScanResult() {
-            if (scanResult == null) {
-                TypeScriptGenerator.getLogger().info("Scanning classpath");
-                final Date scanStart = new Date();
-                ClassGraph classGraph = new ClassGraph()
-                        .enableClassInfo()
-                        .enableAnnotationInfo()
-                        .ignoreClassVisibility();
-                if (classLoader != null) {
-                    classGraph = classGraph.overrideClasspath((Object[])classLoader.getURLs());
-                }
-                if (acceptedPackages != null && !acceptedPackages.isEmpty()) {
-                    classGraph = classGraph.acceptPackages(acceptedPackages.toArray(new String[0]));
+            if (scanResult == null && classLoader != null) {
+                final ScanResult cachedScanResult = ClassLoaderCache.getScanResult(classLoader, acceptedPackages, this::scan);
+                if (cachedScanResult != null) {
+                    scanResultCached = true;
+                    scanResult = cachedScanResult;
                 }
-                if (verbose) {
-                    classGraph = classGraph.verbose();
-                }
-                final ScanResult result = classGraph.scan();
-                final int count = result.getAllClasses().size();
-                final Date scanEnd = new Date();
-                final double timeInSeconds = (scanEnd.getTime() - scanStart.getTime()) / 1000.0;
-                TypeScriptGenerator.getLogger().info(String.format("Scanning finished in %.2f seconds. Total number of classes: %d.", timeInSeconds, count));
-                scanResult = result;
+            }
+            if (scanResult == null) {
+                scanResult = scan();
             }
             return scanResult;
         }
 
+        private ScanResult scan() {
+            TypeScriptGenerator.getLogger().info("Scanning classpath");
+            final Date scanStart = new Date();
+            ClassGraph classGraph = new ClassGraph()
+                    .enableClassInfo()
+                    .enableAnnotationInfo()
+                    .ignoreClassVisibility();
+            if (classLoader != null) {
+                classGraph = classGraph.overrideClasspath((Object[])ClassLoaderCache.getClasspath(classLoader));
+            }
+            if (acceptedPackages != null && !acceptedPackages.isEmpty()) {
+                classGraph = classGraph.acceptPackages(acceptedPackages.toArray(new String[0]));
+            }
+            if (verbose) {
+                classGraph = classGraph.verbose();
+            }
+            final ScanResult result = classGraph.scan();
+            final int count = result.getAllClasses().size();
+            final Date scanEnd = new Date();
+            final double timeInSeconds = (scanEnd.getTime() - scanStart.getTime()) / 1000.0;
+            TypeScriptGenerator.getLogger().info(String.format("Scanning finished in %.2f seconds. Total number of classes: %d.", timeInSeconds, count));
+            return result;
+        }
+
         @Override
         public void close() {
-            if (scanResult != null) {
+            // cached scan result is closed by ClassLoaderCache
+            if (scanResult != null && !scanResultCached) {
                 scanResult.close();
             }
         }
 
     }
 
-    private static List<SourceType<Type>> fromClassNamePatterns(ScanResult scanResult, List<String> classNamePatterns) {
-        final List<String> allClassNames = new ArrayList<>();
-        allClassNames.addAll(scanResult.getAllStandardClasses().getNames());
-        allClassNames.addAll(scanResult.getAllInterfaces().getNames());
+    private static File toFile(URL url) {
+        try {
+            return "file".equals(url.getProtocol()) ? new File(url.toURI()) : null;
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    private static List<SourceType<Type>> fromClassNamePatterns(ClasspathIndex index, List<String> classNamePatterns) {
+        final List<String> allClassNames = new ArrayList<>(index.getAllClassNames());
         Collections.sort(allClassNames);
         final List<String> classNames = filterClassNames(allClassNames, classNamePatterns);
         TypeScriptGenerator.getLogger().info(String.format("Found %d classes matching pattern.", classNames.size()));
@@ -198,10 +267,10 @@ public class Input {
     }
 
     static List<String> filterClassNames(List<String> classNames, List<String> globs) {
-        final List<Pattern> regexps = Utils.globsToRegexps(globs);
+        final GlobMatcher matcher = new GlobMatcher(globs);
         final List<String> result = new ArrayList<>();
         for (String className : classNames) {
-            if (Utils.classNameMatches(className, regexps)) {
+            if (matcher.matches(className)) {
                 result.add(className);
             }
         }
@@ -46,9 +46,13 @@ public class JaxrsApplicationScanner {
     }
 
     public static List<SourceType<Type>> scanAutomaticJaxrsApplication(ScanResult scanResult, Predicate<String> isClassNameExcluded) {
+        return scanAutomaticJaxrsApplication(ClasspathIndex.of(scanResult), isClassNameExcluded);
+    }
+
+    public static List<SourceType<Type>> scanAutomaticJaxrsApplication(ClasspathIndex index, Predicate<String> isClassNameExcluded) {
         final List<String> namesOfResourceClasses = Utils.concat(
-                scanResult.getClassesWithAnnotation(jakarta.ws.rs.Path.class.getName()).getNames(),
-                scanResult.getClassesWithAnnotation(javax.ws.rs.Path.class.getName()).getNames()
+                index.getClassesWithAnnotation(jakarta.ws.rs.Path.class.getName()),
+                index.getClassesWithAnnotation(javax.ws.rs.Path.class.getName())
         );
         final List<Class<?>> resourceClasses = Input.loadClasses(namesOfResourceClasses);
         TypeScriptGenerator.getLogger().info(String.format("Found %d root resources.", resourceClasses.size()));
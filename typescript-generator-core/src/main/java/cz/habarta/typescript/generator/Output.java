@@ -1,31 +1,83 @@
 
 package cz.habarta.typescript.generator;
 
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
+import java.io.FilterWriter;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Reader;
 import java.io.Writer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ThreadLocalRandom;
 
 
 public class Output {
 
-    private final Writer writer;
+    private Writer writer;
+    private AtomicFileWriter atomicFileWriter;
+    private final File file;
+    private final boolean atomic;
+    private final boolean onlyIfChanged;
     private final String name;
     private final boolean closeWriter;
 
     private Output(Writer writer, String name, boolean closeWriter) {
         this.writer = writer;
+        this.file = null;
+        this.atomic = false;
+        this.onlyIfChanged = false;
         this.name = name;
         this.closeWriter = closeWriter;
     }
 
+    private Output(File file, boolean atomic, boolean onlyIfChanged) {
+        this.writer = null;
+        this.file = file;
+        this.atomic = atomic;
+        this.onlyIfChanged = onlyIfChanged;
+        this.name = file.toString();
+        this.closeWriter = true;
+    }
+
+    /**
+     * Returns writer for this output.
+     * For file output the file is opened when this method is called for the first time.
+     */
     public Writer getWriter() {
+        if (writer == null && file != null) {
+            writer = createFileWriter(file, atomic, onlyIfChanged);
+        }
         return writer;
     }
 
+    /**
+     * Releases the writer after failed generation without completing the output.
+     * For atomic output the temporary file is deleted and target file is left unchanged.
+     * Writers which were not opened by this output are left open.
+     */
+    public void discard() {
+        if (atomicFileWriter != null) {
+            atomicFileWriter.discard();
+        } else if (writer != null && file != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                TypeScriptGenerator.getLogger().verbose("Cannot close output file: " + file);
+            }
+        }
+    }
+
     public String getName() {
         return name;
     }
@@ -35,10 +87,37 @@ public class Output {
     }
 
     public static Output to(File file) {
+        return to(file, false);
+    }
+
+    /**
+     * Creates buffered output to the specified file.
+     * @param atomic if <code>true</code> content is written to temporary file which replaces target file when the writer is closed,
+     *      so the target file is never seen half-written (for example by file watchers)
+     */
+    public static Output to(File file, boolean atomic) {
+        return to(file, atomic, false);
+    }
+
+    /**
+     * Creates buffered output to the specified file.
+     * @param atomic see {@link #to(File, boolean)}
+     * @param onlyIfChanged if <code>true</code> content is written to temporary file and target file is replaced only if its content is different
+     *      (ignoring generation timestamp in file comment), so unchanged files keep their modification time
+     */
+    public static Output to(File file, boolean atomic, boolean onlyIfChanged) {
+        return new Output(file, atomic, onlyIfChanged);
+    }
+
+    private Writer createFileWriter(File file, boolean atomic, boolean onlyIfChanged) {
         try {
             file.getParentFile().mkdirs();
-            return new Output(new OutputStreamWriter(new FileOutputStream(file), Charset.forName("UTF-8")), file.toString(), true);
-        } catch (FileNotFoundException e) {
+            if (atomic || onlyIfChanged) {
+                atomicFileWriter = new AtomicFileWriter(file.toPath(), onlyIfChanged);
+                return new BufferedWriter(atomicFileWriter);
+            }
+            return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), Charset.forName("UTF-8")));
+        } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
@@ -51,4 +130,193 @@ public class Output {
         return new Output(writer, null, false);
     }
 
+    /**
+     * Returns true if the file exists and its content is the same as specified content (ignoring generation timestamp in file comment).
+     */
+    public static boolean isContentUnchanged(File file, String content) {
+        final ContentDigest digest = new ContentDigest();
+        digest.update(content.toCharArray(), 0, content.length());
+        return isContentUnchanged(file.toPath(), digest);
+    }
+
+    private static boolean isContentUnchanged(Path file, ContentDigest contentDigest) {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        final ContentDigest fileDigest = new ContentDigest();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            final char[] buffer = new char[8192];
+            int length;
+            while ((length = reader.read(buffer)) != -1) {
+                fileDigest.update(buffer, 0, length);
+            }
+        } catch (IOException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(fileDigest.digest(), contentDigest.digest());
+    }
+
+    /**
+     * SHA-256 digest of text content computed line by line.
+     * Timestamp is removed from the line with generation timestamp so it doesn't change the digest.
+     */
+    private static class ContentDigest {
+
+        private static final String FILE_COMMENT_PREFIX = "// Generated using typescript-generator version ";
+
+        private final MessageDigest digest;
+        private final StringBuilder line = new StringBuilder();
+
+        public ContentDigest() {
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        public void update(char[] chars, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                update(chars[i]);
+            }
+        }
+
+        public void update(char c) {
+            line.append(c);
+            if (c == '\n') {
+                updateLine();
+            }
+        }
+
+        private void updateLine() {
+            String lineString = line.toString();
+            if (lineString.startsWith(FILE_COMMENT_PREFIX)) {
+                final int timestampIndex = lineString.indexOf(" on ", FILE_COMMENT_PREFIX.length());
+                if (timestampIndex != -1) {
+                    lineString = lineString.substring(0, timestampIndex);
+                }
+            }
+            digest.update(lineString.getBytes(StandardCharsets.UTF_8));
+            line.setLength(0);
+        }
+
+        public byte[] digest() {
+            updateLine();
+            return digest.digest();
+        }
+
+    }
+
+    private static class AtomicFileWriter extends FilterWriter {
+
+        private final Path temporaryFile;
+        private final Path targetFile;
+        private final ContentDigest contentDigest;
+        private boolean closed = false;
+
+        public AtomicFileWriter(Path targetFile, boolean onlyIfChanged) throws IOException {
+            this(createTemporaryFile(targetFile), targetFile, onlyIfChanged);
+        }
+
+        /**
+         * Creates temporary file next to the target file.
+         * Unlike {@link Files#createTempFile} the file is created with default permissions
+         * or with permissions of existing target file, so the permissions are not changed when the target file is replaced.
+         */
+        private static Path createTemporaryFile(Path targetFile) throws IOException {
+            final Path directory = targetFile.toAbsolutePath().getParent();
+            while (true) {
+                final Path temporaryFile = directory.resolve("." + targetFile.getFileName() + "." + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+                try {
+                    Files.createFile(temporaryFile);
+                } catch (FileAlreadyExistsException e) {
+                    continue;
+                }
+                if (Files.exists(targetFile)) {
+                    try {
+                        Files.setPosixFilePermissions(temporaryFile, Files.getPosixFilePermissions(targetFile));
+                    } catch (UnsupportedOperationException e) {
+                        // not POSIX file system
+                    }
+                }
+                return temporaryFile;
+            }
+        }
+
+        private AtomicFileWriter(Path temporaryFile, Path targetFile, boolean onlyIfChanged) throws IOException {
+            super(new OutputStreamWriter(Files.newOutputStream(temporaryFile), Charset.forName("UTF-8")));
+            this.temporaryFile = temporaryFile;
+            this.targetFile = targetFile;
+            this.contentDigest = onlyIfChanged ? new ContentDigest() : null;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            super.write(c);
+            if (contentDigest != null) {
+                contentDigest.update((char) c);
+            }
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            super.write(cbuf, off, len);
+            if (contentDigest != null) {
+                contentDigest.update(cbuf, off, len);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            super.write(str, off, len);
+            if (contentDigest != null) {
+                for (int i = off; i < off + len; i++) {
+                    contentDigest.update(str.charAt(i));
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+                if (contentDigest != null && isContentUnchanged(targetFile, contentDigest)) {
+                    TypeScriptGenerator.getLogger().verbose("Output file is up to date: " + targetFile);
+                    Files.delete(temporaryFile);
+                    return;
+                }
+                try {
+                    Files.move(temporaryFile, targetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporaryFile, targetFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(temporaryFile);
+                throw e;
+            }
+        }
+
+        public void discard() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+            } catch (IOException e) {
+                // file is deleted anyway
+            }
+            try {
+                Files.deleteIfExists(temporaryFile);
+            } catch (IOException e) {
+                TypeScriptGenerator.getLogger().warning("Cannot delete temporary file: " + temporaryFile);
+            }
+        }
+
+    }
+
 }
@@ -0,0 +1,317 @@
+
+package cz.habarta.typescript.generator;
+
+import cz.habarta.typescript.generator.util.Utils;
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ClassInfo;
+import io.github.classgraph.ScanResult;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Inherited;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+
+/**
+ * {@link ClasspathIndex} built from class records of individual classpath entries.
+ * Records of jar files are stored in index directory in files named by SHA-256 hash of jar content
+ * so each jar is scanned only once (the index directory can be shared by multiple projects).
+ * Content hash of a jar is remembered in stamp file keyed by jar path, size and modification time
+ * so unchanged jars are not read at all, the jar is hashed only when its stamp is missing or outdated.
+ * Directories (project classes) are always scanned. Entries are scanned in parallel.
+ * If the same class is present in multiple entries the first one wins (as in class loader).
+ */
+public class PersistentClasspathIndex implements ClasspathIndex {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final Map<String, ClassRecord> classes;
+    private final List<String> acceptedPackages;
+    private final Map<String, List<String>> directSubclasses = new HashMap<>();
+    private final Map<String, List<String>> directImplementations = new HashMap<>();
+    private final Map<String, List<String>> directlyAnnotatedClasses = new HashMap<>();
+    private int indexHits;
+    private int indexMisses;
+    private int hashedEntries;
+
+    public static class ClassRecord {
+        public String name;
+        public boolean isInterface;
+        public boolean isAnnotation;
+        public String superclass;
+        public List<String> interfaces;
+        public List<String> annotations;
+    }
+
+    public static class EntryIndex {
+        public int version;
+        public List<ClassRecord> classes;
+    }
+
+    public static class EntryStamp {
+        public int version;
+        public String contentHash;
+    }
+
+    private PersistentClasspathIndex(List<List<ClassRecord>> entries, List<String> acceptedPackages) {
+        this.classes = new LinkedHashMap<>();
+        for (List<ClassRecord> entry : entries) {
+            for (ClassRecord record : entry) {
+                classes.putIfAbsent(record.name, record);
+            }
+        }
+        this.acceptedPackages = acceptedPackages != null ? acceptedPackages : Collections.emptyList();
+        for (ClassRecord record : classes.values()) {
+            if (record.superclass != null) {
+                directSubclasses.computeIfAbsent(record.superclass, k -> new ArrayList<>()).add(record.name);
+            }
+            for (String interfaceName : Utils.listFromNullable(record.interfaces)) {
+                directImplementations.computeIfAbsent(interfaceName, k -> new ArrayList<>()).add(record.name);
+            }
+            for (String annotationName : Utils.listFromNullable(record.annotations)) {
+                directlyAnnotatedClasses.computeIfAbsent(annotationName, k -> new ArrayList<>()).add(record.name);
+            }
+        }
+    }
+
+    public static PersistentClasspathIndex load(File indexDirectory, List<File> classpath, List<String> acceptedPackages) {
+        Objects.requireNonNull(indexDirectory, "indexDirectory");
+        final AtomicInteger hits = new AtomicInteger();
+        final AtomicInteger misses = new AtomicInteger();
+        final AtomicInteger hashed = new AtomicInteger();
+        final List<List<ClassRecord>> entries = classpath.parallelStream()
+                .map(file -> {
+                    if (file.isDirectory()) {
+                        return scan(file);
+                    }
+                    if (!file.isFile()) {
+                        return Collections.<ClassRecord>emptyList();
+                    }
+                    final File stampFile = new File(new File(indexDirectory, "stamps"), getStampKey(file) + ".json");
+                    final EntryStamp stamp = read(stampFile, EntryStamp.class);
+                    if (stamp != null && stamp.version == FORMAT_VERSION && stamp.contentHash != null) {
+                        final List<ClassRecord> stored = readRecords(new File(indexDirectory, stamp.contentHash + ".json"));
+                        if (stored != null) {
+                            hits.incrementAndGet();
+                            return stored;
+                        }
+                    }
+                    hashed.incrementAndGet();
+                    final String contentHash = hashFile(file);
+                    final File indexFile = new File(indexDirectory, contentHash + ".json");
+                    List<ClassRecord> records = readRecords(indexFile);
+                    if (records != null) {
+                        hits.incrementAndGet();
+                    } else {
+                        misses.incrementAndGet();
+                        records = scan(file);
+                        final EntryIndex entryIndex = new EntryIndex();
+                        entryIndex.version = FORMAT_VERSION;
+                        entryIndex.classes = records;
+                        write(indexFile, entryIndex);
+                    }
+                    final EntryStamp newStamp = new EntryStamp();
+                    newStamp.version = FORMAT_VERSION;
+                    newStamp.contentHash = contentHash;
+                    write(stampFile, newStamp);
+                    return records;
+                })
+                .collect(Collectors.toList());
+        final PersistentClasspathIndex index = new PersistentClasspathIndex(entries, acceptedPackages);
+        index.indexHits = hits.get();
+        index.indexMisses = misses.get();
+        index.hashedEntries = hashed.get();
+        return index;
+    }
+
+    public int getClassCount() {
+        return classes.size();
+    }
+
+    public int getIndexHits() {
+        return indexHits;
+    }
+
+    public int getIndexMisses() {
+        return indexMisses;
+    }
+
+    /**
+     * Number of jar files which needed to be read and hashed because their stamp was missing or outdated.
+     */
+    public int getHashedEntries() {
+        return hashedEntries;
+    }
+
+    @Override
+    public List<String> getAllClassNames() {
+        return filter(classes.keySet(), record -> !record.isAnnotation);
+    }
+
+    @Override
+    public List<String> getClassesImplementing(String interfaceName) {
+        final Set<String> implementations = collectReachable(interfaceName, name -> Utils.concat(
+                directImplementations.getOrDefault(name, Collections.emptyList()),
+                directSubclasses.getOrDefault(name, Collections.emptyList())));
+        return filter(implementations, record -> !record.isAnnotation);
+    }
+
+    @Override
+    public List<String> getSubclasses(String superclassName) {
+        final Set<String> subclasses = collectReachable(superclassName, name -> directSubclasses.getOrDefault(name, Collections.emptyList()));
+        return filter(subclasses, PersistentClasspathIndex::isStandardClass);
+    }
+
+    @Override
+    public List<String> getClassesWithAnnotation(String annotationName) {
+        final ClassRecord annotation = classes.get(annotationName);
+        if (annotation == null || !annotation.isAnnotation) {
+            return Collections.emptyList();
+        }
+        final Set<String> annotatedClasses = collectReachable(annotationName, name -> directlyAnnotatedClasses.getOrDefault(name, Collections.emptyList()));
+        if (Utils.listFromNullable(annotation.annotations).contains(Inherited.class.getName())) {
+            for (String annotatedClass : new ArrayList<>(annotatedClasses)) {
+                annotatedClasses.addAll(collectReachable(annotatedClass, name -> directSubclasses.getOrDefault(name, Collections.emptyList())));
+            }
+        }
+        return filter(annotatedClasses, record -> true);
+    }
+
+    private static boolean isStandardClass(ClassRecord record) {
+        return !record.isInterface && !record.isAnnotation;
+    }
+
+    private static Set<String> collectReachable(String start, Function<String, List<String>> getRelated) {
+        final Set<String> reachable = new HashSet<>();
+        final Deque<String> queue = new ArrayDeque<>();
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            for (String related : getRelated.apply(queue.remove())) {
+                if (reachable.add(related)) {
+                    queue.add(related);
+                }
+            }
+        }
+        reachable.remove(start);
+        return reachable;
+    }
+
+    private List<String> filter(Set<String> names, Predicate<ClassRecord> predicate) {
+        return names.stream()
+                .map(classes::get)
+                .filter(Objects::nonNull)
+                .filter(predicate)
+                .map(record -> record.name)
+                .filter(this::isAccepted)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private boolean isAccepted(String className) {
+        if (acceptedPackages.isEmpty()) {
+            return true;
+        }
+        for (String acceptedPackage : acceptedPackages) {
+            if (className.startsWith(acceptedPackage + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<ClassRecord> scan(File classpathEntry) {
+        final ClassGraph classGraph = new ClassGraph()
+                .enableClassInfo()
+                .enableAnnotationInfo()
+                .ignoreClassVisibility()
+                .overrideClasspath(classpathEntry);
+        try (ScanResult scanResult = classGraph.scan(1)) {
+            final List<ClassRecord> records = new ArrayList<>();
+            for (ClassInfo classInfo : scanResult.getAllClasses()) {
+                final ClassRecord record = new ClassRecord();
+                record.name = classInfo.getName();
+                record.isInterface = classInfo.isInterface();
+                record.isAnnotation = classInfo.isAnnotation();
+                record.superclass = classInfo.getSuperclass() != null ? classInfo.getSuperclass().getName() : null;
+                record.interfaces = classInfo.getInterfaces().directOnly().getNames();
+                record.annotations = classInfo.getAnnotations().directOnly().getNames();
+                records.add(record);
+            }
+            return records;
+        }
+    }
+
+    private static List<ClassRecord> readRecords(File indexFile) {
+        final EntryIndex entryIndex = read(indexFile, EntryIndex.class);
+        return entryIndex != null && entryIndex.version == FORMAT_VERSION && entryIndex.classes != null ? entryIndex.classes : null;
+    }
+
+    private static <T> T read(File indexFile, Class<T> type) {
+        if (!indexFile.isFile()) {
+            return null;
+        }
+        try {
+            return Utils.getObjectMapper().readValue(indexFile, type);
+        } catch (IOException e) {
+            TypeScriptGenerator.getLogger().warning("Cannot read classpath index: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void write(File indexFile, Object value) {
+        try {
+            indexFile.getAbsoluteFile().getParentFile().mkdirs();
+            // write to temporary file first so concurrent builds never see partially written index
+            final File tempFile = File.createTempFile(indexFile.getName(), ".tmp", indexFile.getAbsoluteFile().getParentFile());
+            Utils.getObjectMapper().writeValue(tempFile, value);
+            Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            TypeScriptGenerator.getLogger().warning("Cannot write classpath index: " + e.getMessage());
+        }
+    }
+
+    private static String getStampKey(File file) {
+        try {
+            final String stamp = file.getAbsolutePath() + "|" + file.length() + "|" + file.lastModified();
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return String.format("%064x", new BigInteger(1, digest.digest(stamp.getBytes(StandardCharsets.UTF_8))));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static String hashFile(File file) {
+        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final byte[] buffer = new byte[65536];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, length);
+            }
+            return String.format("%064x", new BigInteger(1, digest.digest()));
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
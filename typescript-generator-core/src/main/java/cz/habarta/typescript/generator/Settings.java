@@ -11,6 +11,7 @@ import cz.habarta.typescript.generator.emitter.EmitterExtensionFeatures;
 import cz.habarta.typescript.generator.parser.JaxrsApplicationParser;
 import cz.habarta.typescript.generator.parser.RestApplicationParser;
 import cz.habarta.typescript.generator.parser.TypeParser;
+import cz.habarta.typescript.generator.util.GlobMatcher;
 import cz.habarta.typescript.generator.util.Pair;
 import cz.habarta.typescript.generator.util.Utils;
 import java.io.File;
@@ -64,6 +65,8 @@ public class Settings {
     public List<String> additionalDataLibraries = new ArrayList<>();
     private LoadedDataLibraries loadedDataLibrariesClasses = null;
     private Predicate<String> excludeFilter = null;
+    private List<String> excludedClasses = null;
+    private List<String> excludedClassPatterns = null;
     public OptionalProperties optionalProperties; // default is OptionalProperties.useSpecifiedAnnotations
     public OptionalPropertiesDeclaration optionalPropertiesDeclaration; // default is OptionalPropertiesDeclaration.questionMark
     public NullabilityDefinition nullabilityDefinition; // default is NullabilityDefinition.nullInlineUnion
@@ -133,6 +136,15 @@ public class Settings {
     public String typescriptVersion = "^2.4";
     public String npmTypescriptVersion = null;
     public String npmBuildScript = null;
+    public boolean writeOutputAtomically = false;
+    public boolean skipUnchangedOutput = false;
+    public boolean generateMetricsJson = false;
+    public GenerationMetrics.Listener generationMetricsListener = null;
+    public File generationCacheFile = null;
+    public boolean parallelParsing = false;
+    public boolean lazyParsing = false;
+    public boolean outputSharding = false;
+    public Map<String, String> outputShardMapping = new LinkedHashMap<>();
     public boolean jackson2ModuleDiscovery = false;
     public List<Class<? extends Module>> jackson2Modules = new ArrayList<>();
     public ClassLoader classLoader = null;
@@ -340,6 +352,9 @@ public class Settings {
             if (!features.worksWithPackagesMappedToNamespaces && mapPackagesToNamespaces) {
                 throw new RuntimeException(String.format("Extension '%s' doesn't work with 'mapPackagesToNamespaces' parameter.", extensionName));
             }
+            if (features.generatesRuntimeCode && outputSharding) {
+                throw new RuntimeException(String.format("Extension '%s' generates runtime code which cannot be used with 'outputSharding' parameter.", extensionName));
+            }
             if (features.generatesJaxrsApplicationClient) {
                 reportConfigurationChange(extensionName, "generateJaxrsApplicationClient", "true");
                 generateJaxrsApplicationClient = true;
@@ -436,6 +451,24 @@ public class Settings {
         if (generateInfoJson && (outputKind != TypeScriptOutputKind.module && outputKind != TypeScriptOutputKind.global)) {
             throw new RuntimeException("'generateInfoJson' can only be used when 'outputKind' parameter is 'module' or 'global'.");
         }
+        if (outputSharding && outputKind != TypeScriptOutputKind.module) {
+            throw new RuntimeException("'outputSharding' can only be used when generating proper module ('outputKind' parameter is 'module').");
+        }
+        if (outputSharding && (namespace != null || mapPackagesToNamespaces)) {
+            throw new RuntimeException("'outputSharding' parameter cannot be used together with 'namespace' or 'mapPackagesToNamespaces' parameters.");
+        }
+        if (outputSharding) {
+            // imports are only created for types used in declarations, not for references from generated code (method bodies, helpers and extensions output)
+            if (mapClasses == ClassMapping.asClasses) {
+                throw new RuntimeException("'outputSharding' parameter cannot be used together with 'mapClasses' parameter set to 'asClasses'.");
+            }
+            if (generateJaxrsApplicationClient || generateSpringApplicationClient) {
+                throw new RuntimeException("'outputSharding' parameter cannot be used together with 'generateJaxrsApplicationClient' or 'generateSpringApplicationClient' parameters.");
+            }
+        }
+        if (!outputShardMapping.isEmpty() && !outputSharding) {
+            throw new RuntimeException("'outputShardMapping' parameter is only applicable when 'outputSharding' is enabled.");
+        }
         if (generateNpmPackageJson && outputKind != TypeScriptOutputKind.module) {
             throw new RuntimeException("'generateNpmPackageJson' can only be used when generating proper module ('outputKind' parameter is 'module').");
         }
@@ -668,28 +701,30 @@ public class Settings {
 
     public void setExcludeFilter(List<String> excludedClasses, List<String> excludedClassPatterns) {
         this.excludeFilter = createExcludeFilter(excludedClasses, excludedClassPatterns);
+        this.excludedClasses = excludedClasses;
+        this.excludedClassPatterns = excludedClassPatterns;
     }
 
     public static Predicate<String> createExcludeFilter(List<String> excludedClasses, List<String> excludedClassPatterns) {
         final Set<String> names = new LinkedHashSet<>(excludedClasses != null ? excludedClasses : Collections.<String>emptyList());
         names.add("java.lang.Record");
-        final List<Pattern> patterns = Utils.globsToRegexps(excludedClassPatterns != null ? excludedClassPatterns : Collections.<String>emptyList());
+        final GlobMatcher matcher = new GlobMatcher(excludedClassPatterns != null ? excludedClassPatterns : Collections.<String>emptyList());
         return new Predicate<String>() {
             @Override
             public boolean test(String className) {
-                return names.contains(className) || Utils.classNameMatches(className, patterns);
+                return names.contains(className) || matcher.matches(className);
             }
         };
     }
 
     public Predicate<String> getMapClassesAsClassesFilter() {
         if (mapClassesAsClassesFilter == null) {
-            final List<Pattern> patterns = Utils.globsToRegexps(mapClassesAsClassesPatterns);
+            final GlobMatcher matcher = mapClassesAsClassesPatterns != null ? new GlobMatcher(mapClassesAsClassesPatterns) : null;
             mapClassesAsClassesFilter = new Predicate<String>() {
                 @Override
                 public boolean test(String className) {
                     return mapClasses == ClassMapping.asClasses &&
-                            (patterns == null || Utils.classNameMatches(className, patterns));
+                            (matcher == null || matcher.matches(className));
                 }
             };
         }
@@ -768,6 +803,17 @@ public class Settings {
         return isGenerateJaxrs() || isGenerateSpring();
     }
 
+    /**
+     * Returns configuration values which are not stored in public fields (used by {@link GenerationCache}).
+     * Other non-public fields are derived from public fields.
+     */
+    Map<String, Object> getNonPublicConfiguration() {
+        final Map<String, Object> configuration = new LinkedHashMap<>();
+        configuration.put("excludeClasses", excludedClasses);
+        configuration.put("excludeClassPatterns", excludedClassPatterns);
+        return configuration;
+    }
+
     public boolean areDefaultStringEnumsOverriddenByExtension() {
         return defaultStringEnumsOverriddenByExtension;
     }
@@ -7,8 +7,12 @@ import cz.habarta.typescript.generator.emitter.Emitter;
 import cz.habarta.typescript.generator.util.Utils;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -30,18 +34,113 @@ public abstract class TsType implements Emittable {
     public static final TsType Never = new BasicType("never");
     public static final TsType Unknown = new BasicType("unknown");
 
+    // fixed set of shared instances, types with other names (for example custom basic types) are not interned
+    // so that the map doesn't grow in long-lived JVMs (Gradle or Maven daemons)
+    private static final Map<TsType, TsType> internedTypes = createInternedTypes(Any, Boolean, Number, String, Date, Void, Undefined, Null, Never, Unknown);
+
+    // lazily computed, zero means not computed or not cacheable
+    private int hashCode;
+
     @Override
     public boolean equals(Object rhs) {
-        return rhs != null && this.getClass() == rhs.getClass() && this.toString().equals(rhs.toString());
+        if (this == rhs) {
+            return true;
+        }
+        if (rhs == null || this.getClass() != rhs.getClass()) {
+            return false;
+        }
+        final TsType that = (TsType) rhs;
+        if (this.hashCode != 0 && that.hashCode != 0 && this.hashCode != that.hashCode) {
+            return false;
+        }
+        return structurallyEquals(that);
     }
 
     @Override
     public int hashCode() {
+        int hash = hashCode;
+        if (hash == 0) {
+            hash = computeHashCode();
+            if (!containsSymbols()) {
+                hashCode = hash;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Compares this type with other type of the same class.
+     * Default implementation compares formatted types, subclasses compare their components.
+     */
+    protected boolean structurallyEquals(TsType that) {
+        return this.toString().equals(that.toString());
+    }
+
+    protected int computeHashCode() {
         return this.toString().hashCode();
     }
 
+    /**
+     * Returns true if this type references some {@link Symbol} (directly or in nested type).
+     * Symbols can be renamed during compilation so hash code of such type cannot be cached.
+     */
+    protected boolean containsSymbols() {
+        return true;
+    }
+
+    private static boolean anyContainsSymbols(List<? extends TsType> types) {
+        for (TsType type : types) {
+            if (type != null && type.containsSymbols()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns shared instance for common simple types (predefined basic types and optional, nullable or array types of them).
+     * Other types are returned unchanged.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends TsType> T intern(T type) {
+        if (!isInternable(type)) {
+            return type;
+        }
+        final TsType interned = internedTypes.get(type);
+        return interned != null ? (T) interned : type;
+    }
+
+    private static Map<TsType, TsType> createInternedTypes(TsType... basicTypes) {
+        final Map<TsType, TsType> types = new HashMap<>();
+        for (TsType basicType : basicTypes) {
+            for (TsType type : Arrays.asList(basicType, new OptionalType(basicType), new NullableType(basicType), new BasicArrayType(basicType))) {
+                types.put(type, type);
+            }
+        }
+        return Collections.unmodifiableMap(types);
+    }
+
+    private static boolean isInternable(TsType type) {
+        if (type == null) {
+            return false;
+        }
+        if (type.getClass() == BasicType.class) {
+            return true;
+        }
+        if (type instanceof OptionalType) {
+            return ((OptionalType) type).type.getClass() == BasicType.class;
+        }
+        if (type instanceof NullableType) {
+            return ((NullableType) type).type.getClass() == BasicType.class;
+        }
+        if (type instanceof BasicArrayType) {
+            return ((BasicArrayType) type).elementType.getClass() == BasicType.class;
+        }
+        return false;
+    }
+
     public TsType.OptionalType optional() {
-        return new TsType.OptionalType(this);
+        return intern(new TsType.OptionalType(this));
     }
 
     @Override
@@ -64,6 +163,21 @@ public abstract class TsType implements Emittable {
         public String format(Settings settings) {
             return name;
         }
+
+        @Override
+        protected boolean structurallyEquals(TsType that) {
+            return Objects.equals(name, ((BasicType) that).name);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return Objects.hashCode(name);
+        }
+
+        @Override
+        protected boolean containsSymbols() {
+            return false;
+        }
     }
 
     public static class GenericBasicType extends TsType.BasicType {
@@ -83,6 +197,21 @@ public abstract class TsType implements Emittable {
         public String format(Settings settings) {
             return super.format(settings) + "<" + Emitter.formatList(settings, typeArguments) + ">";
         }
+
+        @Override
+        protected boolean structurallyEquals(TsType that) {
+            return super.structurallyEquals(that) && typeArguments.equals(((GenericBasicType) that).typeArguments);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return 31 * super.computeHashCode() + typeArguments.hashCode();
+        }
+
+        @Override
+        protected boolean containsSymbols() {
+            return anyContainsSymbols(typeArguments);
+        }
     }
 
     public static class VerbatimType extends TsType {
@@ -97,6 +226,21 @@ public abstract class TsType implements Emittable {
         public String format(Settings settings) {
             return verbatimType;
         }
+
+        @Override
+        protected boolean structurallyEquals(TsType that) {
+            return Objects.equals(verbatimType, ((VerbatimType) that).verbatimType);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return Objects.hashCode(verbatimType);
+        }
+
+        @Override
+        protected boolean containsSymbols() {
+            return false;
+        }
     }
 
     /**
@@ -115,6 +259,17 @@ public abstract class TsType implements Emittable {
             return symbol.getFullName();
         }
 
+        @Override
+        protected boolean structurallyEquals(TsType that) {
+            final Symbol thatSymbol = ((ReferenceType) that).symbol;
+            return symbol == thatSymbol || Objects.equals(symbol.getFullName(), thatSymbol.getFullName());
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return Objects.hashCode(symbol.getFullName());
+        }
+
     }
 
     public static class GenericReferenceType extends TsType.ReferenceType {
@@ -134,6 +289,16 @@ public abstract class TsType implements Emittable {
         public String format(Settings settings) {
             return super.format(settings) + "<" + Emitter.formatList(settings, typeArguments) + ">";
         }
+
+        @Override
+        protected boolean structurallyEquals(TsType that) {
+            return super.structurallyEquals(that) && typeArguments.equals(((GenericReferenceType) that).typeArguments);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return 31 * super.computeHashCode() + typeArguments.hashCode();
+        }
     }
     
     public static class GenericVariableType extends TsType.BasicType {
@@ -167,6 +332,21 @@ public abstract class TsType implements Emittable {
                     : elementType.format(settings) + "[]";
         }
 
+        @Override
+        protected boolean structurallyEquals(TsType that) {
+            return Objects.equals(elementType, ((BasicArrayType) that).elementType);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return 31 * Objects.hashCode(elementType) + 1;
+        }
+
+        @Override
+        protected boolean containsSymbols() {
+            return elementType.containsSymbols();
+        }
+
     }
 
     public static class IndexedArrayType extends TsType {
@@ -184,6 +364,22 @@ public abstract class TsType implements Emittable {
             return "{ [index: " + indexType.format(settings) + "]: " + elementType.format(settings) + " }";
         }
 
+        @Override
+        protected boolean structurallyEquals(TsType that) {
+            final IndexedArrayType thatType = (IndexedArrayType) that;
+            return Objects.equals(indexType, thatType.indexType) && Objects.equals(elementType, thatType.elementType);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return Objects.hash(indexType, elementType);
+        }
+
+        @Override
+        protected boolean containsSymbols() {
+            return indexType.containsSymbols() || elementType.containsSymbols();
+        }
+
     }
 
     public static class MappedType extends TsType {
@@ -208,6 +404,24 @@ public abstract class TsType implements Emittable {
                     " }";
         }
 
+        @Override
+        protected boolean structurallyEquals(TsType that) {
+            final MappedType thatType = (MappedType) that;
+            return Objects.equals(parameterType, thatType.parameterType)
+                    && questionToken == thatType.questionToken
+                    && Objects.equals(type, thatType.type);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return Objects.hash(parameterType, questionToken, type);
+        }
+
+        @Override
+        protected boolean containsSymbols() {
+            return parameterType.containsSymbols() || type.containsSymbols();
+        }
+
         public enum QuestionToken {
             Question("?"),
             Plus("+?"),
@@ -269,6 +483,21 @@ public abstract class TsType implements Emittable {
                     : Emitter.formatList(settings, types, " | ");
         }
 
+        @Override
+        protected boolean structurallyEquals(TsType that) {
+            return types.equals(((UnionType) that).types);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return types.hashCode();
+        }
+
+        @Override
+        protected boolean containsSymbols() {
+            return anyContainsSymbols(types);
+        }
+
     }
 
     public static class IntersectionType extends TsType {
@@ -290,6 +519,21 @@ public abstract class TsType implements Emittable {
                     : Emitter.formatList(settings, types, " & ");
         }
 
+        @Override
+        protected boolean structurallyEquals(TsType that) {
+            return types.equals(((IntersectionType) that).types);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return types.hashCode();
+        }
+
+        @Override
+        protected boolean containsSymbols() {
+            return anyContainsSymbols(types);
+        }
+
     }
 
     public static class StringLiteralType extends TsType {
@@ -305,6 +549,21 @@ public abstract class TsType implements Emittable {
             return settings.quotes + literal + settings.quotes;
         }
 
+        @Override
+        protected boolean structurallyEquals(TsType that) {
+            return Objects.equals(literal, ((StringLiteralType) that).literal);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return Objects.hashCode(literal);
+        }
+
+        @Override
+        protected boolean containsSymbols() {
+            return false;
+        }
+
     }
 
     public static class NumberLiteralType extends TsType {
@@ -320,6 +579,22 @@ public abstract class TsType implements Emittable {
             return "" + literal;
         }
 
+        // compares formatted numbers, for example Integer 1 and Long 1 are the same literal
+        @Override
+        protected boolean structurallyEquals(TsType that) {
+            return java.lang.String.valueOf(literal).equals(java.lang.String.valueOf(((NumberLiteralType) that).literal));
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return java.lang.String.valueOf(literal).hashCode();
+        }
+
+        @Override
+        protected boolean containsSymbols() {
+            return false;
+        }
+
     }
 
     // optionality should have been represented as attribute of properties and parameters
@@ -336,6 +611,21 @@ public abstract class TsType implements Emittable {
             return type.format(settings);
         }
 
+        @Override
+        protected boolean structurallyEquals(TsType that) {
+            return Objects.equals(type, ((OptionalType) that).type);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return 31 * Objects.hashCode(type) + 2;
+        }
+
+        @Override
+        protected boolean containsSymbols() {
+            return type.containsSymbols();
+        }
+
     }
 
     public static class NullableType extends TsType {
@@ -353,6 +643,21 @@ public abstract class TsType implements Emittable {
             return AliasName + "<" + type.format(settings) + ">";
         }
 
+        @Override
+        protected boolean structurallyEquals(TsType that) {
+            return Objects.equals(type, ((NullableType) that).type);
+        }
+
+        @Override
+        protected int computeHashCode() {
+            return 31 * Objects.hashCode(type) + 3;
+        }
+
+        @Override
+        protected boolean containsSymbols() {
+            return type.containsSymbols();
+        }
+
     }
 
     public static class ObjectType extends TsType {
@@ -380,6 +685,41 @@ public abstract class TsType implements Emittable {
             }
         }
 
+        @Override
+        protected boolean structurallyEquals(TsType that) {
+            final List<TsProperty> thatProperties = ((ObjectType) that).properties;
+            if (properties.size() != thatProperties.size()) {
+                return false;
+            }
+            for (int i = 0; i < properties.size(); i++) {
+                final TsProperty property = properties.get(i);
+                final TsProperty thatProperty = thatProperties.get(i);
+                if (!Objects.equals(property.name, thatProperty.name) || !Objects.equals(property.tsType, thatProperty.tsType)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        protected int computeHashCode() {
+            int hash = 1;
+            for (TsProperty property : properties) {
+                hash = 31 * hash + Objects.hash(property.name, property.tsType);
+            }
+            return hash;
+        }
+
+        @Override
+        protected boolean containsSymbols() {
+            for (TsProperty property : properties) {
+                if (property.tsType != null && property.tsType.containsSymbols()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
     }
 
     public static class FunctionType extends TsType {
@@ -397,86 +737,174 @@ public abstract class TsType implements Emittable {
             return Emitter.formatParameterList(parameters) + " => " + type.format(settings);
         }
 
+        @Override
+        protected boolean structurallyEquals(TsType that) {
+            final FunctionType thatType = (FunctionType) that;
+            if (!Objects.equals(type, thatType.type) || parameters.size() != thatType.parameters.size()) {
+                return false;
+            }
+            for (int i = 0; i < parameters.size(); i++) {
+                final TsParameter parameter = parameters.get(i);
+                final TsParameter thatParameter = thatType.parameters.get(i);
+                if (!Objects.equals(parameter.name, thatParameter.name) || !Objects.equals(parameter.tsType, thatParameter.tsType)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        protected int computeHashCode() {
+            int hash = Objects.hashCode(type);
+            for (TsParameter parameter : parameters) {
+                hash = 31 * hash + Objects.hash(parameter.name, parameter.tsType);
+            }
+            return hash;
+        }
+
+        @Override
+        protected boolean containsSymbols() {
+            for (TsParameter parameter : parameters) {
+                if (parameter.tsType != null && parameter.tsType.containsSymbols()) {
+                    return true;
+                }
+            }
+            return type.containsSymbols();
+        }
+
     }
 
+    /**
+     * Transforms type and its nested types (top-down).
+     * Unchanged parts of the type are not copied, if transformer doesn't change anything the same instance is returned.
+     */
     public static TsType transformTsType(Context context, TsType tsType, Transformer transformer) {
         final TsType type = transformer.transform(context, tsType);
         if (type instanceof TsType.GenericBasicType) {
             final GenericBasicType genericBasicType = (TsType.GenericBasicType) type;
-            final List<TsType> typeArguments = new ArrayList<>();
-            for (TsType typeArgument : genericBasicType.typeArguments) {
-                typeArguments.add(transformTsType(context, typeArgument, transformer));
-            }
-            return new TsType.GenericBasicType(genericBasicType.name, typeArguments);
+            final List<TsType> typeArguments = transformTsTypes(context, genericBasicType.typeArguments, transformer);
+            return typeArguments == genericBasicType.typeArguments
+                    ? genericBasicType
+                    : new TsType.GenericBasicType(genericBasicType.name, typeArguments);
         }
         if (type instanceof TsType.GenericReferenceType) {
             final GenericReferenceType genericReferenceType = (TsType.GenericReferenceType) type;
-            final List<TsType> typeArguments = new ArrayList<>();
-            for (TsType typeArgument : genericReferenceType.typeArguments) {
-                typeArguments.add(transformTsType(context, typeArgument, transformer));
-            }
-            return new TsType.GenericReferenceType(genericReferenceType.symbol, typeArguments);
+            final List<TsType> typeArguments = transformTsTypes(context, genericReferenceType.typeArguments, transformer);
+            return typeArguments == genericReferenceType.typeArguments
+                    ? genericReferenceType
+                    : new TsType.GenericReferenceType(genericReferenceType.symbol, typeArguments);
         }
         if (type instanceof TsType.OptionalType) {
             final TsType.OptionalType optionalType = (TsType.OptionalType) type;
-            return new TsType.OptionalType(transformTsType(context, optionalType.type, transformer));
+            final TsType newType = transformTsType(context, optionalType.type, transformer);
+            return newType == optionalType.type ? optionalType : new TsType.OptionalType(newType);
         }
         if (type instanceof TsType.NullableType) {
             final TsType.NullableType nullableType = (TsType.NullableType) type;
-            return new TsType.NullableType(transformTsType(context, nullableType.type, transformer));
+            final TsType newType = transformTsType(context, nullableType.type, transformer);
+            return newType == nullableType.type ? nullableType : new TsType.NullableType(newType);
         }
         if (type instanceof TsType.BasicArrayType) {
             final TsType.BasicArrayType basicArrayType = (TsType.BasicArrayType) type;
-            return new TsType.BasicArrayType(transformTsType(context, basicArrayType.elementType, transformer));
+            final TsType newElementType = transformTsType(context, basicArrayType.elementType, transformer);
+            return newElementType == basicArrayType.elementType ? basicArrayType : new TsType.BasicArrayType(newElementType);
         }
         if (type instanceof TsType.IndexedArrayType) {
             final TsType.IndexedArrayType indexedArrayType = (TsType.IndexedArrayType) type;
-            return new TsType.IndexedArrayType(
-                    transformTsType(context, indexedArrayType.indexType, transformer),
-                    transformTsType(context, indexedArrayType.elementType, transformer));
+            final TsType newIndexType = transformTsType(context, indexedArrayType.indexType, transformer);
+            final TsType newElementType = transformTsType(context, indexedArrayType.elementType, transformer);
+            return newIndexType == indexedArrayType.indexType && newElementType == indexedArrayType.elementType
+                    ? indexedArrayType
+                    : new TsType.IndexedArrayType(newIndexType, newElementType);
         }
         if (type instanceof TsType.MappedType) {
             final TsType.MappedType mappedType = (TsType.MappedType) type;
-            return new TsType.MappedType(
-                    transformTsType(context, mappedType.parameterType, transformer),
-                    mappedType.questionToken,
-                    transformTsType(context, mappedType.type, transformer));
+            final TsType newParameterType = transformTsType(context, mappedType.parameterType, transformer);
+            final TsType newType = transformTsType(context, mappedType.type, transformer);
+            return newParameterType == mappedType.parameterType && newType == mappedType.type
+                    ? mappedType
+                    : new TsType.MappedType(newParameterType, mappedType.questionToken, newType);
         }
         if (type instanceof TsType.UnionType) {
             final TsType.UnionType unionType = (TsType.UnionType) type;
-            final List<TsType> types = new ArrayList<>();
-            for (TsType constituentType : unionType.types) {
-                types.add(transformTsType(context, constituentType, transformer));
-            }
-            return new TsType.UnionType(types);
+            final List<TsType> types = transformTsTypes(context, unionType.types, transformer);
+            return types == unionType.types ? unionType : new TsType.UnionType(types);
         }
         if (type instanceof TsType.IntersectionType) {
             final TsType.IntersectionType intersectionType = (TsType.IntersectionType) type;
-            final List<TsType> types = new ArrayList<>();
-            for (TsType constituent : intersectionType.types) {
-                types.add(transformTsType(context, constituent, transformer));
-            }
-            return new TsType.IntersectionType(types);
+            final List<TsType> types = transformTsTypes(context, intersectionType.types, transformer);
+            return types == intersectionType.types ? intersectionType : new TsType.IntersectionType(types);
         }
         if (type instanceof TsType.ObjectType) {
             final TsType.ObjectType objectType = (TsType.ObjectType) type;
-            final List<TsProperty> properties = new ArrayList<>();
-            for (TsProperty property : objectType.properties) {
-                properties.add(new TsProperty(property.name, transformTsType(context, property.tsType, transformer)));
+            List<TsProperty> properties = null;
+            for (int i = 0; i < objectType.properties.size(); i++) {
+                final TsProperty property = objectType.properties.get(i);
+                final TsType newType = transformTsType(context, property.tsType, transformer);
+                if (properties == null && newType != property.tsType) {
+                    properties = new ArrayList<>(objectType.properties.subList(0, i));
+                }
+                if (properties != null) {
+                    properties.add(newType == property.tsType ? property : new TsProperty(property.name, newType));
+                }
             }
-            return new TsType.ObjectType(properties);
+            return properties == null ? objectType : new TsType.ObjectType(properties);
         }
         if (type instanceof TsType.FunctionType) {
             final TsType.FunctionType functionType = (TsType.FunctionType) type;
-            final List<TsParameter> parameters = new ArrayList<>();
-            for (TsParameter parameter : functionType.parameters) {
-                parameters.add(new TsParameter(parameter.name, transformTsType(context, parameter.tsType, transformer)));
+            List<TsParameter> parameters = null;
+            for (int i = 0; i < functionType.parameters.size(); i++) {
+                final TsParameter parameter = functionType.parameters.get(i);
+                final TsType newType = transformTsType(context, parameter.tsType, transformer);
+                if (parameters == null && newType != parameter.tsType) {
+                    parameters = new ArrayList<>(functionType.parameters.subList(0, i));
+                }
+                if (parameters != null) {
+                    parameters.add(newType == parameter.tsType ? parameter : new TsParameter(parameter.name, newType));
+                }
             }
-            return new TsType.FunctionType(parameters, transformTsType(context, functionType.type, transformer));
+            final TsType newReturnType = transformTsType(context, functionType.type, transformer);
+            return parameters == null && newReturnType == functionType.type
+                    ? functionType
+                    : new TsType.FunctionType(parameters != null ? parameters : functionType.parameters, newReturnType);
         }
         return type;
     }
 
+    /**
+     * Transforms list of types, returns the same list instance if no type was changed.
+     */
+    public static List<TsType> transformTsTypes(Context context, List<TsType> types, Transformer transformer) {
+        List<TsType> result = null;
+        for (int i = 0; i < types.size(); i++) {
+            final TsType type = types.get(i);
+            final TsType newType = transformTsType(context, type, transformer);
+            if (result == null && newType != type) {
+                result = new ArrayList<>(types.subList(0, i));
+            }
+            if (result != null) {
+                result.add(newType);
+            }
+        }
+        return result != null ? result : types;
+    }
+
+    /**
+     * Creates transformer which applies specified transformers in order on each visited type.
+     * This allows to perform multiple transformations in single traversal
+     * but it is only equivalent to separate traversals when transformers are independent
+     * (no transformer produces or consumes types which are handled by other transformers).
+     */
+    public static Transformer composeTransformers(List<Transformer> transformers) {
+        return (context, tsType) -> {
+            TsType type = tsType;
+            for (Transformer transformer : transformers) {
+                type = transformer.transform(context, type);
+            }
+            return type;
+        };
+    }
+
     public static class Context {
         // currently not needed
     }
@@ -31,6 +31,30 @@ public interface TypeProcessor {
         return result != null && result.tsType == TsType.Any;
     }
 
+    /**
+     * Processors whose result depends on type context (not only on its class) should return <code>true</code>
+     * so their results are not shared between different type contexts by {@link CachingTypeProcessor}.
+     * Results are only shared between type contexts implementing {@link CacheableTypeContext} with equal cache keys.
+     */
+    public default boolean isContextSensitive() {
+        return false;
+    }
+
+    /**
+     * Type context which can be described by value object so that {@link CachingTypeProcessor}
+     * can share results of context sensitive processors between type contexts with the same relevant data.
+     */
+    public static interface CacheableTypeContext {
+
+        /**
+         * Returns object with value based <code>equals</code> and <code>hashCode</code> methods
+         * which contains all data of this context which can affect results of context sensitive processors.
+         * The key should not reference this context so that the context is not retained by the cache.
+         */
+        public Object getCacheKey();
+
+    }
+
     public static class Context {
 
         private final SymbolTable symbolTable;
@@ -131,6 +155,11 @@ public interface TypeProcessor {
             return null;
         }
 
+        @Override
+        public boolean isContextSensitive() {
+            return processors.stream().anyMatch(TypeProcessor::isContextSensitive);
+        }
+
     }
 
 }
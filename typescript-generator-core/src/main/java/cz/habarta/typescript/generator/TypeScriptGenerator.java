@@ -6,6 +6,7 @@ import cz.habarta.typescript.generator.emitter.Emitter;
 import cz.habarta.typescript.generator.emitter.InfoJsonEmitter;
 import cz.habarta.typescript.generator.emitter.NpmPackageJson;
 import cz.habarta.typescript.generator.emitter.NpmPackageJsonEmitter;
+import cz.habarta.typescript.generator.emitter.ShardedEmitter;
 import cz.habarta.typescript.generator.emitter.TsModel;
 import cz.habarta.typescript.generator.parser.GsonParser;
 import cz.habarta.typescript.generator.parser.Jackson2Parser;
@@ -15,9 +16,12 @@ import cz.habarta.typescript.generator.parser.ModelParser;
 import cz.habarta.typescript.generator.parser.RestApplicationParser;
 import cz.habarta.typescript.generator.util.Utils;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -70,15 +74,56 @@ public class TypeScriptGenerator {
     }
 
     public void generateTypeScript(Input input, Output output) {
-        final Model model = getModelParser().parseModel(input.getSourceTypes());
-        final TsModel tsModel = getModelCompiler().javaToTypeScript(model);
-        generateTypeScript(tsModel, output);
-        generateInfoJson(tsModel, output);
-        generateNpmPackageJson(output);
+        final GenerationCache generationCache = settings.generationCacheFile != null && output.getName() != null
+                ? new GenerationCache(settings.generationCacheFile, settings)
+                : null;
+        if (generationCache != null && generationCache.isUpToDate(input)) {
+            return;
+        }
+        final GenerationMetrics metrics = new GenerationMetrics(settings.generationMetricsListener);
+        input.getMetrics().forEach(metrics::addStage);
+        final Model model = getModelParser().parseModel(input.getSourceTypes(), metrics);
+        if (getCommonTypeProcessor() instanceof CachingTypeProcessor) {
+            final CachingTypeProcessor cachingTypeProcessor = (CachingTypeProcessor) getCommonTypeProcessor();
+            TypeScriptGenerator.getLogger().verbose(String.format("Type processor cache: %d hits, %d misses", cachingTypeProcessor.getHits(), cachingTypeProcessor.getMisses()));
+        }
+        final TsModel tsModel = getModelCompiler().javaToTypeScript(model, metrics);
+        final int declarationCount = tsModel.getBeans().size() + tsModel.getEnums().size() + tsModel.getTypeAliases().size();
+        final List<File> typeScriptFiles = metrics.measure("emission", () -> generateTypeScript(tsModel, output), files -> declarationCount);
+        metrics.measure("emission info JSON", () -> generateInfoJson(tsModel, output));
+        metrics.measure("emission package.json", () -> generateNpmPackageJson(output));
+        generateMetricsJson(metrics, output);
+        if (generationCache != null) {
+            generationCache.store(input, model, getOutputFiles(output, typeScriptFiles));
+        }
     }
 
-    private void generateTypeScript(TsModel tsModel, Output output) {
-        getEmitter().emit(tsModel, output.getWriter(), output.getName(), output.shouldCloseWriter());
+    private List<File> getOutputFiles(Output output, List<File> typeScriptFiles) {
+        final File outputFile = new File(output.getName());
+        final List<File> files = new ArrayList<>(typeScriptFiles);
+        if (settings.generateInfoJson) {
+            files.add(new File(outputFile.getParent(), "typescript-generator-info.json"));
+        }
+        if (settings.generateNpmPackageJson) {
+            files.add(new File(outputFile.getParent(), "package.json"));
+        }
+        return files;
+    }
+
+    private List<File> generateTypeScript(TsModel tsModel, Output output) {
+        if (settings.outputSharding) {
+            if (output.getName() == null) {
+                throw new RuntimeException("Sharded output can only be used when output is specified using file name");
+            }
+            return new ShardedEmitter(settings).emit(tsModel, new File(output.getName()));
+        }
+        try {
+            getEmitter().emit(tsModel, output.getWriter(), output.getName(), output.shouldCloseWriter());
+        } catch (RuntimeException e) {
+            output.discard();
+            throw e;
+        }
+        return output.getName() != null ? Arrays.asList(new File(output.getName())) : Collections.emptyList();
     }
 
     private void generateInfoJson(TsModel tsModel, Output output) {
@@ -87,8 +132,35 @@ public class TypeScriptGenerator {
                 throw new RuntimeException("Generating info JSON can only be used when output is specified using file name");
             }
             final File outputFile = new File(output.getName());
-            final Output out = Output.to(new File(outputFile.getParent(), "typescript-generator-info.json"));
-            getInfoJsonEmitter().emit(tsModel, out.getWriter(), out.getName(), out.shouldCloseWriter());
+            final Output out = Output.to(new File(outputFile.getParent(), "typescript-generator-info.json"), settings.writeOutputAtomically, settings.skipUnchangedOutput);
+            try {
+                getInfoJsonEmitter().emit(tsModel, out.getWriter(), out.getName(), out.shouldCloseWriter());
+            } catch (RuntimeException e) {
+                out.discard();
+                throw e;
+            }
+        }
+    }
+
+    private void generateMetricsJson(GenerationMetrics metrics, Output output) {
+        if (settings.generateMetricsJson) {
+            if (output.getName() == null) {
+                throw new RuntimeException("Generating metrics JSON can only be used when output is specified using file name");
+            }
+            final File outputFile = new File(output.getName());
+            final Output metricsOutput = Output.to(new File(outputFile.getParent(), "typescript-generator-metrics.json"), settings.writeOutputAtomically);
+            TypeScriptGenerator.getLogger().info("Writing generation metrics to: " + metricsOutput.getName());
+            try {
+                final Writer writer = metricsOutput.getWriter();
+                Utils.getObjectMapper().writeValue(writer, metrics.getReport());
+                writer.close();
+            } catch (IOException e) {
+                metricsOutput.discard();
+                throw new RuntimeException(e);
+            } catch (RuntimeException e) {
+                metricsOutput.discard();
+                throw e;
+            }
         }
     }
 
@@ -98,7 +170,7 @@ public class TypeScriptGenerator {
                 throw new RuntimeException("Generating NPM package.json can only be used when output is specified using file name");
             }
             final File outputFile = new File(output.getName());
-            final Output npmOutput = Output.to(new File(outputFile.getParent(), "package.json"));
+            final Output npmOutput = Output.to(new File(outputFile.getParent(), "package.json"), settings.writeOutputAtomically, settings.skipUnchangedOutput);
             final NpmPackageJson npmPackageJson = new NpmPackageJson();
             npmPackageJson.name = settings.npmName;
             npmPackageJson.version = settings.npmVersion;
@@ -138,7 +210,12 @@ public class TypeScriptGenerator {
             if (npmPackageJson.peerDependencies.isEmpty()) {
                 npmPackageJson.peerDependencies = null;
             }
-            getNpmPackageJsonEmitter().emit(npmPackageJson, npmOutput.getWriter(), npmOutput.getName(), npmOutput.shouldCloseWriter());
+            try {
+                getNpmPackageJsonEmitter().emit(npmPackageJson, npmOutput.getWriter(), npmOutput.getName(), npmOutput.shouldCloseWriter());
+            } catch (RuntimeException e) {
+                npmOutput.discard();
+                throw e;
+            }
         }
     }
 
@@ -167,7 +244,7 @@ public class TypeScriptGenerator {
         processors.add(new CustomMappingTypeProcessor(settings.getValidatedCustomTypeMappings()));
         processors.addAll(specificTypeProcessors);
         processors.add(new DefaultTypeProcessor(settings.getLoadedDataLibraries()));
-        final TypeProcessor typeProcessor = new TypeProcessor.Chain(processors);
+        final TypeProcessor typeProcessor = new CachingTypeProcessor(new TypeProcessor.Chain(processors));
         return typeProcessor;
     }
 
@@ -0,0 +1,128 @@
+
+package cz.habarta.typescript.generator.compiler;
+
+import cz.habarta.typescript.generator.util.Pair;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.HostAccess;
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
+
+
+/**
+ * {@link SymbolTable.CustomTypeNamingFunction} implemented in JavaScript (see {@link cz.habarta.typescript.generator.Settings#customTypeNamingFunction}).
+ * All functions share one polyglot engine (so parsed code is cached) and each function is evaluated in pooled contexts,
+ * one context is used by one thread at a time. Results are memoized so the function is called only once for each class.
+ * Instance is meant for single generator run, {@link #close()} closes its contexts and drops memoized results.
+ */
+public class JavaScriptTypeNamingFunction implements SymbolTable.CustomTypeNamingFunction, AutoCloseable {
+
+    private static Engine engine;
+    private static volatile long engineStartupNanos;
+
+    private final Source source;
+    private final Queue<PooledFunction> pool = new ConcurrentLinkedQueue<>();
+    private final Map<Pair<String, String>, Optional<String>> results = new ConcurrentHashMap<>();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong evaluations = new AtomicLong();
+    private final AtomicLong evaluationNanos = new AtomicLong();
+
+    public JavaScriptTypeNamingFunction(String function) {
+        this.source = Source.create("js", "var getName = " + function + ";\ngetName");
+    }
+
+    private static synchronized Engine getEngine() {
+        if (engine == null) {
+            final long start = System.nanoTime();
+            engine = Engine.newBuilder()
+                    .option("engine.WarnInterpreterOnly", "false")
+                    .build();
+            engineStartupNanos = System.nanoTime() - start;
+        }
+        return engine;
+    }
+
+    private static class PooledFunction {
+        public final Context context;
+        public final Value function;
+
+        public PooledFunction(Context context, Value function) {
+            this.context = context;
+            this.function = function;
+        }
+    }
+
+    @Override
+    public Object getName(String className, String classSimpleName) {
+        calls.incrementAndGet();
+        return results.computeIfAbsent(Pair.of(className, classSimpleName), key -> Optional.ofNullable(evaluate(className, classSimpleName)))
+                .orElse(null);
+    }
+
+    private String evaluate(String className, String classSimpleName) {
+        final long start = System.nanoTime();
+        PooledFunction function = pool.poll();
+        boolean reusable = false;
+        try {
+            if (function == null) {
+                function = createFunction();
+            }
+            final Value result = function.function.execute(className, classSimpleName);
+            final String name = result.isString() ? result.asString() : null;
+            reusable = true;
+            return name;
+        } catch (PolyglotException e) {
+            throw new RuntimeException("Evaluating 'customTypeNamingFunction' failed.", e);
+        } finally {
+            if (function != null) {
+                if (reusable) {
+                    pool.add(function);
+                } else {
+                    // context may be left in inconsistent state
+                    function.context.close();
+                }
+            }
+            evaluations.incrementAndGet();
+            evaluationNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    private PooledFunction createFunction() {
+        final Context context = Context.newBuilder("js")
+                .engine(getEngine())
+                .allowHostAccess(HostAccess.ALL)
+                .build();
+        try {
+            return new PooledFunction(context, context.eval(source));
+        } catch (RuntimeException e) {
+            context.close();
+            throw e;
+        }
+    }
+
+    public String getStatistics() {
+        final long evaluationCount = evaluations.get();
+        return String.format("customTypeNamingFunction: engine started in %.1f ms, %d calls, %d evaluations (%.3f ms average)",
+                engineStartupNanos / 1_000_000.0,
+                calls.get(),
+                evaluationCount,
+                evaluationCount > 0 ? evaluationNanos.get() / 1_000_000.0 / evaluationCount : 0.0);
+    }
+
+    @Override
+    public void close() {
+        PooledFunction function;
+        while ((function = pool.poll()) != null) {
+            function.context.close();
+        }
+        results.clear();
+    }
+
+}
@@ -4,6 +4,7 @@ package cz.habarta.typescript.generator.compiler;
 import cz.habarta.typescript.generator.DateMapping;
 import cz.habarta.typescript.generator.EnumMapping;
 import cz.habarta.typescript.generator.Extension;
+import cz.habarta.typescript.generator.GenerationMetrics;
 import cz.habarta.typescript.generator.IdentifierCasing;
 import cz.habarta.typescript.generator.MapMapping;
 import cz.habarta.typescript.generator.NullabilityDefinition;
@@ -72,6 +73,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -116,118 +118,145 @@ public class ModelCompiler {
     }
 
     public TsModel javaToTypeScript(Model model) {
+        return javaToTypeScript(model, new GenerationMetrics(null));
+    }
+
+    public TsModel javaToTypeScript(Model model, GenerationMetrics metrics) {
         final SymbolTable symbolTable = new SymbolTable(settings);
-        final List<Extension.TransformerDefinition> extensionTransformers = getExtensionTransformers();
-        model = applyExtensionModelTransformers(symbolTable, model, extensionTransformers);
-        TsModel tsModel = processModel(symbolTable, model);
-        tsModel = addCustomTypeAliases(symbolTable, tsModel);
-        tsModel = removeInheritedProperties(symbolTable, tsModel);
-        tsModel = addImplementedProperties(symbolTable, tsModel);
-        tsModel = sortPropertiesDeclarations(symbolTable, tsModel);
+        final List<Pair<String, Extension.TransformerDefinition>> extensionTransformers = getExtensionTransformers();
+        model = applyExtensionModelTransformers(symbolTable, model, extensionTransformers, metrics);
+        final Model javaModel = model;
+        TsModel tsModel = metrics.measure("compiler processModel", () -> processModel(symbolTable, javaModel), ModelCompiler::countDeclarations);
+        tsModel = measure(metrics, "addCustomTypeAliases", tsModel, m -> addCustomTypeAliases(symbolTable, m));
+        tsModel = measure(metrics, "removeInheritedProperties", tsModel, m -> removeInheritedProperties(symbolTable, m));
+        tsModel = measure(metrics, "addImplementedProperties", tsModel, m -> addImplementedProperties(symbolTable, m));
+        tsModel = measure(metrics, "sortPropertiesDeclarations", tsModel, m -> sortPropertiesDeclarations(symbolTable, m));
         if (settings.generateConstructors) {
-            tsModel = addConstructors(symbolTable, tsModel);
+            tsModel = measure(metrics, "addConstructors", tsModel, m -> addConstructors(symbolTable, m));
         }
 
         // REST
         if (settings.isGenerateRest()) {
-            final Symbol responseSymbol = createRestResponseType(symbolTable, tsModel);
-            final TsType optionsType = settings.restOptionsType != null
-                    ? new TsType.VerbatimType(settings.restOptionsType)
-                    : null;
-            final TsType.GenericVariableType optionsGenericVariable = settings.restOptionsTypeIsGeneric
-                    ? new TsType.GenericVariableType(settings.restOptionsType)
-                    : null;
-            final List<RestApplicationModel> restApplicationsWithInterface = model.getRestApplications().stream()
-                    .filter(restApplication -> restApplication.getType().generateInterface.apply(settings))
-                    .collect(Collectors.toList());
-            final List<RestApplicationModel> restApplicationsWithClient = model.getRestApplications().stream()
-                    .filter(restApplication -> restApplication.getType().generateClient.apply(settings))
-                    .collect(Collectors.toList());
-            if (!restApplicationsWithInterface.isEmpty()) {
-                createRestInterfaces(tsModel, symbolTable, restApplicationsWithInterface, responseSymbol, optionsGenericVariable, optionsType);
-            }
-            if (!restApplicationsWithClient.isEmpty()) {
-                createRestClients(tsModel, symbolTable, restApplicationsWithClient, responseSymbol, optionsGenericVariable, optionsType);
-            }
+            tsModel = measure(metrics, "createRest", tsModel, m -> createRest(symbolTable, javaModel, m));
         }
 
-        // maps
-        tsModel = transformMaps(symbolTable, tsModel);
-
-        // dates
-        tsModel = transformDates(symbolTable, tsModel);
+        // maps and dates (independent transformations applied in single pass)
+        tsModel = measure(metrics, "transformMapsAndDates", tsModel, m -> transformMapsAndDates(symbolTable, m));
 
         // enums
-        tsModel = applyExtensionTransformers(symbolTable, model, tsModel, TransformationPhase.BeforeEnums, extensionTransformers);
-        tsModel = addEnumValuesToJavadoc(tsModel);
+        tsModel = applyExtensionTransformers(symbolTable, model, tsModel, TransformationPhase.BeforeEnums, extensionTransformers, metrics);
+        tsModel = measure(metrics, "addEnumValuesToJavadoc", tsModel, m -> addEnumValuesToJavadoc(m));
         if (settings.enumMemberCasing != null && settings.enumMemberCasing != IdentifierCasing.keepOriginal) {
-            tsModel = transformEnumMembersCase(tsModel);
+            tsModel = measure(metrics, "transformEnumMembersCase", tsModel, this::transformEnumMembersCase);
         }
         if (!settings.areDefaultStringEnumsOverriddenByExtension()) {
             if (settings.mapEnum == null || settings.mapEnum == EnumMapping.asUnion || settings.mapEnum == EnumMapping.asInlineUnion) {
-                tsModel = transformEnumsToUnions(tsModel);
+                tsModel = measure(metrics, "transformEnumsToUnions", tsModel, this::transformEnumsToUnions);
             }
             if (settings.mapEnum == EnumMapping.asInlineUnion) {
-                tsModel = inlineEnums(tsModel, symbolTable);
+                tsModel = measure(metrics, "inlineEnums", tsModel, m -> inlineEnums(m, symbolTable));
             }
             if (settings.mapEnum == EnumMapping.asNumberBasedEnum) {
-                tsModel = transformEnumsToNumberBasedEnum(tsModel);
+                tsModel = measure(metrics, "transformEnumsToNumberBasedEnum", tsModel, this::transformEnumsToNumberBasedEnum);
             }
         }
 
         // after enum transformations transform Maps with rest of the enums (not unions) used in keys
-        tsModel = transformNonStringEnumKeyMaps(symbolTable, tsModel);
+        tsModel = measure(metrics, "transformNonStringEnumKeyMaps", tsModel, m -> transformNonStringEnumKeyMaps(symbolTable, m));
 
         // tagged unions
-        tsModel = createAndUseTaggedUnions(symbolTable, tsModel);
+        tsModel = measure(metrics, "createAndUseTaggedUnions", tsModel, m -> createAndUseTaggedUnions(symbolTable, m));
 
         // nullable types and optional properties
-        tsModel = makeUndefinablePropertiesAndParametersOptional(symbolTable, tsModel);
-        tsModel = transformNullableTypes(symbolTable, tsModel);
-        tsModel = eliminateUndefinedFromOptionalPropertiesAndParameters(symbolTable, tsModel);
-        tsModel = transformOptionalProperties(symbolTable, tsModel);
-
-        tsModel = applyExtensionTransformers(symbolTable, model, tsModel, TransformationPhase.BeforeSymbolResolution, extensionTransformers);
-        symbolTable.resolveSymbolNames();
-        tsModel = sortTypeDeclarations(symbolTable, tsModel);
-        tsModel = applyExtensionTransformers(symbolTable, model, tsModel, TransformationPhase.AfterDeclarationSorting, extensionTransformers);
+        tsModel = measure(metrics, "makeUndefinablePropertiesAndParametersOptional", tsModel, m -> makeUndefinablePropertiesAndParametersOptional(symbolTable, m));
+        tsModel = measure(metrics, "transformNullableTypes", tsModel, m -> transformNullableTypes(symbolTable, m));
+        tsModel = measure(metrics, "eliminateUndefinedFromOptionalPropertiesAndParameters", tsModel, m -> eliminateUndefinedFromOptionalPropertiesAndParameters(symbolTable, m));
+        tsModel = measure(metrics, "transformOptionalProperties", tsModel, m -> transformOptionalProperties(symbolTable, m));
+
+        tsModel = applyExtensionTransformers(symbolTable, model, tsModel, TransformationPhase.BeforeSymbolResolution, extensionTransformers, metrics);
+        metrics.measure("compiler resolveSymbolNames", symbolTable::resolveSymbolNames);
+        tsModel = measure(metrics, "sortTypeDeclarations", tsModel, m -> sortTypeDeclarations(symbolTable, m));
+        tsModel = applyExtensionTransformers(symbolTable, model, tsModel, TransformationPhase.AfterDeclarationSorting, extensionTransformers, metrics);
         return tsModel;
     }
 
-    private List<Extension.TransformerDefinition> getExtensionTransformers() {
-        final List<Extension.TransformerDefinition> transformers = new ArrayList<>();
+    private static TsModel measure(GenerationMetrics metrics, String transformation, TsModel tsModel, UnaryOperator<TsModel> transformer) {
+        return metrics.measure("compiler " + transformation, tsModel, transformer, ModelCompiler::countDeclarations);
+    }
+
+    private static int countDeclarations(TsModel tsModel) {
+        return tsModel.getBeans().size() + tsModel.getEnums().size() + tsModel.getTypeAliases().size() + tsModel.getHelpers().size();
+    }
+
+    private TsModel createRest(SymbolTable symbolTable, Model model, TsModel tsModel) {
+        final Symbol responseSymbol = createRestResponseType(symbolTable, tsModel);
+        final TsType optionsType = settings.restOptionsType != null
+                ? new TsType.VerbatimType(settings.restOptionsType)
+                : null;
+        final TsType.GenericVariableType optionsGenericVariable = settings.restOptionsTypeIsGeneric
+                ? new TsType.GenericVariableType(settings.restOptionsType)
+                : null;
+        final List<RestApplicationModel> restApplicationsWithInterface = model.getRestApplications().stream()
+                .filter(restApplication -> restApplication.getType().generateInterface.apply(settings))
+                .collect(Collectors.toList());
+        final List<RestApplicationModel> restApplicationsWithClient = model.getRestApplications().stream()
+                .filter(restApplication -> restApplication.getType().generateClient.apply(settings))
+                .collect(Collectors.toList());
+        if (!restApplicationsWithInterface.isEmpty()) {
+            createRestInterfaces(tsModel, symbolTable, restApplicationsWithInterface, responseSymbol, optionsGenericVariable, optionsType);
+        }
+        if (!restApplicationsWithClient.isEmpty()) {
+            createRestClients(tsModel, symbolTable, restApplicationsWithClient, responseSymbol, optionsGenericVariable, optionsType);
+        }
+        return tsModel;
+    }
+
+    private List<Pair<String, Extension.TransformerDefinition>> getExtensionTransformers() {
+        final List<Pair<String, Extension.TransformerDefinition>> transformers = new ArrayList<>();
         for (EmitterExtension emitterExtension : settings.extensions) {
             if (emitterExtension instanceof Extension) {
                 final Extension extension = (Extension) emitterExtension;
-                transformers.addAll(extension.getTransformers());
+                for (Extension.TransformerDefinition definition : extension.getTransformers()) {
+                    transformers.add(Pair.of(extension.getClass().getName(), definition));
+                }
             }
         }
         return transformers;
     }
 
     private static Model applyExtensionModelTransformers(SymbolTable symbolTable, Model model,
-            List<Extension.TransformerDefinition> transformerDefinitions
+            List<Pair<String, Extension.TransformerDefinition>> transformerDefinitions, GenerationMetrics metrics
     ) {
-        for (Extension.TransformerDefinition definition : transformerDefinitions) {
+        for (Pair<String, Extension.TransformerDefinition> pair : transformerDefinitions) {
+            final Extension.TransformerDefinition definition = pair.getValue2();
             if (definition.phase == TransformationPhase.BeforeTsModel) {
-                model = definition.transformer.transformModel(symbolTable, model);
+                model = metrics.measure(getStageName(pair.getValue1(), definition), model,
+                        m -> definition.transformer.transformModel(symbolTable, m),
+                        m -> m.getBeans().size() + m.getEnums().size());
             }
         }
         return model;
     }
 
     private static TsModel applyExtensionTransformers(SymbolTable symbolTable, Model model, TsModel tsModel,
-            TransformationPhase phase, List<Extension.TransformerDefinition> transformerDefinitions
+            TransformationPhase phase, List<Pair<String, Extension.TransformerDefinition>> transformerDefinitions, GenerationMetrics metrics
     ) {
         final TsModelTransformer.Context context = new TsModelTransformer.Context(symbolTable, model);
-        for (Extension.TransformerDefinition definition : transformerDefinitions) {
+        for (Pair<String, Extension.TransformerDefinition> pair : transformerDefinitions) {
+            final Extension.TransformerDefinition definition = pair.getValue2();
             if (definition.phase == phase) {
-                tsModel = definition.tsTransformer.transformModel(context, tsModel);
+                tsModel = metrics.measure(getStageName(pair.getValue1(), definition), tsModel,
+                        m -> definition.tsTransformer.transformModel(context, m),
+                        ModelCompiler::countDeclarations);
             }
         }
         return tsModel;
     }
 
+    private static String getStageName(String extensionName, Extension.TransformerDefinition definition) {
+        return "extension " + extensionName + " (" + definition.phase + ")";
+    }
+
     public TsType javaToTypeScript(Type type) {
         final BeanModel beanModel = new BeanModel(Object.class, Object.class, null, null, null, Collections.<Type>emptyList(),
                 Collections.singletonList(new PropertyModel("property", type, false, null, null, null, null, null)), null);
@@ -479,9 +508,10 @@ public class ModelCompiler {
     }
 
     private TsModel removeInheritedProperties(SymbolTable symbolTable, TsModel tsModel) {
+        final TsModelInheritance inheritance = new TsModelInheritance(symbolTable, tsModel);
         final List<TsBeanModel> beans = new ArrayList<>();
         for (TsBeanModel bean : tsModel.getBeans()) {
-            final Map<String, TsType> inheritedPropertyTypes = getInheritedProperties(symbolTable, tsModel, bean.getAllParents());
+            final Map<String, TsType> inheritedPropertyTypes = inheritance.getInheritedProperties(bean);
             final List<TsPropertyModel> properties = new ArrayList<>();
             for (TsPropertyModel property : bean.getProperties()) {
                 if (property.isOwnProperty() || !Objects.equals(property.getTsType(), inheritedPropertyTypes.get(property.getName()))) {
@@ -494,6 +524,7 @@ public class ModelCompiler {
     }
 
     private TsModel addImplementedProperties(SymbolTable symbolTable, TsModel tsModel) {
+        final TsModelInheritance inheritance = new TsModelInheritance(symbolTable, tsModel);
         final List<TsBeanModel> beans = new ArrayList<>();
         for (TsBeanModel bean : tsModel.getBeans()) {
             if (bean.isClass()) {
@@ -503,9 +534,9 @@ public class ModelCompiler {
                 for (TsPropertyModel property : bean.getProperties()) {
                     classPropertyNames.add(property.getName());
                 }
-                classPropertyNames.addAll(getInheritedProperties(symbolTable, tsModel, bean.getExtendsList()).keySet());
+                classPropertyNames.addAll(inheritance.getInheritedProperties(bean.getExtendsList()).keySet());
 
-                final List<TsPropertyModel> implementedProperties = getImplementedProperties(symbolTable, tsModel, bean.getImplementsList());
+                final List<TsPropertyModel> implementedProperties = inheritance.getImplementedProperties(bean.getImplementsList());
                 Collections.reverse(implementedProperties);
                 for (TsPropertyModel implementedProperty : implementedProperties) {
                     if (!classPropertyNames.contains(implementedProperty.getName())) {
@@ -523,6 +554,7 @@ public class ModelCompiler {
     }
 
     private TsModel addConstructors(SymbolTable symbolTable, TsModel tsModel) {
+        final TsModelInheritance inheritance = new TsModelInheritance(symbolTable, tsModel);
         final List<TsBeanModel> beans = new ArrayList<>();
         for (TsBeanModel bean : tsModel.getBeans()) {
             final Symbol beanIdentifier = symbolTable.getSymbol(bean.getOrigin());
@@ -539,8 +571,8 @@ public class ModelCompiler {
                         )
                 ));
             }
+            final Map<String, TsType> inheritedProperties = inheritance.getInheritedProperties(Utils.listFromNullable(bean.getParent()));
             for (TsPropertyModel property : bean.getProperties()) {
-                final Map<String, TsType> inheritedProperties = ModelCompiler.getInheritedProperties(symbolTable, tsModel, Utils.listFromNullable(bean.getParent()));
                 if (!inheritedProperties.containsKey(property.getName())) {
                     body.add(new TsExpressionStatement(new TsAssignmentExpression(
                             new TsMemberExpression(new TsThisExpression(), property.name),
@@ -563,30 +595,12 @@ public class ModelCompiler {
         return tsModel.withBeans(beans);
     }
 
+    /**
+     * Returns properties inherited from specified parents.
+     * When called repeatedly for the same model use {@link TsModelInheritance} which memoizes flattened properties of each bean.
+     */
     public static Map<String, TsType> getInheritedProperties(SymbolTable symbolTable, TsModel tsModel, List<TsType> parents) {
-        final Map<String, TsType> properties = new LinkedHashMap<>();
-        for (TsType parentType : parents) {
-            final TsBeanModel parent = tsModel.getBean(getOriginClass(symbolTable, parentType));
-            if (parent != null) {
-                properties.putAll(getInheritedProperties(symbolTable, tsModel, parent.getAllParents()));
-                for (TsPropertyModel property : parent.getProperties()) {
-                    properties.put(property.getName(), property.getTsType());
-                }
-            }
-        }
-        return properties;
-    }
-
-    private static List<TsPropertyModel> getImplementedProperties(SymbolTable symbolTable, TsModel tsModel, List<TsType> interfaces) {
-        final List<TsPropertyModel> properties = new ArrayList<>();
-        for (TsType aInterface : interfaces) {
-            final TsBeanModel bean = tsModel.getBean(getOriginClass(symbolTable, aInterface));
-            if (bean != null) {
-                properties.addAll(getImplementedProperties(symbolTable, tsModel, bean.getExtendsList()));
-                properties.addAll(bean.getProperties());
-            }
-        }
-        return properties;
+        return new LinkedHashMap<>(new TsModelInheritance(symbolTable, tsModel).getInheritedProperties(parents));
     }
 
     private Symbol createRestResponseType(SymbolTable symbolTable, TsModel tsModel) {
@@ -848,11 +862,26 @@ public class ModelCompiler {
         return new TsTaggedTemplateLiteral(new TsIdentifierReference("uriEncoding"), spans);
     }
 
-    private TsModel transformMaps(SymbolTable symbolTable, TsModel tsModel) {
-        if (settings.mapMap != MapMapping.asRecord) {
+    private TsModel transformMapsAndDates(SymbolTable symbolTable, TsModel tsModel) {
+        final LinkedHashSet<TsAliasModel> typeAliases = new LinkedHashSet<>(tsModel.getTypeAliases());
+        final List<TsType.Transformer> transformers = new ArrayList<>();
+        if (settings.mapMap == MapMapping.asRecord) {
+            transformers.add(createMapsTransformer());
+        }
+        if (settings.mapDate == DateMapping.asNumber || settings.mapDate == DateMapping.asString) {
+            transformers.add(createDatesTransformer(symbolTable, typeAliases));
+        }
+        if (transformers.isEmpty()) {
             return tsModel;
         }
-        final TsModel model = transformBeanPropertyTypes(tsModel, new TsType.Transformer() {
+        final TsModel model = transformBeanPropertyTypes(tsModel, transformers);
+        return typeAliases.size() != tsModel.getTypeAliases().size()
+                ? model.withTypeAliases(new ArrayList<>(typeAliases))
+                : model;
+    }
+
+    private static TsType.Transformer createMapsTransformer() {
+        return new TsType.Transformer() {
             @Override
             public TsType transform(TsType.Context context, TsType type) {
                 if (type instanceof TsType.IndexedArrayType) {
@@ -861,15 +890,13 @@ public class ModelCompiler {
                 }
                 return type;
             }
-        });
-        return model;
+        };
     }
 
-    private TsModel transformDates(SymbolTable symbolTable, TsModel tsModel) {
+    private TsType.Transformer createDatesTransformer(SymbolTable symbolTable, Set<TsAliasModel> typeAliases) {
         final TsAliasModel dateAsNumber = new TsAliasModel(null, symbolTable.getSyntheticSymbol("DateAsNumber"), null, TsType.Number, null);
         final TsAliasModel dateAsString = new TsAliasModel(null, symbolTable.getSyntheticSymbol("DateAsString"), null, TsType.String, null);
-        final LinkedHashSet<TsAliasModel> typeAliases = new LinkedHashSet<>(tsModel.getTypeAliases());
-        final TsModel model = transformBeanPropertyTypes(tsModel, new TsType.Transformer() {
+        return new TsType.Transformer() {
             @Override
             public TsType transform(TsType.Context context, TsType type) {
                 if (type == TsType.Date) {
@@ -883,10 +910,8 @@ public class ModelCompiler {
                     }
                 }
                 return type;
-
             }
-        });
-        return model.withTypeAliases(new ArrayList<>(typeAliases));
+        };
     }
 
     static List<String> splitIdentifierIntoWords(String identifier) {
@@ -1094,23 +1119,7 @@ public class ModelCompiler {
         if (!nullabilityDefinition.containsUndefined()) {
             return tsModel;
         }
-        return tsModel.withBeans(tsModel.getBeans().stream()
-                .map(bean -> {
-                    bean = bean.withProperties(bean.getProperties().stream()
-                            .map(property -> property.withTsType(makeNullableTypeOptional(property.getTsType())))
-                            .collect(Collectors.toList())
-                    );
-                    bean = bean.withMethods(bean.getMethods().stream()
-                            .map(method -> method.withParameters(method.getParameters().stream()
-                                    .map(parameter -> parameter.withTsType(makeNullableTypeOptional(parameter.getTsType())))
-                                    .collect(Collectors.toList())
-                            ))
-                            .collect(Collectors.toList())
-                    );
-                    return bean;
-                })
-                .collect(Collectors.toList())
-        );
+        return transformPropertyAndParameterTypes(tsModel, ModelCompiler::makeNullableTypeOptional);
     }
 
     private static TsType makeNullableTypeOptional(TsType type) {
@@ -1152,23 +1161,7 @@ public class ModelCompiler {
 
     // example: transforms property `text?: string | null | undefined` to `text?: string | null`
     private TsModel eliminateUndefinedFromOptionalPropertiesAndParameters(final SymbolTable symbolTable, TsModel tsModel) {
-        return tsModel.withBeans(tsModel.getBeans().stream()
-                .map(bean -> {
-                    bean = bean.withProperties(bean.getProperties().stream()
-                            .map(property -> property.withTsType(eliminateUndefinedFromOptionalType(property.getTsType())))
-                            .collect(Collectors.toList())
-                    );
-                    bean = bean.withMethods(bean.getMethods().stream()
-                            .map(method -> method.withParameters(method.getParameters().stream()
-                                    .map(parameter -> parameter.withTsType(eliminateUndefinedFromOptionalType(parameter.getTsType())))
-                                    .collect(Collectors.toList())
-                            ))
-                            .collect(Collectors.toList())
-                    );
-                    return bean;
-                })
-                .collect(Collectors.toList())
-        );
+        return transformPropertyAndParameterTypes(tsModel, ModelCompiler::eliminateUndefinedFromOptionalType);
     }
 
     private static TsType eliminateUndefinedFromOptionalType(TsType type) {
@@ -1261,44 +1254,131 @@ public class ModelCompiler {
         orderedBeans.add(bean);
     }
 
+    /**
+     * Transforms types of all properties, method parameters and return types and generic supertypes of all beans.
+     * Unchanged parts of the model are shared with original model (beans without changed types are not copied).
+     */
     private static TsModel transformBeanPropertyTypes(TsModel tsModel, TsType.Transformer transformer) {
+        boolean beansChanged = false;
+        final List<TsBeanModel> newBeans = new ArrayList<>();
+        for (TsBeanModel bean : tsModel.getBeans()) {
+            final TsBeanModel newBean = transformBeanPropertyTypes(bean, transformer);
+            beansChanged |= newBean != bean;
+            newBeans.add(newBean);
+        }
+        return beansChanged ? tsModel.withBeans(newBeans) : tsModel;
+    }
+
+    private static TsModel transformBeanPropertyTypes(TsModel tsModel, List<TsType.Transformer> transformers) {
+        return transformBeanPropertyTypes(tsModel, TsType.composeTransformers(transformers));
+    }
+
+    private static TsBeanModel transformBeanPropertyTypes(TsBeanModel bean, TsType.Transformer transformer) {
+        final TsType.Context context = new TsType.Context();
+        boolean propertiesChanged = false;
+        final List<TsPropertyModel> newProperties = new ArrayList<>();
+        for (TsPropertyModel property : bean.getProperties()) {
+            final TsType newType = TsType.transformTsType(context, property.getTsType(), transformer);
+            propertiesChanged |= newType != property.getTsType();
+            newProperties.add(newType != property.getTsType() ? property.withTsType(newType) : property);
+        }
+        boolean methodsChanged = false;
+        final List<TsMethodModel> newMethods = new ArrayList<>();
+        for (TsMethodModel method : bean.getMethods()) {
+            boolean parametersChanged = false;
+            final List<TsParameterModel> newParameters = new ArrayList<>();
+            for (TsParameterModel parameter : method.getParameters()) {
+                final TsType newParameterType = TsType.transformTsType(context, parameter.getTsType(), transformer);
+                parametersChanged |= newParameterType != parameter.getTsType();
+                newParameters.add(newParameterType != parameter.getTsType()
+                        ? parameter.withTsType(newParameterType)
+                        : parameter);
+            }
+            final TsType newReturnType = TsType.transformTsType(context, method.getReturnType(), transformer);
+            if (parametersChanged || newReturnType != method.getReturnType()) {
+                methodsChanged = true;
+                newMethods.add(new TsMethodModel(method.getName(), method.getModifiers(), method.getTypeParameters(), newParameters, newReturnType, method.getBody(), method.getComments())
+                        .withDecorators(method.getDecorators()));
+            } else {
+                newMethods.add(method);
+            }
+        }
+        final List<TsType> implementsList = bean.getImplementsList();
+        final List<TsType> newImplements = transformGenericSupertypes(context, implementsList, transformer);
+        final List<TsType> extendsList = bean.getExtendsList();
+        final List<TsType> newExtends = transformGenericSupertypes(context, extendsList, transformer);
+        TsBeanModel newBean = bean;
+        if (propertiesChanged) {
+            newBean = newBean.withProperties(newProperties);
+        }
+        if (methodsChanged) {
+            newBean = newBean.withMethods(newMethods);
+        }
+        if (newImplements != implementsList) {
+            newBean = newBean.withImplements(newImplements);
+        }
+        if (newExtends != extendsList) {
+            newBean = newBean.withExtends(newExtends);
+        }
+        return newBean;
+    }
+
+    /**
+     * Transforms top-level types of properties and method parameters of all beans (nested types are not transformed).
+     * Unchanged beans, properties and methods are shared with original model.
+     */
+    private static TsModel transformPropertyAndParameterTypes(TsModel tsModel, UnaryOperator<TsType> transformer) {
+        boolean beansChanged = false;
         final List<TsBeanModel> newBeans = new ArrayList<>();
         for (TsBeanModel bean : tsModel.getBeans()) {
-            final TsType.Context context = new TsType.Context();
+            boolean propertiesChanged = false;
             final List<TsPropertyModel> newProperties = new ArrayList<>();
             for (TsPropertyModel property : bean.getProperties()) {
-                final TsType newType = TsType.transformTsType(context, property.getTsType(), transformer);
-                newProperties.add(property.withTsType(newType));
+                final TsType newType = transformer.apply(property.getTsType());
+                propertiesChanged |= newType != property.getTsType();
+                newProperties.add(newType != property.getTsType() ? property.withTsType(newType) : property);
             }
+            boolean methodsChanged = false;
             final List<TsMethodModel> newMethods = new ArrayList<>();
             for (TsMethodModel method : bean.getMethods()) {
+                boolean parametersChanged = false;
                 final List<TsParameterModel> newParameters = new ArrayList<>();
                 for (TsParameterModel parameter : method.getParameters()) {
-                    final TsType newParameterType = TsType.transformTsType(context, parameter.getTsType(), transformer);
-                    newParameters.add(new TsParameterModel(parameter.getAccessibilityModifier(), parameter.getName(), newParameterType));
+                    final TsType newType = transformer.apply(parameter.getTsType());
+                    parametersChanged |= newType != parameter.getTsType();
+                    newParameters.add(newType != parameter.getTsType() ? parameter.withTsType(newType) : parameter);
                 }
-                final TsType newReturnType = TsType.transformTsType(context, method.getReturnType(), transformer);
-                newMethods.add(new TsMethodModel(method.getName(), method.getModifiers(), method.getTypeParameters(), newParameters, newReturnType, method.getBody(), method.getComments()));
+                methodsChanged |= parametersChanged;
+                newMethods.add(parametersChanged ? method.withParameters(newParameters) : method);
             }
-            final List<TsType> newImplements = new ArrayList<>();
-            for (TsType type: bean.getImplementsList()) {
-                if (type instanceof TsType.GenericBasicType || type instanceof TsType.GenericReferenceType) {
-                    newImplements.add(TsType.transformTsType(context, type, transformer));
-                } else {
-                    newImplements.add(type);
-                }
+            TsBeanModel newBean = bean;
+            if (propertiesChanged) {
+                newBean = newBean.withProperties(newProperties);
             }
-            final List<TsType> newExtends = new ArrayList<>();
-            for (TsType type: bean.getExtendsList()) {
-                if (type instanceof TsType.GenericBasicType || type instanceof TsType.GenericReferenceType) {
-                    newExtends.add(TsType.transformTsType(context, type, transformer));
-                } else {
-                    newExtends.add(type);
-                }
+            if (methodsChanged) {
+                newBean = newBean.withMethods(newMethods);
+            }
+            beansChanged |= newBean != bean;
+            newBeans.add(newBean);
+        }
+        return beansChanged ? tsModel.withBeans(newBeans) : tsModel;
+    }
+
+    private static List<TsType> transformGenericSupertypes(TsType.Context context, List<TsType> types, TsType.Transformer transformer) {
+        List<TsType> newTypes = null;
+        for (int i = 0; i < types.size(); i++) {
+            final TsType type = types.get(i);
+            final TsType newType = type instanceof TsType.GenericBasicType || type instanceof TsType.GenericReferenceType
+                    ? TsType.transformTsType(context, type, transformer)
+                    : type;
+            if (newTypes == null && newType != type) {
+                newTypes = new ArrayList<>(types.subList(0, i));
+            }
+            if (newTypes != null) {
+                newTypes.add(newType);
             }
-            newBeans.add(bean.withProperties(newProperties).withMethods(newMethods).withImplements(newImplements).withExtends(newExtends));
         }
-        return tsModel.withBeans(newBeans);
+        return newTypes != null ? newTypes : types;
     }
 
     private static Class<?> getOriginClass(SymbolTable symbolTable, TsType type) {
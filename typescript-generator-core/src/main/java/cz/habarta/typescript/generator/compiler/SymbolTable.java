@@ -1,35 +1,31 @@
 
 package cz.habarta.typescript.generator.compiler;
 
-import com.oracle.truffle.js.scriptengine.GraalJSScriptEngine;
 import cz.habarta.typescript.generator.Settings;
 import cz.habarta.typescript.generator.TypeScriptGenerator;
 import cz.habarta.typescript.generator.util.Pair;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
-import javax.script.Invocable;
-import javax.script.ScriptEngine;
-import javax.script.ScriptException;
-import org.graalvm.polyglot.Context;
-import org.graalvm.polyglot.Engine;
-import org.graalvm.polyglot.HostAccess;
 
 
 /**
  * Name table.
+ * Methods accessing symbols are synchronized so the table can be shared by multiple threads.
  */
 public class SymbolTable {
 
     private final Settings settings;
     private final LinkedHashMap<Pair<Class<?>, String>, Symbol> symbols = new LinkedHashMap<>();
+    private final Map<Symbol, Pair<Class<?>, String>> symbolKeys = new IdentityHashMap<>();
     private final LinkedHashMap<String, Symbol> syntheticSymbols = new LinkedHashMap<>();
-    private CustomTypeNamingFunction customTypeNamingFunction;
+    private JavaScriptTypeNamingFunction javaScriptTypeNamingFunction;
 
     public SymbolTable(Settings settings) {
         this.settings = settings;
@@ -39,29 +35,28 @@ public class SymbolTable {
         return getSymbol(cls, null);
     }
 
-    public Symbol getSymbol(Class<?> cls, String suffix) {
+    public synchronized Symbol getSymbol(Class<?> cls, String suffix) {
         final String suffixString = suffix != null ? suffix : "";
         final Pair<Class<?>, String> key = Pair.<Class<?>, String>of(cls, suffixString);
-        if (!symbols.containsKey(key)) {
-            symbols.put(key, new Symbol("$" + cls.getName().replace('.', '$') + suffixString + "$"));
+        Symbol symbol = symbols.get(key);
+        if (symbol == null) {
+            symbol = new Symbol("$" + cls.getName().replace('.', '$') + suffixString + "$");
+            symbols.put(key, symbol);
+            symbolKeys.put(symbol, key);
         }
-        return symbols.get(key);
+        return symbol;
     }
 
-    public Symbol hasSymbol(Class<?> cls, String suffix) {
+    public synchronized Symbol hasSymbol(Class<?> cls, String suffix) {
         return symbols.get(Pair.<Class<?>, String>of(cls, suffix));
     }
 
-    public Class<?> getSymbolClass(Symbol symbol) {
-        for (Map.Entry<Pair<Class<?>, String>, Symbol> entry : symbols.entrySet()) {
-            if (entry.getValue() == symbol) {
-                return entry.getKey().getValue1();
-            }
-        }
-        return null;
+    public synchronized Class<?> getSymbolClass(Symbol symbol) {
+        final Pair<Class<?>, String> key = symbolKeys.get(symbol);
+        return key != null ? key.getValue1() : null;
     }
 
-    public Symbol getSyntheticSymbol(String name) {
+    public synchronized Symbol getSyntheticSymbol(String name) {
         if (!syntheticSymbols.containsKey(name)) {
             syntheticSymbols.put(name, new Symbol(name));
         }
@@ -72,35 +67,53 @@ public class SymbolTable {
         return getSyntheticSymbol(name + (suffix != null ? suffix : ""));
     }
 
-    public Symbol addSuffixToSymbol(Symbol symbol, String suffix) {
+    public synchronized Symbol addSuffixToSymbol(Symbol symbol, String suffix) {
         // try symbols
-        for (Map.Entry<Pair<Class<?>, String>, Symbol> entry : symbols.entrySet()) {
-            if (entry.getValue() == symbol) {
-                return getSymbol(entry.getKey().getValue1(), entry.getKey().getValue2() + suffix);
-            }
+        final Pair<Class<?>, String> key = symbolKeys.get(symbol);
+        if (key != null) {
+            return getSymbol(key.getValue1(), key.getValue2() + suffix);
         }
         // syntheticSymbols
         return getSyntheticSymbol(symbol.getFullName() + suffix);
     }
 
-    public void resolveSymbolNames() {
+    public synchronized void resolveSymbolNames() {
         final Map<String, List<Class<?>>> names = new LinkedHashMap<>();
-        for (Map.Entry<Pair<Class<?>, String>, Symbol> entry : symbols.entrySet()) {
-            final Class<?> cls = entry.getKey().getValue1();
-            final String suffix = entry.getKey().getValue2();
-            final Symbol symbol = entry.getValue();
-            if (!symbol.isResolved()) {
-                setSymbolQualifiedName(symbol, cls, suffix);
-            }
-            final String fullName = symbol.getFullName();
-            if (!names.containsKey(fullName)) {
-                names.put(fullName, new ArrayList<>());
+        try {
+            for (Map.Entry<Pair<Class<?>, String>, Symbol> entry : symbols.entrySet()) {
+                final Class<?> cls = entry.getKey().getValue1();
+                final String suffix = entry.getKey().getValue2();
+                final Symbol symbol = entry.getValue();
+                if (!symbol.isResolved()) {
+                    setSymbolQualifiedName(symbol, cls, suffix);
+                }
+                final String fullName = symbol.getFullName();
+                if (!names.containsKey(fullName)) {
+                    names.put(fullName, new ArrayList<>());
+                }
+                names.get(fullName).add(cls);
             }
-            names.get(fullName).add(cls);
+        } finally {
+            closeJavaScriptTypeNamingFunction();
         }
         reportConflicts(names);
     }
 
+    private synchronized JavaScriptTypeNamingFunction getJavaScriptTypeNamingFunction() {
+        if (javaScriptTypeNamingFunction == null) {
+            javaScriptTypeNamingFunction = new JavaScriptTypeNamingFunction(settings.customTypeNamingFunction);
+        }
+        return javaScriptTypeNamingFunction;
+    }
+
+    private synchronized void closeJavaScriptTypeNamingFunction() {
+        if (javaScriptTypeNamingFunction != null) {
+            TypeScriptGenerator.getLogger().verbose(javaScriptTypeNamingFunction.getStatistics());
+            javaScriptTypeNamingFunction.close();
+            javaScriptTypeNamingFunction = null;
+        }
+    }
+
     private static void reportConflicts(Map<String, List<Class<?>>> names) {
         boolean conflict = false;
         for (Map.Entry<String, List<Class<?>>> entry : names.entrySet()) {
@@ -140,20 +153,16 @@ public class SymbolTable {
             return customName;
         }
         if (settings.customTypeNamingFunctionImpl != null || settings.customTypeNamingFunction != null) {
-            try {
-                final CustomTypeNamingFunction function;
-                if (settings.customTypeNamingFunctionImpl != null) {
-                    function = settings.customTypeNamingFunctionImpl;
-                } else {
-                    function = getCustomTypeNamingFunction();
-                }
+            final CustomTypeNamingFunction function;
+            if (settings.customTypeNamingFunctionImpl != null) {
+                function = settings.customTypeNamingFunctionImpl;
+            } else {
+                function = getJavaScriptTypeNamingFunction();
+            }
 
-                final Object getNameResult = function.getName(cls.getName(), cls.getSimpleName());
-                if (getNameResult instanceof String) {
-                    return (String) getNameResult;
-                }
-            } catch (ScriptException e) {
-                throw new RuntimeException("Evaluating 'customTypeNamingFunction' failed.", e);
+            final Object getNameResult = function.getName(cls.getName(), cls.getSimpleName());
+            if (getNameResult instanceof String) {
+                return (String) getNameResult;
             }
         }
         String simpleName = cls.getSimpleName();
@@ -205,19 +214,6 @@ public class SymbolTable {
         return Keywords.contains(word);
     }
 
-    private CustomTypeNamingFunction getCustomTypeNamingFunction() throws ScriptException {
-        if (customTypeNamingFunction == null) {
-            final ScriptEngine engine = GraalJSScriptEngine.create(
-                    Engine.newBuilder().option("engine.WarnInterpreterOnly", "false").build(),
-                    Context.newBuilder("js").allowHostAccess(HostAccess.ALL)
-            );
-            engine.eval("var getName = " + settings.customTypeNamingFunction);
-            final Invocable invocable = (Invocable) engine;
-            customTypeNamingFunction = invocable.getInterface(CustomTypeNamingFunction.class);
-        }
-        return customTypeNamingFunction;
-    }
-
     /**
      * Function for getting custom TypeScript names for Java classes.
      * If the function returns null, the default is used.
@@ -0,0 +1,126 @@
+
+package cz.habarta.typescript.generator.compiler;
+
+import cz.habarta.typescript.generator.TsType;
+import cz.habarta.typescript.generator.emitter.TsBeanModel;
+import cz.habarta.typescript.generator.emitter.TsModel;
+import cz.habarta.typescript.generator.emitter.TsPropertyModel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+
+/**
+ * Inheritance view over beans of one {@link TsModel}.
+ * Flattened properties of each bean (own properties and properties inherited from all ancestors)
+ * are computed at most once, ancestors are always computed before their descendants.
+ * The view is only valid for the model it was created for,
+ * when model is transformed new view needs to be created
+ * (see {@link TsModelTransformer.Context#getInheritance(TsModel)}).
+ */
+public class TsModelInheritance {
+
+    private final SymbolTable symbolTable;
+    private final TsModel tsModel;
+    private final Map<TsBeanModel, Map<String, TsType>> flattenedProperties = new IdentityHashMap<>();
+    private final Map<TsBeanModel, List<TsPropertyModel>> implementedProperties = new IdentityHashMap<>();
+
+    public TsModelInheritance(SymbolTable symbolTable, TsModel tsModel) {
+        this.symbolTable = Objects.requireNonNull(symbolTable, "symbolTable");
+        this.tsModel = Objects.requireNonNull(tsModel, "tsModel");
+    }
+
+    public TsModel getModel() {
+        return tsModel;
+    }
+
+    /**
+     * Returns bean referenced by specified type or <code>null</code> if type doesn't reference bean from this model.
+     */
+    public TsBeanModel getBean(TsType type) {
+        if (type instanceof TsType.ReferenceType) {
+            final TsType.ReferenceType referenceType = (TsType.ReferenceType) type;
+            return tsModel.getBean(symbolTable.getSymbolClass(referenceType.symbol));
+        }
+        return null;
+    }
+
+    public TsBeanModel getParentBean(TsBeanModel bean) {
+        return bean.getParent() != null ? getBean(bean.getParent()) : null;
+    }
+
+    /**
+     * Returns properties inherited by specified bean from all its parents (classes and interfaces).
+     */
+    public Map<String, TsType> getInheritedProperties(TsBeanModel bean) {
+        return getInheritedProperties(bean.getAllParents());
+    }
+
+    /**
+     * Returns properties inherited from specified parents and their ancestors.
+     * Properties declared closer to the inheriting bean override properties of the same name declared in ancestors.
+     */
+    public Map<String, TsType> getInheritedProperties(List<TsType> parents) {
+        if (parents.size() == 1) {
+            final TsBeanModel parent = getBean(parents.get(0));
+            return parent != null ? getFlattenedProperties(parent) : Collections.emptyMap();
+        }
+        final Map<String, TsType> properties = new LinkedHashMap<>();
+        for (TsType parentType : parents) {
+            final TsBeanModel parent = getBean(parentType);
+            if (parent != null) {
+                properties.putAll(getFlattenedProperties(parent));
+            }
+        }
+        return Collections.unmodifiableMap(properties);
+    }
+
+    /**
+     * Returns own and inherited properties of specified bean.
+     */
+    public Map<String, TsType> getFlattenedProperties(TsBeanModel bean) {
+        final Map<String, TsType> cached = flattenedProperties.get(bean);
+        if (cached != null) {
+            return cached;
+        }
+        final Map<String, TsType> properties = new LinkedHashMap<>(getInheritedProperties(bean.getAllParents()));
+        for (TsPropertyModel property : bean.getProperties()) {
+            properties.put(property.getName(), property.getTsType());
+        }
+        final Map<String, TsType> result = Collections.unmodifiableMap(properties);
+        flattenedProperties.put(bean, result);
+        return result;
+    }
+
+    /**
+     * Returns properties of specified interfaces including properties of interfaces they extend
+     * (in declaration order, ancestors first, may contain properties with the same name).
+     */
+    public List<TsPropertyModel> getImplementedProperties(List<TsType> interfaces) {
+        final List<TsPropertyModel> properties = new ArrayList<>();
+        for (TsType aInterface : interfaces) {
+            final TsBeanModel bean = getBean(aInterface);
+            if (bean != null) {
+                properties.addAll(getInterfaceProperties(bean));
+            }
+        }
+        return properties;
+    }
+
+    private List<TsPropertyModel> getInterfaceProperties(TsBeanModel bean) {
+        final List<TsPropertyModel> cached = implementedProperties.get(bean);
+        if (cached != null) {
+            return cached;
+        }
+        final List<TsPropertyModel> properties = getImplementedProperties(bean.getExtendsList());
+        properties.addAll(bean.getProperties());
+        final List<TsPropertyModel> result = Collections.unmodifiableList(properties);
+        implementedProperties.put(bean, result);
+        return result;
+    }
+
+}
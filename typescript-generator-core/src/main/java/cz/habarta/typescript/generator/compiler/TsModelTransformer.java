@@ -19,6 +19,7 @@ public interface TsModelTransformer {
 
         private final SymbolTable symbolTable;
         private final Model model;
+        private TsModelInheritance inheritance;
 
         public Context(SymbolTable symbolTable, Model model) {
             this.symbolTable = Objects.requireNonNull(symbolTable, "symbolTable");
@@ -29,6 +30,17 @@ public interface TsModelTransformer {
             return symbolTable;
         }
 
+        /**
+         * Returns inheritance view of specified model.
+         * The view is reused while the same model instance is queried.
+         */
+        public TsModelInheritance getInheritance(TsModel tsModel) {
+            if (inheritance == null || inheritance.getModel() != tsModel) {
+                inheritance = new TsModelInheritance(symbolTable, tsModel);
+            }
+            return inheritance;
+        }
+
         public BeanModel getBeanModelOrigin(TsBeanModel tsBean) {
             final BeanModel bean = model.getBean(tsBean.getOrigin());
             return bean;
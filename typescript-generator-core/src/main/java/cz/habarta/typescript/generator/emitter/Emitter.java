@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.io.Writer;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -25,14 +26,26 @@ public class Emitter implements EmitterExtension.Writer {
     private final Settings settings;
     private Writer writer;
     private int indent;
+    private List<String> additionalImports = Collections.emptyList();
+    private boolean mainOutput = true;
 
     public Emitter(Settings settings) {
         this.settings = settings;
     }
 
     public void emit(TsModel model, Writer output, String outputName, boolean closeOutput) {
+        emit(model, output, outputName, closeOutput, Collections.emptyList(), true);
+    }
+
+    /**
+     * @param additionalImports import declarations emitted after imports configured in settings
+     * @param mainOutput if <code>false</code> helpers, extensions and UMD namespace are not emitted (used for shards of sharded output)
+     */
+    public void emit(TsModel model, Writer output, String outputName, boolean closeOutput, List<String> additionalImports, boolean mainOutput) {
         this.writer = output;
         this.indent = 0;
+        this.additionalImports = additionalImports;
+        this.mainOutput = mainOutput;
         if (outputName != null) {
             TypeScriptGenerator.getLogger().info("Writing declarations to: " + outputName);
         }
@@ -40,9 +53,13 @@ public class Emitter implements EmitterExtension.Writer {
         emitReferences();
         emitImports();
         emitModule(model);
-        emitUmdNamespace();
+        if (mainOutput) {
+            emitUmdNamespace();
+        }
         if (closeOutput) {
             close();
+        } else {
+            flush();
         }
     }
 
@@ -86,6 +103,12 @@ public class Emitter implements EmitterExtension.Writer {
                 writeIndentedLine(importDeclaration + ";");
             }
         }
+        if (!additionalImports.isEmpty()) {
+            writeNewLine();
+            for (String importDeclaration : additionalImports) {
+                writeIndentedLine(importDeclaration + ";");
+            }
+        }
     }
 
     private void emitModule(TsModel model) {
@@ -130,8 +153,10 @@ public class Emitter implements EmitterExtension.Writer {
         emitBeans(model, exportKeyword, declareKeyword);
         emitTypeAliases(model, exportKeyword, declareKeyword);
         emitLiteralEnums(model, exportKeyword, declareKeyword);
-        emitHelpers(model);
-        emitExtensions(model, exportKeyword);
+        if (mainOutput) {
+            emitHelpers(model);
+            emitExtensions(model, exportKeyword);
+        }
     }
 
     private void emitBeans(TsModel model, boolean exportKeyword, boolean declareKeyword) {
@@ -488,6 +513,13 @@ public class Emitter implements EmitterExtension.Writer {
     private void writeNewLine() {
         try {
             writer.write(settings.newline);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void flush() {
+        try {
             writer.flush();
         } catch (IOException e) {
             throw new RuntimeException(e);
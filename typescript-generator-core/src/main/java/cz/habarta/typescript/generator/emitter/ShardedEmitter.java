@@ -0,0 +1,314 @@
+
+package cz.habarta.typescript.generator.emitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import cz.habarta.typescript.generator.Output;
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.TsProperty;
+import cz.habarta.typescript.generator.TsType;
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+import cz.habarta.typescript.generator.compiler.Symbol;
+import cz.habarta.typescript.generator.util.Utils;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+
+/**
+ * Emits {@link TsModel} into multiple modules (shards).
+ * Data declarations are grouped by Java package of their origin class (or using {@link Settings#outputShardMapping}),
+ * other declarations, helpers and extensions are emitted to the main output file.
+ * References between shards are imported using named imports.
+ * Main shard (including extensions output) is emitted on the calling thread,
+ * other shards are emitted concurrently and only files with changed content are rewritten.
+ * Shard files which are not generated anymore are deleted (see {@link #MANIFEST_SUFFIX}).
+ */
+public class ShardedEmitter {
+
+    /**
+     * Suffix of manifest file (next to the main output file) which lists shard files written by the last run.
+     */
+    public static final String MANIFEST_SUFFIX = ".shards.json";
+
+    private final Settings settings;
+
+    public ShardedEmitter(Settings settings) {
+        this.settings = settings;
+    }
+
+    private static class Shard {
+        public final String moduleName;
+        public final File file;
+        public final boolean main;
+        public final List<TsBeanModel> beans = new ArrayList<>();
+        public final List<TsEnumModel> enums = new ArrayList<>();
+        public final List<TsAliasModel> typeAliases = new ArrayList<>();
+        public String content;
+
+        public Shard(String moduleName, File file, boolean main) {
+            this.moduleName = moduleName;
+            this.file = file;
+            this.main = main;
+        }
+
+        public List<TsDeclarationModel> getDeclarations() {
+            final List<TsDeclarationModel> declarations = new ArrayList<>();
+            declarations.addAll(beans);
+            declarations.addAll(enums);
+            declarations.addAll(typeAliases);
+            return declarations;
+        }
+    }
+
+    public static class Manifest {
+        public List<String> files;
+    }
+
+    /**
+     * @return all output files (main output file is the first one)
+     */
+    public List<File> emit(TsModel model, File outputFile) {
+        final String extension = settings.getExtension();
+        final String mainModuleName = outputFile.getName().endsWith(extension)
+                ? outputFile.getName().substring(0, outputFile.getName().length() - extension.length())
+                : outputFile.getName();
+        final Shard mainShard = new Shard(mainModuleName, outputFile, true);
+        final Map<String, Shard> shards = new TreeMap<>();
+        final Map<Symbol, Shard> symbolShards = new IdentityHashMap<>();
+        final Function<TsDeclarationModel, Shard> getShard = declaration -> {
+            final String shardName = getShardName(declaration);
+            final Shard shard = shardName == null || shardName.equals(mainModuleName)
+                    ? mainShard
+                    : shards.computeIfAbsent(shardName, name -> new Shard(name, new File(outputFile.getParentFile(), name + extension), false));
+            symbolShards.put(declaration.getName(), shard);
+            return shard;
+        };
+        for (TsBeanModel bean : model.getBeans()) {
+            getShard.apply(bean).beans.add(bean);
+        }
+        for (TsEnumModel enumModel : model.getEnums()) {
+            getShard.apply(enumModel).enums.add(enumModel);
+        }
+        for (TsAliasModel alias : model.getTypeAliases()) {
+            getShard.apply(alias).typeAliases.add(alias);
+        }
+
+        final List<Shard> allShards = new ArrayList<>();
+        allShards.add(mainShard);
+        allShards.addAll(shards.values());
+        TypeScriptGenerator.getLogger().info(String.format("Writing declarations to %d files in: %s", allShards.size(), outputFile.getAbsoluteFile().getParent()));
+        emitShard(mainShard, model, symbolShards);
+        emitShardsInParallel(new ArrayList<>(shards.values()), model, symbolShards);
+        int written = 0;
+        for (Shard shard : allShards) {
+            if (writeIfChanged(shard.file, shard.content)) {
+                written++;
+            }
+        }
+        TypeScriptGenerator.getLogger().info(String.format("%d of %d files changed", written, allShards.size()));
+        updateManifest(outputFile, mainModuleName, shards.values());
+        return allShards.stream().map(shard -> shard.file).collect(Collectors.toList());
+    }
+
+    /**
+     * Deletes shard files written by previous run which are not generated anymore
+     * (for example when package lost all its data classes or shard mapping was changed)
+     * and records current shard files in manifest next to the main output file.
+     * Only files listed in previous manifest can be deleted.
+     */
+    private void updateManifest(File outputFile, String mainModuleName, Collection<Shard> shards) {
+        final Path directory = outputFile.getAbsoluteFile().toPath().getParent().normalize();
+        final File manifestFile = directory.resolve(mainModuleName + MANIFEST_SUFFIX).toFile();
+        final Manifest manifest = new Manifest();
+        manifest.files = shards.stream()
+                .map(shard -> directory.relativize(shard.file.getAbsoluteFile().toPath().normalize()).toString())
+                .sorted()
+                .collect(Collectors.toList());
+        final Manifest previousManifest = readManifest(manifestFile);
+        if (previousManifest != null && previousManifest.files != null) {
+            for (String fileName : previousManifest.files) {
+                final Path file = directory.resolve(fileName).normalize();
+                if (manifest.files.contains(fileName) || !file.startsWith(directory) || file.equals(outputFile.getAbsoluteFile().toPath().normalize())) {
+                    continue;
+                }
+                if (file.toFile().isFile()) {
+                    if (file.toFile().delete()) {
+                        TypeScriptGenerator.getLogger().info("Deleted shard file which is not generated anymore: " + file);
+                    } else {
+                        TypeScriptGenerator.getLogger().warning("Cannot delete shard file which is not generated anymore: " + file);
+                    }
+                }
+            }
+        }
+        try {
+            writeIfChanged(manifestFile, Utils.getObjectMapper().writeValueAsString(manifest));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Manifest readManifest(File manifestFile) {
+        if (!manifestFile.isFile()) {
+            return null;
+        }
+        try {
+            return Utils.getObjectMapper().readValue(manifestFile, Manifest.class);
+        } catch (IOException e) {
+            TypeScriptGenerator.getLogger().warning("Cannot read shard manifest: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void emitShard(Shard shard, TsModel model, Map<Symbol, Shard> symbolShards) {
+        final TsModel shardModel = new TsModel(
+                shard.beans,
+                shard.enums,
+                shard.main ? model.getOriginalStringEnums() : Collections.emptyList(),
+                shard.typeAliases,
+                shard.main ? model.getHelpers() : Collections.emptyList());
+        final StringWriter writer = new StringWriter();
+        new Emitter(settings).emit(shardModel, writer, null, true, getImports(shard, symbolShards), shard.main);
+        shard.content = writer.toString();
+    }
+
+    private void emitShardsInParallel(List<Shard> shards, TsModel model, Map<Symbol, Shard> symbolShards) {
+        if (shards.isEmpty()) {
+            return;
+        }
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        final ForkJoinPool pool = new ForkJoinPool(Math.min(shards.size(), Runtime.getRuntime().availableProcessors()), forkJoinPool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        }, null, false);
+        try {
+            pool.submit(() -> shards.parallelStream().forEach(shard -> emitShard(shard, model, symbolShards))).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private String getShardName(TsDeclarationModel declaration) {
+        final Class<?> origin = declaration.getOrigin();
+        if (origin == null || (declaration.getCategory() != null && declaration.getCategory() != TsBeanCategory.Data)) {
+            return null;
+        }
+        final String packageName = origin.getPackageName();
+        String mappedPackage = null;
+        for (String mappingPackage : settings.outputShardMapping.keySet()) {
+            if (packageName.equals(mappingPackage) || packageName.startsWith(mappingPackage + ".")) {
+                if (mappedPackage == null || mappingPackage.length() > mappedPackage.length()) {
+                    mappedPackage = mappingPackage;
+                }
+            }
+        }
+        if (mappedPackage != null) {
+            return settings.outputShardMapping.get(mappedPackage);
+        }
+        return packageName.isEmpty() ? null : packageName;
+    }
+
+    private List<String> getImports(Shard shard, Map<Symbol, Shard> symbolShards) {
+        final Map<Shard, Set<String>> importedNames = new LinkedHashMap<>();
+        for (Symbol symbol : getReferencedSymbols(shard.getDeclarations())) {
+            final Shard symbolShard = symbolShards.get(symbol);
+            if (symbolShard != null && symbolShard != shard) {
+                final String name = symbol.getNamespace() != null
+                        ? symbol.getNamespace().split("\\.")[0]
+                        : symbol.getSimpleName();
+                importedNames.computeIfAbsent(symbolShard, s -> new TreeSet<>()).add(name);
+            }
+        }
+        return importedNames.entrySet().stream()
+                .sorted((entry1, entry2) -> entry1.getKey().moduleName.compareTo(entry2.getKey().moduleName))
+                .map(entry -> "import { " + String.join(", ", entry.getValue()) + " } from " + Emitter.quote("./" + entry.getKey().moduleName, settings))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Collects symbols referenced from types used in declarations.
+     * Method bodies are not inspected.
+     */
+    private static Set<Symbol> getReferencedSymbols(List<TsDeclarationModel> declarations) {
+        final Set<Symbol> symbols = Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<TsType> types = new ArrayList<>();
+        for (TsDeclarationModel declaration : declarations) {
+            if (declaration instanceof TsBeanModel) {
+                final TsBeanModel bean = (TsBeanModel) declaration;
+                types.addAll(bean.getTypeParameters());
+                types.addAll(bean.getExtendsList());
+                types.addAll(bean.getImplementsList());
+                bean.getProperties().stream().map(TsProperty::getTsType).forEach(types::add);
+                final List<TsCallableModel> callables = new ArrayList<>(bean.getMethods());
+                if (bean.getConstructor() != null) {
+                    callables.add(bean.getConstructor());
+                }
+                for (TsCallableModel callable : callables) {
+                    types.addAll(callable.getTypeParameters());
+                    callable.getParameters().stream().map(parameter -> parameter.getTsType()).forEach(types::add);
+                    types.add(callable.getReturnType());
+                }
+            }
+            if (declaration instanceof TsAliasModel) {
+                types.add(((TsAliasModel) declaration).getDefinition());
+            }
+        }
+        for (TsType type : types) {
+            if (type != null) {
+                TsType.transformTsType(new TsType.Context(), type, (context, tsType) -> {
+                    if (tsType instanceof TsType.ReferenceType) {
+                        symbols.add(((TsType.ReferenceType) tsType).symbol);
+                    }
+                    return tsType;
+                });
+            }
+        }
+        return symbols;
+    }
+
+    private boolean writeIfChanged(File file, String content) {
+        if (Output.isContentUnchanged(file, content)) {
+            TypeScriptGenerator.getLogger().verbose("Output file is up to date: " + file);
+            return false;
+        }
+        final Output output = Output.to(file, settings.writeOutputAtomically);
+        try {
+            final Writer writer = output.getWriter();
+            writer.write(content);
+            writer.close();
+        } catch (IOException e) {
+            output.discard();
+            throw new RuntimeException(e);
+        } catch (RuntimeException e) {
+            output.discard();
+            throw e;
+        }
+        return true;
+    }
+
+}
@@ -3,6 +3,8 @@ package cz.habarta.typescript.generator.emitter;
 
 import cz.habarta.typescript.generator.compiler.EnumKind;
 import cz.habarta.typescript.generator.compiler.Symbol;
+import cz.habarta.typescript.generator.util.ListIndex;
+import cz.habarta.typescript.generator.util.TrackingList;
 import cz.habarta.typescript.generator.util.Utils;
 import java.util.ArrayList;
 import java.util.List;
@@ -16,17 +18,23 @@ public class TsModel {
     private final List<TsEnumModel> originalStringEnums;
     private final List<TsAliasModel> typeAliases;
     private final List<TsHelper> helpers;
+    private final ListIndex<Class<?>, TsBeanModel> beansByOrigin;
+    private final ListIndex<Symbol, TsBeanModel> beansByName;
+    private final ListIndex<Class<?>, TsAliasModel> typeAliasesByOrigin;
 
     public TsModel() {
         this (new ArrayList<TsBeanModel>(), new ArrayList<TsEnumModel>(), new ArrayList<TsEnumModel>(), new ArrayList<TsAliasModel>(), new ArrayList<TsHelper>());
     }
 
     public TsModel(List<TsBeanModel> beans, List<TsEnumModel> enums, List<TsEnumModel> originalStringEnums, List<TsAliasModel> typeAliases, List<TsHelper> helpers) {
-        this.beans = Objects.requireNonNull(beans);
+        this.beans = TrackingList.of(Objects.requireNonNull(beans));
         this.enums = Objects.requireNonNull(enums);
         this.originalStringEnums = originalStringEnums;
-        this.typeAliases = Objects.requireNonNull(typeAliases);
+        this.typeAliases = TrackingList.of(Objects.requireNonNull(typeAliases));
         this.helpers = helpers;
+        this.beansByOrigin = new ListIndex<>(this.beans, TsBeanModel::getOrigin);
+        this.beansByName = new ListIndex<>(this.beans, TsBeanModel::getName);
+        this.typeAliasesByOrigin = new ListIndex<>(this.typeAliases, TsAliasModel::getOrigin);
     }
 
     public List<TsBeanModel> getBeans() {
@@ -34,25 +42,11 @@ public class TsModel {
     }
 
     public TsBeanModel getBean(Class<?> origin) {
-        if (origin != null) {
-            for (TsBeanModel bean : beans) {
-                if (Objects.equals(bean.getOrigin(), origin)) {
-                    return bean;
-                }
-            }
-        }
-        return null;
+        return beansByOrigin.get(origin);
     }
 
     public TsBeanModel getBean(Symbol name) {
-        if (name != null) {
-            for (TsBeanModel bean : beans) {
-                if (Objects.equals(bean.getName(), name)) {
-                    return bean;
-                }
-            }
-        }
-        return null;
+        return beansByName.get(name);
     }
 
     public TsModel withBeans(List<TsBeanModel> beans) {
@@ -102,14 +96,7 @@ public class TsModel {
     }
 
     public TsAliasModel getTypeAlias(Class<?> origin) {
-        if (origin != null) {
-            for (TsAliasModel alias : typeAliases) {
-                if (Objects.equals(alias.getOrigin(), origin)) {
-                    return alias;
-                }
-            }
-        }
-        return null;
+        return typeAliasesByOrigin.get(origin);
     }
 
     public TsModel withTypeAliases(List<TsAliasModel> typeAliases) {
@@ -11,24 +11,44 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.introspect.Annotated;
 import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
 import com.fasterxml.jackson.databind.module.SimpleModule;
-import cz.habarta.typescript.generator.*;
+import cz.habarta.typescript.generator.Extension;
+import cz.habarta.typescript.generator.OptionalProperties;
+import cz.habarta.typescript.generator.OptionalPropertiesDeclaration;
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.TsType;
+import cz.habarta.typescript.generator.TypeScriptGenerator;
 import cz.habarta.typescript.generator.compiler.ModelCompiler;
 import cz.habarta.typescript.generator.compiler.ModelTransformer;
 import cz.habarta.typescript.generator.compiler.SymbolTable;
 import cz.habarta.typescript.generator.compiler.TsModelTransformer;
-import cz.habarta.typescript.generator.emitter.*;
+import cz.habarta.typescript.generator.emitter.Emitter;
+import cz.habarta.typescript.generator.emitter.EmitterExtensionFeatures;
+import cz.habarta.typescript.generator.emitter.TsBeanModel;
+import cz.habarta.typescript.generator.emitter.TsEnumModel;
+import cz.habarta.typescript.generator.emitter.TsModel;
+import cz.habarta.typescript.generator.emitter.TsPropertyModel;
+import cz.habarta.typescript.generator.util.GlobMatcher;
 import cz.habarta.typescript.generator.util.Pair;
 import cz.habarta.typescript.generator.util.Utils;
-
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -82,6 +102,16 @@ public class EnumWithInterfacesExtension extends Extension {
         }
     }
 
+    private static class CompiledGlobs {
+        public final List<Pattern> patterns;
+        public final GlobMatcher matcher;
+
+        public CompiledGlobs(List<Pattern> patterns, GlobMatcher matcher) {
+            this.patterns = patterns;
+            this.matcher = matcher;
+        }
+    }
+
     public static final String CFG_ENUM_PATTERN = "enumPattern";
     public static final String CFG_ENUM_INTERFACE_PATTERN = "enumInterfacePattern";
     public static final String TMPL_ENUM_NAME = "$$EnumName$$";
@@ -105,6 +135,9 @@ public class EnumWithInterfacesExtension extends Extension {
 
     protected List<Pattern> enumPatterns = null;
     protected List<Pattern> enumInterfacePatterns = null;
+    // matchers compiled from the same globs as patterns above, used only while pattern fields reference the (unmodifiable) lists they were compiled with
+    private CompiledGlobs enumMatcher = null;
+    private CompiledGlobs enumInterfaceMatcher = null;
     protected List<TsEnumModel> matchedEnums = new ArrayList<>();
     protected boolean hasNoConfig = true;
 
@@ -131,26 +164,6 @@ public class EnumWithInterfacesExtension extends Extension {
         }
     };
 
-    // TODO: Utils.globToRegexp should be public
-    private static Pattern globToRegexp(String glob) {
-        final Pattern globToRegexpPattern = Pattern.compile("(\\*\\*)|(\\*)");
-        final Matcher matcher = globToRegexpPattern.matcher(glob);
-        final StringBuffer sb = new StringBuffer();
-        int lastEnd = 0;
-        while (matcher.find()) {
-            sb.append(Pattern.quote(glob.substring(lastEnd, matcher.start())));
-            if (matcher.group(1) != null) {
-                sb.append(Matcher.quoteReplacement(".*"));
-            }
-            if (matcher.group(2) != null) {
-                sb.append(Matcher.quoteReplacement("[^.$]*"));
-            }
-            lastEnd = matcher.end();
-        }
-        sb.append(Pattern.quote(glob.substring(lastEnd, glob.length())));
-        return Pattern.compile(sb.toString());
-    }
-
     @Override
     public EmitterExtensionFeatures getFeatures() {
         return new EmitterExtensionFeatures();
@@ -158,17 +171,36 @@ public class EnumWithInterfacesExtension extends Extension {
 
     @Override
     public void setConfiguration(Map<String, String> configuration) throws RuntimeException {
-        enumPatterns = configuration.entrySet().stream()
+        final List<String> enumGlobs = configuration.entrySet().stream()
                 .filter(es -> es.getKey().startsWith(CFG_ENUM_PATTERN))
-                .map(es -> globToRegexp(es.getValue())).collect(Collectors.toList());
+                .map(es -> es.getValue()).collect(Collectors.toList());
+        setEnumPatterns(enumGlobs);
 
-        enumInterfacePatterns = configuration.entrySet().stream()
+        final List<String> enumInterfaceGlobs = configuration.entrySet().stream()
                 .filter(es -> es.getKey().startsWith(CFG_ENUM_INTERFACE_PATTERN))
-                .map(es -> globToRegexp(es.getValue())).collect(Collectors.toList());
+                .map(es -> es.getValue()).collect(Collectors.toList());
+        setEnumInterfacePatterns(enumInterfaceGlobs);
 
         hasNoConfig = enumPatterns.isEmpty() && enumInterfacePatterns.isEmpty();
     }
 
+    /**
+     * Sets {@link #enumPatterns} (as unmodifiable list) together with matcher compiled from the same globs.
+     * Subclasses which assign {@link #enumPatterns} directly still work but their patterns are tried one by one.
+     */
+    protected void setEnumPatterns(List<String> globs) {
+        enumPatterns = Collections.unmodifiableList(Utils.globsToRegexps(globs));
+        enumMatcher = new CompiledGlobs(enumPatterns, new GlobMatcher(globs));
+    }
+
+    /**
+     * Sets {@link #enumInterfacePatterns} (as unmodifiable list) together with matcher compiled from the same globs.
+     */
+    protected void setEnumInterfacePatterns(List<String> globs) {
+        enumInterfacePatterns = Collections.unmodifiableList(Utils.globsToRegexps(globs));
+        enumInterfaceMatcher = new CompiledGlobs(enumInterfacePatterns, new GlobMatcher(globs));
+    }
+
     @Override
     public List<TransformerDefinition> getTransformers() {
         return Arrays.asList(new TransformerDefinition(ModelCompiler.TransformationPhase.BeforeEnums, new TsModelTransformer() {
@@ -256,11 +288,21 @@ public class EnumWithInterfacesExtension extends Extension {
     }
 
     protected boolean enumMatches(String enumName) {
-        return enumPatterns != null && Utils.classNameMatches(enumName, enumPatterns);
+        return matches(enumName, enumPatterns, enumMatcher);
     }
 
     protected boolean enumInterfacesMatch(Type[] interfaces) {
-        return enumInterfacePatterns != null && Arrays.stream(interfaces).anyMatch(i -> Utils.classNameMatches(i.getTypeName(), enumInterfacePatterns));
+        return Arrays.stream(interfaces).anyMatch(i -> matches(i.getTypeName(), enumInterfacePatterns, enumInterfaceMatcher));
+    }
+
+    private static boolean matches(String name, List<Pattern> patterns, CompiledGlobs compiledGlobs) {
+        if (patterns == null) {
+            return false;
+        }
+        if (compiledGlobs != null && compiledGlobs.patterns == patterns) {
+            return compiledGlobs.matcher.matches(name);
+        }
+        return Utils.classNameMatches(name, patterns);
     }
 
     /**
@@ -374,8 +416,9 @@ public class EnumWithInterfacesExtension extends Extension {
         List<TsEnumModel> result = new LinkedList<>();
         BiFunction<Integer, List<Integer>, Boolean> hasDependency = (r, t) -> {
             for (Integer c : t) {
-                if (adjacency[r][c])
+                if (adjacency[r][c]) {
                     return true;
+                }
             }
             return false;
         };
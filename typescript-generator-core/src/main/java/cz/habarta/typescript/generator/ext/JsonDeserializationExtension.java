@@ -7,6 +7,7 @@ import cz.habarta.typescript.generator.TsType;
 import cz.habarta.typescript.generator.compiler.ModelCompiler;
 import cz.habarta.typescript.generator.compiler.Symbol;
 import cz.habarta.typescript.generator.compiler.SymbolTable;
+import cz.habarta.typescript.generator.compiler.TsModelInheritance;
 import cz.habarta.typescript.generator.compiler.TsModelTransformer;
 import cz.habarta.typescript.generator.emitter.EmitterExtensionFeatures;
 import cz.habarta.typescript.generator.emitter.TsArrowFunction;
@@ -45,6 +46,7 @@ import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -82,7 +84,7 @@ public class JsonDeserializationExtension extends Extension {
         return Arrays.asList(new TransformerDefinition(ModelCompiler.TransformationPhase.BeforeSymbolResolution, new TsModelTransformer() {
             @Override
             public TsModel transformModel(Context context, TsModel model) {
-                model = createDeserializationMethods(context.getSymbolTable(), model);
+                model = createDeserializationMethods(context.getSymbolTable(), context.getInheritance(model), model);
                 if (useJsonDeserializationInJaxrsApplicationClient) {
                     model = useDeserializationMethodsInJaxrs(context.getSymbolTable(), model);
                 }
@@ -91,14 +93,18 @@ public class JsonDeserializationExtension extends Extension {
         }));
     }
 
-    private static TsModel createDeserializationMethods(SymbolTable symbolTable, TsModel tsModel) {
+    private static TsModel createDeserializationMethods(SymbolTable symbolTable, TsModelInheritance inheritance, TsModel tsModel) {
         tsModel.getHelpers().add(TsHelper.loadFromResource("/helpers/jsonDeserialization.ts"));
         final List<TsBeanModel> beans = new ArrayList<>();
+        // names of copy methods are shared by all beans so static methods with the same name have the same type (also in inherited classes)
+        final Map<String, TsType> copyMethodTypes = new LinkedHashMap<>();
         for (TsBeanModel bean : tsModel.getBeans()) {
             if (bean.isDataClass()) {
                 final List<TsMethodModel> methods = new ArrayList<>(bean.getMethods());
-                final TsMethodModel deserializationMethod = createDeserializationMethod(symbolTable, tsModel, bean);
+                final CopyMethods copyMethods = new CopyMethods(symbolTable.getSymbol(bean.getOrigin()), copyMethodTypes);
+                final TsMethodModel deserializationMethod = createDeserializationMethod(symbolTable, inheritance, tsModel, bean, copyMethods);
                 methods.add(0, deserializationMethod);
+                methods.addAll(1, copyMethods.methods.values());
                 if (!bean.getTypeParameters().isEmpty()) {
                     final TsMethodModel genericFunctionConstructor = createDeserializationGenericFunctionConstructor(symbolTable, tsModel, bean);
                     methods.add(0, genericFunctionConstructor);
@@ -115,7 +121,8 @@ public class JsonDeserializationExtension extends Extension {
         return tsModel.withBeans(beans);
     }
 
-    private static TsMethodModel createDeserializationMethod(SymbolTable symbolTable, TsModel tsModel, TsBeanModel bean) {
+    private static TsMethodModel createDeserializationMethod(SymbolTable symbolTable, TsModelInheritance inheritance, TsModel tsModel, TsBeanModel bean,
+            CopyMethods copyMethods) {
         final Symbol beanIdentifier = symbolTable.getSymbol(bean.getOrigin());
         List<TsType.GenericVariableType> typeParameters = getTypeParameters(bean.getOrigin());
 
@@ -148,12 +155,12 @@ public class JsonDeserializationExtension extends Extension {
                     )
             ));
         }
+        final Map<String, TsType> inheritedProperties = inheritance.getInheritedProperties(Utils.listFromNullable(bean.getParent()));
         for (TsPropertyModel property : bean.getProperties()) {
-            final Map<String, TsType> inheritedProperties = ModelCompiler.getInheritedProperties(symbolTable, tsModel, Utils.listFromNullable(bean.getParent()));
             if (!inheritedProperties.containsKey(property.getName())) {
                 body.add(new TsExpressionStatement(new TsAssignmentExpression(
                         new TsMemberExpression(new TsIdentifierReference("instance"), property.name),
-                        getPropertyCopy(symbolTable, tsModel, bean, property)
+                        getPropertyCopy(symbolTable, tsModel, property, copyMethods)
                 )));
             }
         }
@@ -242,31 +249,119 @@ public class JsonDeserializationExtension extends Extension {
         );
     }
 
-    private static TsExpression getPropertyCopy(SymbolTable symbolTable, TsModel tsModel, TsBeanModel bean, TsPropertyModel property) {
-        final TsExpression copyFunction = getCopyFunctionForTsType(symbolTable, tsModel, property.getTsType());
-        if (copyFunction instanceof TsCallExpression) {
-            final TsCallExpression callExpression = (TsCallExpression) copyFunction;
-            if (callExpression.getExpression() instanceof TsIdentifierReference) {
-                final TsIdentifierReference reference = (TsIdentifierReference) callExpression.getExpression();
-                if (reference.getIdentifier().equals("__identity")) {
-                    // function degenerates to the same value (data.property)
-                    return new TsMemberExpression(new TsIdentifierReference("data"), property.name);
+    private static TsExpression getPropertyCopy(SymbolTable symbolTable, TsModel tsModel, TsPropertyModel property, CopyMethods copyMethods) {
+        final String copyMethodName = ModelCompiler.getValidIdentifierName("__copy" + property.name.substring(0, 1).toUpperCase() + property.name.substring(1));
+        return getCopyExpression(symbolTable, tsModel, property.getTsType(),
+                new TsMemberExpression(new TsIdentifierReference("data"), property.name), copyMethods, copyMethodName);
+    }
+
+    /**
+     * Static methods with copy functions for nested collections created for one bean.
+     * Referencing static method doesn't allocate so these functions can be passed to helper functions instead of closures.
+     */
+    private static class CopyMethods {
+        public final Symbol beanIdentifier;
+        public final Map<String, TsMethodModel> methods = new LinkedHashMap<>();
+        private final Map<String, TsType> methodTypes;
+
+        public CopyMethods(Symbol beanIdentifier, Map<String, TsType> methodTypes) {
+            this.beanIdentifier = beanIdentifier;
+            this.methodTypes = methodTypes;
+        }
+
+        /**
+         * Returns unique name for method copying specified type.
+         * Names derived from property names can collide (for example <code>items: A[][][]</code> and <code>itemsItem: B[][]</code>)
+         * so numeric suffix is added to name which is already used for different type.
+         */
+        public String getMethodName(String proposedName, TsType tsType) {
+            String name = proposedName;
+            for (int i = 2; ; i++) {
+                final TsType existingType = methodTypes.putIfAbsent(name, tsType);
+                if (existingType == null || existingType.equals(tsType)) {
+                    return name;
                 }
+                name = proposedName + i;
             }
         }
-        return new TsCallExpression(
-                copyFunction,
-                new TsMemberExpression(new TsIdentifierReference("data"), property.name)
-        );
     }
 
-    private static TsExpression getCopyFunctionForTsType(SymbolTable symbolTable, TsModel tsModel, TsType tsType) {
+    /**
+     * Returns expression which copies specified value.
+     * Values which don't need to be copied are returned directly (no function call).
+     */
+    private static TsExpression getCopyExpression(SymbolTable symbolTable, TsModel tsModel, TsType tsType, TsExpression value, CopyMethods hoistTarget, String name) {
+        if (tsType instanceof TsType.GenericReferenceType) {
+            // Class.fromData<T1...>(value, constructorFnOfT1...)
+            final TsType.GenericReferenceType genericReferenceType = (TsType.GenericReferenceType) tsType;
+            final List<TsExpression> arguments = new ArrayList<>();
+            arguments.add(value);
+            for (int i = 0; i < genericReferenceType.typeArguments.size(); i++) {
+                final TsExpression copyFunction = getCopyFunction(symbolTable, tsModel, genericReferenceType.typeArguments.get(i), hoistTarget, name + "Arg" + i);
+                arguments.add(copyFunction != null ? copyFunction : new TsIdentifierReference("__identity"));
+            }
+            return new TsCallExpression(
+                    new TsMemberExpression(new TsTypeReferenceExpression(new TsType.ReferenceType(genericReferenceType.symbol)), "fromData"),
+                    genericReferenceType.typeArguments,
+                    arguments
+            );
+        }
+        if (tsType instanceof TsType.BasicArrayType) {
+            // __copyArray(value, itemCopyFn)
+            final TsType.BasicArrayType arrayType = (TsType.BasicArrayType) tsType;
+            return createCopyCollectionCall("__copyArray", value, getCopyFunction(symbolTable, tsModel, arrayType.elementType, hoistTarget, name + "Item"));
+        }
+        if (tsType instanceof TsType.IndexedArrayType) {
+            // __copyObject(value, itemCopyFn)
+            final TsType.IndexedArrayType objectType = (TsType.IndexedArrayType) tsType;
+            return createCopyCollectionCall("__copyObject", value, getCopyFunction(symbolTable, tsModel, objectType.elementType, hoistTarget, name + "Item"));
+        }
+        final TsExpression copyFunction = getCopyFunction(symbolTable, tsModel, tsType, hoistTarget, name);
+        return copyFunction != null
+                ? new TsCallExpression(copyFunction, value)
+                : value;
+    }
+
+    private static TsCallExpression createCopyCollectionCall(String helperName, TsExpression value, TsExpression itemCopyFunction) {
+        return itemCopyFunction != null
+                ? new TsCallExpression(new TsIdentifierReference(helperName), value, itemCopyFunction)
+                : new TsCallExpression(new TsIdentifierReference(helperName), value);
+    }
+
+    /**
+     * Returns function which copies values of specified type or <code>null</code> if values don't need to be copied.
+     * When <code>hoistTarget</code> is specified copy functions for collections and generic classes
+     * which don't depend on type parameters are created as static methods of the bean so no closure is allocated for each copied object.
+     */
+    private static TsExpression getCopyFunction(SymbolTable symbolTable, TsModel tsModel, TsType tsType, CopyMethods hoistTarget, String name) {
+        if (tsType instanceof TsType.GenericReferenceType || isCollectionWithCopiedItems(symbolTable, tsModel, tsType)) {
+            if (hoistTarget != null && !containsGenericVariable(tsType)) {
+                final String methodName = hoistTarget.getMethodName(name, tsType);
+                if (!hoistTarget.methods.containsKey(methodName)) {
+                    hoistTarget.methods.put(methodName, null);
+                    final TsMethodModel copyMethod = new TsMethodModel(
+                            methodName,
+                            TsModifierFlags.None.setStatic(),
+                            null,
+                            Arrays.asList(new TsParameterModel("data", tsType)),
+                            tsType,
+                            Arrays.<TsStatement>asList(new TsReturnStatement(
+                                    getCopyExpression(symbolTable, tsModel, tsType, new TsIdentifierReference("data"), hoistTarget, methodName)
+                            )),
+                            null
+                    );
+                    hoistTarget.methods.put(methodName, copyMethod);
+                }
+                return new TsMemberExpression(new TsTypeReferenceExpression(new TsType.ReferenceType(hoistTarget.beanIdentifier)), methodName);
+            }
+        }
         if (tsType instanceof TsType.GenericReferenceType) {
             final TsType.GenericReferenceType genericReferenceType = (TsType.GenericReferenceType) tsType;
             // Class.fromDataFn<T1...>(constructorFnOfT1...)
             final List<TsExpression> arguments = new ArrayList<>();
-            for (TsType typeArgument : genericReferenceType.typeArguments) {
-                arguments.add(getCopyFunctionForTsType(symbolTable, tsModel, typeArgument));
+            for (int i = 0; i < genericReferenceType.typeArguments.size(); i++) {
+                final TsExpression copyFunction = getCopyFunction(symbolTable, tsModel, genericReferenceType.typeArguments.get(i), hoistTarget, name + "Arg" + i);
+                arguments.add(copyFunction != null ? copyFunction : new TsIdentifierReference("__identity"));
             }
             return new TsCallExpression(
                     new TsMemberExpression(new TsTypeReferenceExpression(new TsType.ReferenceType(genericReferenceType.symbol)), "fromDataFn"),
@@ -288,32 +383,68 @@ public class JsonDeserializationExtension extends Extension {
             }
         }
         if (tsType instanceof TsType.BasicArrayType) {
-            // __getCopyArrayFn
+            // __getCopyArrayFn (closure is needed because item copy function depends on type parameter)
             final TsType.BasicArrayType arrayType = (TsType.BasicArrayType) tsType;
-            return new TsCallExpression(
-                    new TsIdentifierReference("__getCopyArrayFn"),
-                    getCopyFunctionForTsType(symbolTable, tsModel, arrayType.elementType)
-            );
+            final TsExpression itemCopyFunction = getCopyFunction(symbolTable, tsModel, arrayType.elementType, hoistTarget, name + "Item");
+            return itemCopyFunction != null
+                    ? new TsCallExpression(new TsIdentifierReference("__getCopyArrayFn"), itemCopyFunction)
+                    : new TsIdentifierReference("__copyArray");
         }
         if (tsType instanceof TsType.IndexedArrayType) {
-            // __getCopyObjectFn
+            // __getCopyObjectFn (closure is needed because item copy function depends on type parameter)
             final TsType.IndexedArrayType objectType = (TsType.IndexedArrayType) tsType;
-            return new TsCallExpression(
-                    new TsIdentifierReference("__getCopyObjectFn"),
-                    getCopyFunctionForTsType(symbolTable, tsModel, objectType.elementType)
-            );
+            final TsExpression itemCopyFunction = getCopyFunction(symbolTable, tsModel, objectType.elementType, hoistTarget, name + "Item");
+            return itemCopyFunction != null
+                    ? new TsCallExpression(new TsIdentifierReference("__getCopyObjectFn"), itemCopyFunction)
+                    : new TsIdentifierReference("__copyObject");
         }
         if (tsType instanceof TsType.GenericVariableType) {
             // constructorFnOfT
             final TsType.GenericVariableType genericVariableType = (TsType.GenericVariableType) tsType;
             return new TsIdentifierReference("constructorFnOf" + genericVariableType.name);
         }
-        // __identity
-        return new TsCallExpression(
-                new TsIdentifierReference("__identity"),
-                Arrays.asList(tsType),
-                Collections.<TsExpression>emptyList()
-        );
+        // value is not copied
+        return null;
+    }
+
+    private static boolean isCollectionWithCopiedItems(SymbolTable symbolTable, TsModel tsModel, TsType tsType) {
+        if (tsType instanceof TsType.BasicArrayType) {
+            return isCopied(symbolTable, tsModel, ((TsType.BasicArrayType) tsType).elementType);
+        }
+        if (tsType instanceof TsType.IndexedArrayType) {
+            return isCopied(symbolTable, tsModel, ((TsType.IndexedArrayType) tsType).elementType);
+        }
+        return false;
+    }
+
+    private static boolean isCopied(SymbolTable symbolTable, TsModel tsModel, TsType tsType) {
+        if (tsType instanceof TsType.GenericReferenceType
+                || tsType instanceof TsType.BasicArrayType
+                || tsType instanceof TsType.IndexedArrayType
+                || tsType instanceof TsType.GenericVariableType) {
+            return true;
+        }
+        if (tsType instanceof TsType.ReferenceType) {
+            final TsBeanModel referencedBean = tsModel.getBean(symbolTable.getSymbolClass(((TsType.ReferenceType) tsType).symbol));
+            return referencedBean != null && referencedBean.isClass();
+        }
+        return false;
+    }
+
+    private static boolean containsGenericVariable(TsType tsType) {
+        if (tsType instanceof TsType.GenericVariableType) {
+            return true;
+        }
+        if (tsType instanceof TsType.GenericReferenceType) {
+            return ((TsType.GenericReferenceType) tsType).typeArguments.stream().anyMatch(JsonDeserializationExtension::containsGenericVariable);
+        }
+        if (tsType instanceof TsType.BasicArrayType) {
+            return containsGenericVariable(((TsType.BasicArrayType) tsType).elementType);
+        }
+        if (tsType instanceof TsType.IndexedArrayType) {
+            return containsGenericVariable(((TsType.IndexedArrayType) tsType).elementType);
+        }
+        return false;
     }
 
     private static TsMethodModel createDeserializationMethodForTaggedUnion(SymbolTable symbolTable, TsModel tsModel, TsBeanModel bean) {
@@ -392,9 +523,10 @@ public class JsonDeserializationExtension extends Extension {
 
         // todo create changed method instead of modifying existing
         final int index = Math.max(objectLiteral.getPropertyDefinitions().size() - 1, 0);
+        final TsExpression returnDataCopyFunction = getCopyFunction(symbolTable, tsModel, returnDataType, null, null);
         final TsExpression copyFunction = returnDataType == TsType.Void
                 ? TsIdentifierReference.Undefined
-                : getCopyFunctionForTsType(symbolTable, tsModel, returnDataType);
+                : returnDataCopyFunction != null ? returnDataCopyFunction : new TsIdentifierReference("__identity");
         objectLiteral.getPropertyDefinitions().add(index, new TsPropertyDefinition("copyFn", copyFunction));
         return method;
     }
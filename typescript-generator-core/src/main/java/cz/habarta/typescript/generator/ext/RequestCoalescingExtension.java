@@ -0,0 +1,50 @@
+package cz.habarta.typescript.generator.ext;
+
+import cz.habarta.typescript.generator.Extension;
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.emitter.Emitter;
+import cz.habarta.typescript.generator.emitter.EmitterExtensionFeatures;
+import cz.habarta.typescript.generator.emitter.TsBeanModel;
+import cz.habarta.typescript.generator.emitter.TsModel;
+import cz.habarta.typescript.generator.util.Utils;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Generates <code>CoalescingHttpClient</code> which wraps any <code>HttpClient</code> used by generated REST clients.
+ * It de-duplicates identical GET requests in progress, optionally caches GET responses
+ * and allows to plug in batching hook.
+ * Requires <code>RestResponse</code> to be <code>Promise</code> (default or set by {@link AxiosClientExtension}).
+ */
+public class RequestCoalescingExtension extends Extension {
+
+    @Override
+    public EmitterExtensionFeatures getFeatures() {
+        final EmitterExtensionFeatures features = new EmitterExtensionFeatures();
+        features.generatesRuntimeCode = true;
+        features.worksWithPackagesMappedToNamespaces = true;
+        return features;
+    }
+
+    @Override
+    public void emitElements(Writer writer, Settings settings, boolean exportKeyword, TsModel model) {
+        if (!model.getBeans().stream().anyMatch(TsBeanModel::isJaxrsApplicationClientBean)) {
+            return;
+        }
+        if (settings.restResponseType != null && !settings.restResponseType.startsWith("Promise<")) {
+            throw new RuntimeException("'RequestCoalescingExtension' can only be used when 'restResponseType' is Promise.");
+        }
+        final String optionsTypeParameter = settings.restOptionsTypeIsGeneric ? "<" + settings.restOptionsType + ">" : "";
+        final List<String> template = Utils.readLines(getClass().getResourceAsStream("RequestCoalescingExtension.template.ts"));
+        final Map<String, String> replacements = new LinkedHashMap<>();
+        replacements.put("\"", settings.quotes);
+        replacements.put("/*export*/ ", exportKeyword ? "export " : "");
+        replacements.put("$$O$$", optionsTypeParameter);
+        replacements.put("$$HttpClient$$", "HttpClient" + optionsTypeParameter);
+        replacements.put("$$OptionsProperty$$", settings.restOptionsType != null ? " options?: " + settings.restOptionsType + ";" : "");
+        Emitter.writeTemplate(writer, settings, template, replacements);
+    }
+
+}
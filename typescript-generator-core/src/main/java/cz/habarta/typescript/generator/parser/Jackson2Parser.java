@@ -45,7 +45,6 @@ import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
 import com.fasterxml.jackson.databind.ser.BeanSerializer;
 import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
 import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
-import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.module.jakarta.xmlbind.JakartaXmlBindAnnotationIntrospector;
 import com.fasterxml.jackson.module.jaxb.JaxbAnnotationIntrospector;
 import cz.habarta.typescript.generator.ExcludingTypeProcessor;
@@ -76,6 +75,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -117,6 +118,17 @@ public class Jackson2Parser extends ModelParser {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    // introspection caches (parser can be used from multiple threads when parsing in parallel)
+    private final Map<Class<?>, Optional<BeanSerializerHelper>> beanSerializerHelpers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Optional<BeanDeserializerHelper>> beanDeserializerHelpers = new ConcurrentHashMap<>();
+    private final Map<JavaType, Optional<BeanDescription>> serializationBeanDescriptions = new ConcurrentHashMap<>();
+    private final Map<JavaType, Optional<BeanDescription>> deserializationBeanDescriptions = new ConcurrentHashMap<>();
+    private final ThreadLocal<DefaultSerializerProvider> serializerProvider = ThreadLocal.withInitial(() ->
+            new DefaultSerializerProvider.Impl().createInstance(objectMapper.getSerializationConfig(), objectMapper.getSerializerFactory()));
+    private final ThreadLocal<DeserializationContext> deserializationContext = ThreadLocal.withInitial(() ->
+            new DefaultDeserializationContext.Impl(objectMapper.getDeserializationContext().getFactory())
+                    .createInstance(objectMapper.getDeserializationConfig(), null, null));
+
     public Jackson2Parser(Settings settings, TypeProcessor typeProcessor) {
         this(settings, typeProcessor, Collections.emptyList(), false);
     }
@@ -177,6 +189,11 @@ public class Jackson2Parser extends ModelParser {
         return new TypeProcessor.Chain(
                 new ExcludingTypeProcessor(Arrays.asList(JsonNode.class.getName())),
                 new TypeProcessor() {
+                    @Override
+                    public boolean isContextSensitive() {
+                        return true;
+                    }
+
                     @Override
                     public TypeProcessor.Result processType(Type javaType, TypeProcessor.Context context) {
                         if (context.getTypeContext() instanceof Jackson2TypeContext) {
@@ -216,8 +233,7 @@ public class Jackson2Parser extends ModelParser {
                             if (rawClass != null && Map.Entry.class.isAssignableFrom(rawClass)) {
                                 final ObjectMapper objectMapper = jackson2TypeContext.parser.objectMapper;
                                 final SerializationConfig serializationConfig = objectMapper.getSerializationConfig();
-                                final BeanDescription beanDescription = serializationConfig
-                                        .introspect(TypeFactory.defaultInstance().constructType(rawClass));
+                                final BeanDescription beanDescription = jackson2TypeContext.parser.introspectForSerialization(rawClass);
                                 final JsonFormat.Value formatOverride = serializationConfig.getDefaultPropertyFormat(Map.Entry.class);
                                 final JsonFormat.Value formatFromAnnotation = beanDescription.findExpectedFormat(null);
                                 final JsonFormat.Value format = JsonFormat.Value.merge(formatFromAnnotation, formatOverride);
@@ -233,7 +249,7 @@ public class Jackson2Parser extends ModelParser {
         );
     }
 
-    private static class Jackson2TypeContext {
+    private static class Jackson2TypeContext implements TypeProcessor.CacheableTypeContext {
         public final Jackson2Parser parser;
         public final BeanProperty beanProperty;
         public final boolean disableObjectIdentityFeature;
@@ -243,6 +259,20 @@ public class Jackson2Parser extends ModelParser {
             this.beanProperty = beanProperty;
             this.disableObjectIdentityFeature = disableObjectIdentityFeature;
         }
+
+        // data used by specific type processor and processIdentity method
+        @Override
+        public Object getCacheKey() {
+            return Arrays.asList(
+                    parser,
+                    disableObjectIdentityFeature,
+                    beanProperty.getType().getRawClass(),
+                    beanProperty.getAnnotation(JsonSerialize.class),
+                    beanProperty.getAnnotation(JsonDeserialize.class),
+                    beanProperty.getAnnotation(JsonIdentityInfo.class),
+                    beanProperty.getAnnotation(JsonIdentityReference.class)
+            );
+        }
     }
 
     @Override
@@ -339,9 +369,13 @@ public class Jackson2Parser extends ModelParser {
             }
         }
 
-        final List<Class<?>> taggedUnionClasses = getSubClassesFromAnnotation(sourceClass.type)
-                .or(() -> isTaggedUnionParent ? getSubClassesFromResolver(sourceClass.type) : Optional.empty())
-                .orElse(null);
+        // in lazy mode subclasses are only looked up (and parsed) when class has discriminant property
+        // (type of discriminant property is union of literals of all subclasses even if tagged unions are disabled)
+        final List<Class<?>> taggedUnionClasses = settings.lazyParsing && discriminantProperty == null
+                ? null
+                : getSubClassesFromAnnotation(sourceClass.type)
+                        .or(() -> isTaggedUnionParent ? getSubClassesFromResolver(sourceClass.type) : Optional.empty())
+                        .orElse(null);
         if (taggedUnionClasses != null) {
             taggedUnionClasses.forEach(subClass -> addBeanToQueue(new SourceType<>(subClass, sourceClass.type, "<subClass>")));
         }
@@ -537,20 +571,40 @@ public class Jackson2Parser extends ModelParser {
         if (beanClass == Enum.class) {
             return null;
         }
-        final JavaType javaType = objectMapper.constructType(beanClass);
-        final BeanSerializerHelper beanSerializerHelper = createBeanSerializerHelper(javaType);
-        final BeanDeserializerHelper beanDeserializerHelper = createBeanDeserializerHelper(javaType);
+        final BeanSerializerHelper beanSerializerHelper = getCached(beanSerializerHelpers, beanClass, this::createBeanSerializerHelper);
+        final BeanDeserializerHelper beanDeserializerHelper = getCached(beanDeserializerHelpers, beanClass, this::createBeanDeserializerHelper);
         if (beanSerializerHelper != null || beanDeserializerHelper != null) {
             return new BeanHelpers(beanClass, view, beanSerializerHelper, beanDeserializerHelper);
         }
         return null;
     }
 
-    private BeanSerializerHelper createBeanSerializerHelper(JavaType javaType) {
+    /**
+     * Returns cached value or computes and caches it. Null values are cached too.
+     * Value is computed outside of the map so the function can use other caches.
+     */
+    private static <K, V> V getCached(Map<K, Optional<V>> cache, K key, Function<K, V> function) {
+        final Optional<V> cached = cache.get(key);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+        final V value = function.apply(key);
+        cache.putIfAbsent(key, Optional.ofNullable(value));
+        return value;
+    }
+
+    private BeanDescription introspectForSerialization(Class<?> cls) {
+        return getCached(serializationBeanDescriptions, objectMapper.constructType(cls), objectMapper.getSerializationConfig()::introspect);
+    }
+
+    private BeanDescription introspectForDeserialization(JavaType javaType) {
+        return getCached(deserializationBeanDescriptions, javaType, objectMapper.getDeserializationConfig()::introspect);
+    }
+
+    private BeanSerializerHelper createBeanSerializerHelper(Class<?> beanClass) {
         try {
-            final DefaultSerializerProvider.Impl serializerProvider = new DefaultSerializerProvider.Impl()
-                    .createInstance(objectMapper.getSerializationConfig(), objectMapper.getSerializerFactory());
-            final JsonSerializer<?> jsonSerializer = BeanSerializerFactory.instance.createSerializer(serializerProvider, javaType);
+            final JavaType javaType = objectMapper.constructType(beanClass);
+            final JsonSerializer<?> jsonSerializer = BeanSerializerFactory.instance.createSerializer(serializerProvider.get(), javaType);
             if (jsonSerializer != null && jsonSerializer instanceof BeanSerializer) {
                 return new BeanSerializerHelper((BeanSerializer) jsonSerializer);
             } else {
@@ -561,12 +615,11 @@ public class Jackson2Parser extends ModelParser {
         }
     }
 
-    private BeanDeserializerHelper createBeanDeserializerHelper(JavaType javaType) {
+    private BeanDeserializerHelper createBeanDeserializerHelper(Class<?> beanClass) {
         try {
-            final DeserializationContext deserializationContext = new DefaultDeserializationContext.Impl(objectMapper.getDeserializationContext().getFactory())
-                    .createInstance(objectMapper.getDeserializationConfig(), null, null);
-            final BeanDescription beanDescription = deserializationContext.getConfig().introspect(javaType);
-            final JsonDeserializer<?> jsonDeserializer = BeanDeserializerFactory.instance.createBeanDeserializer(deserializationContext, javaType, beanDescription);
+            final JavaType javaType = objectMapper.constructType(beanClass);
+            final BeanDescription beanDescription = introspectForDeserialization(javaType);
+            final JsonDeserializer<?> jsonDeserializer = BeanDeserializerFactory.instance.createBeanDeserializer(deserializationContext.get(), javaType, beanDescription);
             if (jsonDeserializer != null && jsonDeserializer instanceof BeanDeserializer) {
                 return new BeanDeserializerHelper((BeanDeserializer) jsonDeserializer);
             } else {
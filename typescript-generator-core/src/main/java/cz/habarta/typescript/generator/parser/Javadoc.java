@@ -11,42 +11,117 @@ import cz.habarta.typescript.generator.xmldoclet.EnumConstant;
 import cz.habarta.typescript.generator.xmldoclet.Field;
 import cz.habarta.typescript.generator.xmldoclet.Interface;
 import cz.habarta.typescript.generator.xmldoclet.Method;
-import cz.habarta.typescript.generator.xmldoclet.Package;
 import cz.habarta.typescript.generator.xmldoclet.Root;
 import cz.habarta.typescript.generator.xmldoclet.TagInfo;
-import jakarta.xml.bind.JAXB;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Unmarshaller;
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 
 public class Javadoc {
 
     private final String newline;
-    private final List<Root> dRoots;
+    private final List<File> javadocXmlFiles;
+    private final Map<String, Class> dClasses = new HashMap<>();
+    private final Map<String, Interface> dInterfaces = new HashMap<>();
+    private final Map<String, Enum> dEnums = new HashMap<>();
 
     public Javadoc(Settings settings) {
         Objects.requireNonNull(settings, "settings");
         this.newline = settings.newline;
-        this.dRoots = loadJavadocXmlFiles(settings.javadocXmlFiles);
+        this.javadocXmlFiles = settings.javadocXmlFiles;
     }
 
-    private static List<Root> loadJavadocXmlFiles(List<File> javadocXmlFiles) {
-        final List<Root> dRoots = new ArrayList<>();
-        if (javadocXmlFiles != null) {
+    /**
+     * Streams Javadoc XML files and unmarshals only classes, interfaces and enums with specified qualified names.
+     * If the same type is present in multiple files the first one is used.
+     */
+    private void loadJavadocXmlFiles(Set<String> qualifiedNames) {
+        dClasses.clear();
+        dInterfaces.clear();
+        dEnums.clear();
+        if (javadocXmlFiles == null || javadocXmlFiles.isEmpty() || qualifiedNames.isEmpty()) {
+            return;
+        }
+        try {
+            final Unmarshaller unmarshaller = JAXBContext.newInstance(Root.class).createUnmarshaller();
+            final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+            inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
             for (File file : javadocXmlFiles) {
                 TypeScriptGenerator.getLogger().info("Loading Javadoc XML file: " + file);
-                final Root dRoot = JAXB.unmarshal(file, Root.class);
-                dRoots.add(dRoot);
+                try (InputStream inputStream = new BufferedInputStream(new FileInputStream(file))) {
+                    final XMLStreamReader reader = inputFactory.createXMLStreamReader(inputStream);
+                    try {
+                        loadJavadocXml(reader, unmarshaller, qualifiedNames);
+                    } finally {
+                        reader.close();
+                    }
+                }
             }
+        } catch (JAXBException | XMLStreamException | IOException e) {
+            throw new RuntimeException(e);
         }
-        return dRoots;
+    }
+
+    private void loadJavadocXml(XMLStreamReader reader, Unmarshaller unmarshaller, Set<String> qualifiedNames) throws JAXBException, XMLStreamException {
+        // <root> / <package> / <class | interface | enum>
+        final int typeDepth = 2;
+        int depth = 0;
+        while (reader.hasNext()) {
+            if (reader.isStartElement()) {
+                final String qualifiedName = depth == typeDepth ? reader.getAttributeValue(null, "qualified") : null;
+                if (qualifiedName != null && qualifiedNames.contains(qualifiedName)) {
+                    final String elementName = reader.getLocalName();
+                    // unmarshaller moves the reader after the end of the element
+                    if (elementName.equals("class")) {
+                        dClasses.putIfAbsent(qualifiedName, unmarshaller.unmarshal(reader, Class.class).getValue());
+                        continue;
+                    } else if (elementName.equals("interface")) {
+                        dInterfaces.putIfAbsent(qualifiedName, unmarshaller.unmarshal(reader, Interface.class).getValue());
+                        continue;
+                    } else if (elementName.equals("enum")) {
+                        dEnums.putIfAbsent(qualifiedName, unmarshaller.unmarshal(reader, Enum.class).getValue());
+                        continue;
+                    }
+                }
+                depth++;
+            } else if (reader.isEndElement()) {
+                depth--;
+            }
+            reader.next();
+        }
+    }
+
+    private static String getQualifiedName(java.lang.Class<?> cls) {
+        return cls.getName().replace('$', '.');
     }
 
     // enrichers
 
     public Model enrichModel(Model model) {
+        final Set<String> qualifiedNames = new HashSet<>();
+        model.getBeans().forEach(bean -> qualifiedNames.add(getQualifiedName(bean.getOrigin())));
+        model.getEnums().forEach(enumModel -> qualifiedNames.add(getQualifiedName(enumModel.getOrigin())));
+        model.getRestApplications().stream()
+                .flatMap(restApplication -> restApplication.getMethods().stream())
+                .forEach(restMethod -> qualifiedNames.add(getQualifiedName(restMethod.getOriginClass())));
+        loadJavadocXmlFiles(qualifiedNames);
         final List<BeanModel> dBeans = new ArrayList<>();
         for (BeanModel bean : model.getBeans()) {
             final BeanModel dBean = enrichBean(bean);
@@ -67,12 +142,12 @@ public class Javadoc {
 
     private BeanModel enrichBean(BeanModel bean) {
         if (bean.getOrigin().isInterface()) {
-            final Interface dInterface = findJavadocInterface(bean.getOrigin(), dRoots);
+            final Interface dInterface = findJavadocInterface(bean.getOrigin());
             if (dInterface != null) {
                 return enrichBean(bean, dInterface.getComment(), dInterface.getTag(), dInterface.getField(), dInterface.getMethod());
             }
         } else {
-            final Class dClass = findJavadocClass(bean.getOrigin(), dRoots);
+            final Class dClass = findJavadocClass(bean.getOrigin());
             if (dClass != null) {
                 return enrichBean(bean, dClass.getComment(), dClass.getTag(), dClass.getField(), dClass.getMethod());
             }
@@ -116,7 +191,7 @@ public class Javadoc {
     }
 
     private EnumModel enrichEnum(EnumModel enumModel) {
-        final Enum dEnum = findJavadocEnum(enumModel.getOrigin(), dRoots);
+        final Enum dEnum = findJavadocEnum(enumModel.getOrigin());
         final List<EnumMemberModel> enrichedMembers = new ArrayList<>();
         for (EnumMemberModel member : enumModel.getMembers()) {
             final EnumMemberModel enrichedMember = enrichEnumMember(member, dEnum);
@@ -147,7 +222,7 @@ public class Javadoc {
     }
 
     private RestMethodModel enrichRestMethod(RestMethodModel method) {
-        final Method dMethod = findJavadocMethod(method.getOriginClass(), method.getName(), dRoots);
+        final Method dMethod = findJavadocMethod(method.getOriginClass(), method.getName());
         final String comment = dMethod != null ? dMethod.getComment() : null;
         final List<TagInfo> tags = dMethod != null ? dMethod.getTag() : null;
         return method
@@ -156,9 +231,9 @@ public class Javadoc {
 
     // finders
 
-    private static Method findJavadocMethod(java.lang.Class<?> cls, String name, List<Root> dRoots) {
-        final Class dClass = findJavadocClass(cls, dRoots);
-        final Interface dInterface = findJavadocInterface(cls, dRoots);
+    private Method findJavadocMethod(java.lang.Class<?> cls, String name) {
+        final Class dClass = findJavadocClass(cls);
+        final Interface dInterface = findJavadocInterface(cls);
         if (dClass != null) {
             return findJavadocMethod(name, dClass.getMethod());
         } else if (dInterface != null) {
@@ -168,32 +243,12 @@ public class Javadoc {
         }
     }
 
-    private static Class findJavadocClass(java.lang.Class<?> cls, List<Root> dRoots) {
-        final String name = cls.getName().replace('$', '.');
-        for (Root dRoot : dRoots) {
-            for (Package dPackage : dRoot.getPackage()) {
-                for (Class dClass : dPackage.getClazz()) {
-                    if (dClass.getQualified().equals(name)) {
-                        return dClass;
-                    }
-                }
-            }
-        }
-        return null;
+    private Class findJavadocClass(java.lang.Class<?> cls) {
+        return dClasses.get(getQualifiedName(cls));
     }
 
-    private static Interface findJavadocInterface(java.lang.Class<?> cls, List<Root> dRoots) {
-        final String name = cls.getName().replace('$', '.');
-        for (Root dRoot : dRoots) {
-            for (Package dPackage : dRoot.getPackage()) {
-                for (Interface dInterface : dPackage.getInterface()) {
-                    if (dInterface.getQualified().equals(name)) {
-                        return dInterface;
-                    }
-                }
-            }
-        }
-        return null;
+    private Interface findJavadocInterface(java.lang.Class<?> cls) {
+        return dInterfaces.get(getQualifiedName(cls));
     }
 
     private static Field findJavadocField(String name, List<Field> dFields) {
@@ -218,18 +273,8 @@ public class Javadoc {
         return null;
     }
 
-    private static Enum findJavadocEnum(java.lang.Class<?> cls, List<Root> dRoots) {
-        final String name = cls.getName().replace('$', '.');
-        for (Root dRoot : dRoots) {
-            for (Package dPackage : dRoot.getPackage()) {
-                for (Enum dEnum : dPackage.getEnum()) {
-                    if (dEnum.getQualified().equals(name)) {
-                        return dEnum;
-                    }
-                }
-            }
-        }
-        return null;
+    private Enum findJavadocEnum(java.lang.Class<?> cls) {
+        return dEnums.get(getQualifiedName(cls));
     }
 
     private static EnumConstant findJavadocEnumConstant(String name, Enum dEnum) {
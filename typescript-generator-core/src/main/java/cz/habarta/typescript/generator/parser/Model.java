@@ -1,6 +1,8 @@
 
 package cz.habarta.typescript.generator.parser;
 
+import cz.habarta.typescript.generator.util.ListIndex;
+import cz.habarta.typescript.generator.util.TrackingList;
 import java.util.List;
 import java.util.Objects;
 
@@ -10,11 +12,13 @@ public class Model {
     private final List<BeanModel> beans;
     private final List<EnumModel> enums;
     private final List<RestApplicationModel> restApplications;
+    private final ListIndex<Class<?>, BeanModel> beansByOrigin;
 
     public Model(List<BeanModel> beans, List<EnumModel> enums, List<RestApplicationModel> restApplications) {
-        this.beans = Objects.requireNonNull(beans);
+        this.beans = TrackingList.of(Objects.requireNonNull(beans));
         this.enums = Objects.requireNonNull(enums);
         this.restApplications = restApplications;
+        this.beansByOrigin = new ListIndex<>(this.beans, BeanModel::getOrigin);
     }
 
     public List<BeanModel> getBeans() {
@@ -22,12 +26,7 @@ public class Model {
     }
 
     public BeanModel getBean(Class<?> beanClass) {
-        for (BeanModel bean : beans) {
-            if (bean.getOrigin().equals(beanClass)) {
-                return bean;
-            }
-        }
-        return null;
+        return beansByOrigin.get(beanClass);
     }
 
     public List<EnumModel> getEnums() {
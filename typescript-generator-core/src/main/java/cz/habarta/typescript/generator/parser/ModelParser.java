@@ -1,6 +1,7 @@
 
 package cz.habarta.typescript.generator.parser;
 
+import cz.habarta.typescript.generator.GenerationMetrics;
 import cz.habarta.typescript.generator.OptionalProperties;
 import cz.habarta.typescript.generator.Settings;
 import cz.habarta.typescript.generator.TsType;
@@ -8,6 +9,7 @@ import cz.habarta.typescript.generator.TypeProcessor;
 import cz.habarta.typescript.generator.TypeScriptGenerator;
 import cz.habarta.typescript.generator.compiler.EnumKind;
 import cz.habarta.typescript.generator.compiler.EnumMemberModel;
+import cz.habarta.typescript.generator.type.TypeKey;
 import cz.habarta.typescript.generator.util.AnnotationGetter;
 import cz.habarta.typescript.generator.util.GenericsResolver;
 import cz.habarta.typescript.generator.util.PropertyMember;
@@ -18,13 +20,18 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.LinkedList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -36,8 +43,10 @@ public abstract class ModelParser {
     private final Javadoc javadoc;
     private final DeprecationEnricher deprecationEnricher;
     private final Queue<SourceType<? extends Type>> typeQueue;
+    private final Set<TypeKey> queuedTypes;
     private final TypeProcessor commonTypeProcessor;
     private final List<RestApplicationParser> restApplicationParsers;
+    private final ThreadLocal<List<SourceType<? extends Type>>> discoveredTypesCollector = new ThreadLocal<>();
         
     public static abstract class Factory {
 
@@ -53,7 +62,8 @@ public abstract class ModelParser {
         this.settings = settings;
         this.javadoc = new Javadoc(settings);
         this.deprecationEnricher = new DeprecationEnricher();
-        this.typeQueue = new LinkedList<>();
+        this.typeQueue = new ArrayDeque<>();
+        this.queuedTypes = new HashSet<>();
         this.restApplicationParsers = restApplicationParsers;
         this.commonTypeProcessor = commonTypeProcessor;
     }
@@ -63,67 +73,170 @@ public abstract class ModelParser {
     }
 
     public Model parseModel(List<SourceType<Type>> types) {
-        typeQueue.addAll(types);
-        Model model = parseQueue();
+        return parseModel(types, new GenerationMetrics(null));
+    }
+
+    public Model parseModel(List<SourceType<Type>> types, GenerationMetrics metrics) {
+        types.forEach(this::enqueue);
+        Model model = metrics.measure("parsing", this::parseQueue, ModelParser::countDeclarations);
         if (!settings.ignoreSwaggerAnnotations) {
-            model = Swagger.enrichModel(model);
+            model = metrics.measure("enricher Swagger", model, Swagger::enrichModel, ModelParser::countDeclarations);
         }
-        model = javadoc.enrichModel(model);
-        model = deprecationEnricher.enrichModel(model);
+        model = metrics.measure("enricher Javadoc", model, javadoc::enrichModel, ModelParser::countDeclarations);
+        model = metrics.measure("enricher DeprecationEnricher", model, deprecationEnricher::enrichModel, ModelParser::countDeclarations);
         return model;
     }
 
+    private static int countDeclarations(Model model) {
+        return model.getBeans().size() + model.getEnums().size();
+    }
+
     private Model parseQueue() {
-        final Collection<Type> parsedTypes = new ArrayList<>();  // do not use hashcodes, we can only count on `equals` since we use custom `ParameterizedType`s
         final List<BeanModel> beans = new ArrayList<>();
         final List<EnumModel> enums = new ArrayList<>();
-        SourceType<? extends Type> sourceType;
-        while ((sourceType = typeQueue.poll()) != null) {
-            if (parsedTypes.contains(sourceType.type)) {
-                continue;
+        if (settings.parallelParsing) {
+            parseQueueInParallel(beans, enums);
+        } else {
+            SourceType<? extends Type> sourceType;
+            while ((sourceType = typeQueue.poll()) != null) {
+                if (tryParseRestApplication(sourceType, this::enqueue)) {
+                    continue;
+                }
+                addDeclaration(parseSourceType(sourceType), beans, enums);
             }
-            parsedTypes.add(sourceType.type);
-
-            // REST resource
-            boolean parsedByRestApplicationParser = false;
-            for (RestApplicationParser restApplicationParser : restApplicationParsers) {
-                final JaxrsApplicationParser.Result jaxrsResult = restApplicationParser.tryParse(sourceType);
-                if (jaxrsResult != null) {
-                    typeQueue.addAll(jaxrsResult.discoveredTypes);
-                    parsedByRestApplicationParser = true;
+        }
+        queuedTypes.clear();
+        final List<RestApplicationModel> restModels = restApplicationParsers.stream()
+                .map(RestApplicationParser::getModel)
+                .collect(Collectors.toList());
+        return new Model(beans, enums, restModels);
+    }
+
+    /**
+     * Parses queue in waves. Each wave takes all currently queued types and parses them on fork-join pool.
+     * Types discovered by each item are collected and enqueued after the wave in original item order
+     * so resulting beans and enums are in the same order as in sequential mode.
+     * Queue and set of queued types are only accessed from calling thread.
+     */
+    private void parseQueueInParallel(List<BeanModel> beans, List<EnumModel> enums) {
+        // initialize lazily created settings objects before they are used from multiple threads
+        settings.getTypeParser();
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), forkJoinPool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        }, null, false);
+        try {
+            while (!typeQueue.isEmpty()) {
+                final List<ParsingItem> wave = new ArrayList<>();
+                SourceType<? extends Type> sourceType;
+                while ((sourceType = typeQueue.poll()) != null) {
+                    final ParsingItem item = new ParsingItem(sourceType);
+                    item.parsedByRestApplicationParser = tryParseRestApplication(sourceType, item.discoveredTypes::add);
+                    wave.add(item);
+                }
+                TypeScriptGenerator.getLogger().verbose("Parsing " + wave.size() + " types in parallel");
+                pool.submit(() -> wave.parallelStream()
+                        .filter(item -> !item.parsedByRestApplicationParser)
+                        .forEach(this::parseItem)
+                ).get();
+                for (ParsingItem item : wave) {
+                    addDeclaration(item.model, beans, enums);
+                    item.discoveredTypes.forEach(this::enqueue);
                 }
             }
-            if (parsedByRestApplicationParser) {
-                continue;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void parseItem(ParsingItem item) {
+        discoveredTypesCollector.set(item.discoveredTypes);
+        try {
+            item.model = parseSourceType(item.sourceType);
+        } finally {
+            discoveredTypesCollector.remove();
+        }
+    }
+
+    private static class ParsingItem {
+        public final SourceType<? extends Type> sourceType;
+        public final List<SourceType<? extends Type>> discoveredTypes = new ArrayList<>();
+        public boolean parsedByRestApplicationParser;
+        public DeclarationModel model;
+
+        public ParsingItem(SourceType<? extends Type> sourceType) {
+            this.sourceType = sourceType;
+        }
+    }
+
+    private boolean tryParseRestApplication(SourceType<? extends Type> sourceType, Consumer<SourceType<? extends Type>> discoveredTypeConsumer) {
+        boolean parsedByRestApplicationParser = false;
+        for (RestApplicationParser restApplicationParser : restApplicationParsers) {
+            final JaxrsApplicationParser.Result jaxrsResult = restApplicationParser.tryParse(sourceType);
+            if (jaxrsResult != null) {
+                jaxrsResult.discoveredTypes.forEach(discoveredTypeConsumer);
+                parsedByRestApplicationParser = true;
             }
+        }
+        return parsedByRestApplicationParser;
+    }
 
-            final TypeProcessor.Result result = commonTypeProcessor.processTypeInTemporaryContext(sourceType.type, null, settings);
-            if (result != null) {
-                if (sourceType.type instanceof Class<?> && result.getTsType() instanceof TsType.ReferenceType) {
-                    final Class<?> cls = (Class<?>) sourceType.type;
-                    final TsType.ReferenceType referenceType = (TsType.ReferenceType) result.getTsType();
-                    if (!referenceType.symbol.isResolved()) {
-                        TypeScriptGenerator.getLogger().verbose("Parsing '" + cls.getName() + "'" +
-                                (sourceType.usedInClass != null ? " used in '" + sourceType.usedInClass.getSimpleName() + "." + sourceType.usedInMember + "'" : ""));
-                        final DeclarationModel model = parseClass(sourceType.asSourceClass());
-                        if (model instanceof EnumModel) {
-                            enums.add((EnumModel) model);
-                        } else if (model instanceof BeanModel) {
-                            beans.add((BeanModel) model);
-                        } else {
-                            throw new RuntimeException();
-                        }
+    private DeclarationModel parseSourceType(SourceType<? extends Type> sourceType) {
+        DeclarationModel model = null;
+        final TypeProcessor.Result result = commonTypeProcessor.processTypeInTemporaryContext(sourceType.type, null, settings);
+        if (result != null) {
+            if (sourceType.type instanceof Class<?> && result.getTsType() instanceof TsType.ReferenceType) {
+                final Class<?> cls = (Class<?>) sourceType.type;
+                final TsType.ReferenceType referenceType = (TsType.ReferenceType) result.getTsType();
+                if (!referenceType.symbol.isResolved()) {
+                    TypeScriptGenerator.getLogger().verbose("Parsing '" + cls.getName() + "'" +
+                            (sourceType.usedInClass != null ? " used in '" + sourceType.usedInClass.getSimpleName() + "." + sourceType.usedInMember + "'" : ""));
+                    model = parseClass(sourceType.asSourceClass());
+                    if (!(model instanceof EnumModel) && !(model instanceof BeanModel)) {
+                        throw new RuntimeException();
                     }
                 }
-                for (Class<?> cls : result.getDiscoveredClasses()) {
-                    typeQueue.add(new SourceType<>(cls, sourceType.usedInClass, sourceType.usedInMember));
-                }
+            }
+            for (Class<?> cls : result.getDiscoveredClasses()) {
+                enqueue(new SourceType<>(cls, sourceType.usedInClass, sourceType.usedInMember));
             }
         }
-        final List<RestApplicationModel> restModels = restApplicationParsers.stream()
-                .map(RestApplicationParser::getModel)
-                .collect(Collectors.toList());
-        return new Model(beans, enums, restModels);
+        return model;
+    }
+
+    private static void addDeclaration(DeclarationModel model, List<BeanModel> beans, List<EnumModel> enums) {
+        if (model instanceof EnumModel) {
+            enums.add((EnumModel) model);
+        } else if (model instanceof BeanModel) {
+            beans.add((BeanModel) model);
+        }
+    }
+
+    /**
+     * Adds type to the queue unless the same type was already queued.
+     * Types are compared structurally using {@link TypeKey} so different `ParameterizedType` implementations are considered the same.
+     * Since the queue is FIFO, skipping the type here is equivalent to skipping it later when it is dequeued.
+     * When called from parallel parsing worker the type is only collected and enqueued later by calling thread.
+     */
+    private void enqueue(SourceType<? extends Type> sourceType) {
+        final List<SourceType<? extends Type>> collector = discoveredTypesCollector.get();
+        if (collector != null) {
+            collector.add(sourceType);
+            return;
+        }
+        if (queuedTypes.add(TypeKey.of(sourceType.type))) {
+            typeQueue.add(sourceType);
+        }
     }
 
     protected abstract DeclarationModel parseClass(SourceType<Class<?>> sourceClass);
@@ -208,14 +321,14 @@ public abstract class ModelParser {
     }
 
     protected void addBeanToQueue(SourceType<? extends Type> sourceType) {
-        typeQueue.add(sourceType);
+        enqueue(sourceType);
     }
 
     protected PropertyModel processTypeAndCreateProperty(String name, Type type, Object typeContext, boolean optional, PropertyAccess access, Class<?> usedInClass, Member originalMember, PropertyModel.PullProperties pullProperties, List<String> comments) {
         final Type resolvedType = GenericsResolver.resolveType(usedInClass, type, originalMember.getDeclaringClass());
         final List<Class<?>> classes = commonTypeProcessor.discoverClassesUsedInType(resolvedType, typeContext, settings);
         for (Class<?> cls : classes) {
-            typeQueue.add(new SourceType<>(cls, usedInClass, name));
+            enqueue(new SourceType<>(cls, usedInClass, name));
         }
         return new PropertyModel(name, resolvedType, optional, access, originalMember, pullProperties, typeContext, comments);
     }
@@ -20,11 +20,14 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import kotlin.Metadata;
@@ -163,6 +166,12 @@ public class TypeParser {
     private static class KotlinTypeParser implements LanguageTypeParser {
 
         private final JavaTypeParser javaTypeParser;
+        private final ClassValue<KotlinClassIndex> classIndexes = new ClassValue<KotlinClassIndex>() {
+            @Override
+            protected KotlinClassIndex computeValue(Class<?> cls) {
+                return new KotlinClassIndex(cls);
+            }
+        };
 
         public KotlinTypeParser(JavaTypeParser javaTypeParser) {
             this.javaTypeParser = javaTypeParser;
@@ -172,59 +181,93 @@ public class TypeParser {
             return cls.isAnnotationPresent(Metadata.class);
         }
 
+        /**
+         * Kotlin types of members of one class. Kotlin reflection is slow so members are resolved only once.
+         * Empty Optional means that Kotlin declaration was not found and Java type should be used.
+         */
+        private static class KotlinClassIndex {
+            private final Class<?> cls;
+            private volatile Map<Method, KProperty1<?, ?>> propertiesByGetter;
+            public final Map<Field, Optional<Type>> fieldTypes = new ConcurrentHashMap<>();
+            public final Map<Method, Optional<Type>> methodReturnTypes = new ConcurrentHashMap<>();
+            public final Map<Executable, Optional<List<Type>>> parameterTypes = new ConcurrentHashMap<>();
+
+            public KotlinClassIndex(Class<?> cls) {
+                this.cls = cls;
+            }
+
+            public KProperty1<?, ?> getPropertyByGetter(Method getter) {
+                if (propertiesByGetter == null) {
+                    final Map<Method, KProperty1<?, ?>> properties = new HashMap<>();
+                    final KClass<?> kClass = JvmClassMappingKt.getKotlinClass(cls);
+                    for (KProperty1<?, ?> kProperty : KClasses.getMemberProperties(kClass)) {
+                        final Method javaGetter = ReflectJvmMapping.getJavaGetter(kProperty);
+                        if (javaGetter != null) {
+                            properties.putIfAbsent(javaGetter, kProperty);
+                        }
+                    }
+                    propertiesByGetter = properties;
+                }
+                return propertiesByGetter.get(getter);
+            }
+        }
+
         @Override
         public Type getFieldType(Field field) {
-            final KProperty<?> kProperty = ReflectJvmMapping.getKotlinProperty(field);
-            if (kProperty != null) {
-                return getType(kProperty.getReturnType(), new LinkedHashMap<>());
-            }
-            return javaTypeParser.getFieldType(field);
+            final Optional<Type> type = classIndexes.get(field.getDeclaringClass()).fieldTypes.computeIfAbsent(field, f -> {
+                final KProperty<?> kProperty = ReflectJvmMapping.getKotlinProperty(f);
+                return kProperty != null
+                        ? Optional.of(getType(kProperty.getReturnType(), new LinkedHashMap<>()))
+                        : Optional.empty();
+            });
+            return type.orElseGet(() -> javaTypeParser.getFieldType(field));
         }
 
         @Override
         public Type getMethodReturnType(Method method) {
-            final KFunction<?> kFunction = ReflectJvmMapping.getKotlinFunction(method);
-            if (kFunction != null) {
-                return getType(kFunction.getReturnType(), new LinkedHashMap<>());
-            } else {
+            final KotlinClassIndex classIndex = classIndexes.get(method.getDeclaringClass());
+            final Optional<Type> type = classIndex.methodReturnTypes.computeIfAbsent(method, m -> {
+                final KFunction<?> kFunction = ReflectJvmMapping.getKotlinFunction(m);
+                if (kFunction != null) {
+                    return Optional.of(getType(kFunction.getReturnType(), new LinkedHashMap<>()));
+                }
                 // `method` might be a getter so try to find a corresponding kotlin property and use its return type
-                final KClass<?> kClass = JvmClassMappingKt.getKotlinClass(method.getDeclaringClass());
-                final Optional<KType> kType = KClasses.getMemberProperties(kClass).stream()
-                        .filter(kProperty -> Objects.equals(ReflectJvmMapping.getJavaGetter(kProperty), method))
-                        .map(KProperty1::getReturnType)
-                        .findFirst();
-                if (kType.isPresent()) {
-                    return getType(kType.get(), new LinkedHashMap<>());
+                final KProperty1<?, ?> kProperty = classIndex.getPropertyByGetter(m);
+                if (kProperty != null) {
+                    return Optional.of(getType(kProperty.getReturnType(), new LinkedHashMap<>()));
                 }
-            }
-            return javaTypeParser.getMethodReturnType(method);
+                return Optional.empty();
+            });
+            return type.orElseGet(() -> javaTypeParser.getMethodReturnType(method));
         }
 
         @Override
         public List<Type> getMethodParameterTypes(Method method) {
-            final KFunction<?> kFunction = ReflectJvmMapping.getKotlinFunction(method);
-            return getKFunctionParameterTypes(method, kFunction);
+            return getKFunctionParameterTypes(method, ReflectJvmMapping::getKotlinFunction);
         }
 
         @Override
         public List<Type> getConstructorParameterTypes(Constructor<?> constructor) {
-            final KFunction<?> kFunction = ReflectJvmMapping.getKotlinFunction(constructor);
-            return getKFunctionParameterTypes(constructor, kFunction);
+            return getKFunctionParameterTypes(constructor, ReflectJvmMapping::getKotlinFunction);
         }
 
-        private List<Type> getKFunctionParameterTypes(Executable executable, KFunction<?> kFunction) {
-            if (kFunction != null) {
+        private <E extends Executable> List<Type> getKFunctionParameterTypes(E executable, Function<E, KFunction<?>> kFunctionGetter) {
+            final Optional<List<Type>> types = classIndexes.get(executable.getDeclaringClass()).parameterTypes.computeIfAbsent(executable, e -> {
+                final KFunction<?> kFunction = kFunctionGetter.apply(executable);
+                if (kFunction == null) {
+                    return Optional.empty();
+                }
                 final List<KParameter> kParameters = kFunction.getParameters().stream()
                         .filter(kParameter -> kParameter.getKind() == KParameter.Kind.VALUE)
                         .collect(Collectors.toList());
-                return getTypes(
+                return Optional.of(Collections.unmodifiableList(getTypes(
                         kParameters.stream()
                                 .map(parameter -> parameter.getType())
                                 .collect(Collectors.toList()),
                         new LinkedHashMap<>()
-                );
-            }
-            return javaTypeParser.getExecutableParameterTypes(executable);
+                )));
+            });
+            return types.orElseGet(() -> javaTypeParser.getExecutableParameterTypes(executable));
         }
 
         private Type getType(KType kType, Map<String, JTypeVariable<?>> typeParameters) {
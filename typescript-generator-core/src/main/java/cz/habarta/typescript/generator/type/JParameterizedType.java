@@ -38,7 +38,8 @@ public class JParameterizedType implements ParameterizedType {
 
     @Override
     public int hashCode() {
-        return Objects.hash(ownerType, rawType, actualTypeArguments);
+        // same as JDK implementation so that equal instances have equal hash codes
+        return Arrays.hashCode(actualTypeArguments) ^ Objects.hashCode(ownerType) ^ Objects.hashCode(rawType);
     }
 
     @Override
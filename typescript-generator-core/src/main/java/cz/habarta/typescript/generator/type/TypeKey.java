@@ -0,0 +1,181 @@
+
+package cz.habarta.typescript.generator.type;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * Hash key with structural identity for {@link Type}s.
+ * Types are compared by their structure regardless of implementation
+ * so JDK types and types from this package (like {@link JParameterizedType}) with the same structure are equal.
+ * Hash code is computed once.
+ */
+public final class TypeKey {
+
+    private static final Type[] OBJECT_BOUNDS = new Type[] { Object.class };
+
+    private final Type type;
+    private final int hash;
+
+    private TypeKey(Type type) {
+        this.type = Objects.requireNonNull(type, "type");
+        this.hash = typeHashCode(type);
+    }
+
+    public static TypeKey of(Type type) {
+        return new TypeKey(type);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof TypeKey) {
+            final TypeKey that = (TypeKey) obj;
+            return hash == that.hash && typeEquals(type, that.type);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return type.getTypeName();
+    }
+
+    private static int typeHashCode(Type type) {
+        if (type == null) {
+            return 0;
+        }
+        if (type instanceof Class<?>) {
+            return type.hashCode();
+        }
+        if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterizedType = (ParameterizedType) type;
+            return typesHashCode(parameterizedType.getActualTypeArguments())
+                    ^ typeHashCode(parameterizedType.getOwnerType())
+                    ^ typeHashCode(parameterizedType.getRawType());
+        }
+        if (type instanceof GenericArrayType) {
+            final GenericArrayType genericArrayType = (GenericArrayType) type;
+            return 31 * typeHashCode(genericArrayType.getGenericComponentType()) + 1;
+        }
+        if (type instanceof WildcardType) {
+            final WildcardType wildcardType = (WildcardType) type;
+            return typesHashCode(wildcardType.getLowerBounds())
+                    ^ typesHashCode(upperBounds(wildcardType));
+        }
+        if (type instanceof TypeVariable<?>) {
+            final TypeVariable<?> typeVariable = (TypeVariable<?>) type;
+            return Objects.hashCode(typeVariable.getGenericDeclaration()) ^ typeVariable.getName().hashCode();
+        }
+        if (type instanceof JTypeWithNullability) {
+            final JTypeWithNullability typeWithNullability = (JTypeWithNullability) type;
+            return 31 * typeHashCode(typeWithNullability.getType()) + (typeWithNullability.isNullable() ? 1231 : 1237);
+        }
+        if (type instanceof JUnionType) {
+            final JUnionType unionType = (JUnionType) type;
+            return typesHashCode(unionType.getTypes());
+        }
+        return type.hashCode();
+    }
+
+    private static int typesHashCode(Type[] types) {
+        int result = 1;
+        for (Type type : types) {
+            result = 31 * result + typeHashCode(type);
+        }
+        return result;
+    }
+
+    private static int typesHashCode(List<Type> types) {
+        int result = 1;
+        for (Type type : types) {
+            result = 31 * result + typeHashCode(type);
+        }
+        return result;
+    }
+
+    private static boolean typeEquals(Type type1, Type type2) {
+        if (type1 == type2) {
+            return true;
+        }
+        if (type1 == null || type2 == null) {
+            return false;
+        }
+        if (type1 instanceof Class<?> || type2 instanceof Class<?>) {
+            return false;
+        }
+        if (type1 instanceof ParameterizedType && type2 instanceof ParameterizedType) {
+            final ParameterizedType parameterizedType1 = (ParameterizedType) type1;
+            final ParameterizedType parameterizedType2 = (ParameterizedType) type2;
+            return typeEquals(parameterizedType1.getRawType(), parameterizedType2.getRawType())
+                    && typeEquals(parameterizedType1.getOwnerType(), parameterizedType2.getOwnerType())
+                    && typesEqual(parameterizedType1.getActualTypeArguments(), parameterizedType2.getActualTypeArguments());
+        }
+        if (type1 instanceof GenericArrayType && type2 instanceof GenericArrayType) {
+            final GenericArrayType genericArrayType1 = (GenericArrayType) type1;
+            final GenericArrayType genericArrayType2 = (GenericArrayType) type2;
+            return typeEquals(genericArrayType1.getGenericComponentType(), genericArrayType2.getGenericComponentType());
+        }
+        if (type1 instanceof WildcardType && type2 instanceof WildcardType) {
+            final WildcardType wildcardType1 = (WildcardType) type1;
+            final WildcardType wildcardType2 = (WildcardType) type2;
+            return typesEqual(wildcardType1.getLowerBounds(), wildcardType2.getLowerBounds())
+                    && typesEqual(upperBounds(wildcardType1), upperBounds(wildcardType2));
+        }
+        if (type1 instanceof TypeVariable<?> && type2 instanceof TypeVariable<?>) {
+            final TypeVariable<?> typeVariable1 = (TypeVariable<?>) type1;
+            final TypeVariable<?> typeVariable2 = (TypeVariable<?>) type2;
+            return Objects.equals(typeVariable1.getGenericDeclaration(), typeVariable2.getGenericDeclaration())
+                    && Objects.equals(typeVariable1.getName(), typeVariable2.getName());
+        }
+        if (type1 instanceof JTypeWithNullability && type2 instanceof JTypeWithNullability) {
+            final JTypeWithNullability typeWithNullability1 = (JTypeWithNullability) type1;
+            final JTypeWithNullability typeWithNullability2 = (JTypeWithNullability) type2;
+            return typeWithNullability1.isNullable() == typeWithNullability2.isNullable()
+                    && typeEquals(typeWithNullability1.getType(), typeWithNullability2.getType());
+        }
+        if (type1 instanceof JUnionType && type2 instanceof JUnionType) {
+            final JUnionType unionType1 = (JUnionType) type1;
+            final JUnionType unionType2 = (JUnionType) type2;
+            return typesEqual(unionType1.getTypes().toArray(new Type[0]), unionType2.getTypes().toArray(new Type[0]));
+        }
+        return type1.equals(type2);
+    }
+
+    private static boolean typesEqual(Type[] types1, Type[] types2) {
+        if (types1.length != types2.length) {
+            return false;
+        }
+        for (int i = 0; i < types1.length; i++) {
+            if (!typeEquals(types1[i], types2[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // `?` is the same as `? extends Object`
+    private static Type[] upperBounds(WildcardType wildcardType) {
+        final Type[] upperBounds = wildcardType.getUpperBounds();
+        return upperBounds.length == 0 ? OBJECT_BOUNDS : upperBounds;
+    }
+
+}
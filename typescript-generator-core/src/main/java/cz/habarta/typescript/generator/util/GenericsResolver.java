@@ -12,17 +12,32 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 
 public class GenericsResolver {
 
+    /**
+     * Inheritance paths from descendant class (key of ClassValue) to ancestor class (key of the map).
+     * Empty Optional means that class is not ancestor of descendant class.
+     */
+    private static final ClassValue<Map<Class<?>, Optional<List<ResolvedClass>>>> inheritancePaths = new ClassValue<Map<Class<?>, Optional<List<ResolvedClass>>>>() {
+        @Override
+        protected Map<Class<?>, Optional<List<ResolvedClass>>> computeValue(Class<?> descendant) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     public static Type resolveField(Class<?> cls, Field field) {
         final Type fieldType = field.getGenericType();
         return resolveType(cls, fieldType, field.getDeclaringClass());
     }
 
     public static Type resolveType(Class<?> contextClass, Type type, Class<?> declaringClass) {
+        if (contextClass == declaringClass) {
+            return type;
+        }
         final List<ResolvedClass> path = traverseSomeInheritancePath(contextClass, declaringClass);
         final ResolvedClass resolvedClass = path != null && !path.isEmpty() ? path.get(0) : null;
         return resolvedClass != null ? resolvedClass.resolveType(type) : type;
@@ -75,8 +90,16 @@ public class GenericsResolver {
         return null;
     }
 
+    /**
+     * Returns new (modifiable) list with cached path.
+     */
     private static List<ResolvedClass> traverseSomeInheritancePath(Class<?> descendant, Class<?> ancestor) {
-        return traverseSomeInheritancePath(new ResolvedClass(descendant, null, null), ancestor);
+        if (descendant == ancestor) {
+            return new ArrayList<>();
+        }
+        final Optional<List<ResolvedClass>> path = inheritancePaths.get(descendant).computeIfAbsent(ancestor, a ->
+                Optional.ofNullable(traverseSomeInheritancePath(new ResolvedClass(descendant, null, null), a)).map(Collections::unmodifiableList));
+        return path.map(ArrayList::new).orElse(null);
     }
 
     private static List<ResolvedClass> traverseSomeInheritancePath(ResolvedClass descendant, Class<?> ancestor) {
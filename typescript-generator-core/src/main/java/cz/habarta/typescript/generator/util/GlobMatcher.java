@@ -0,0 +1,69 @@
+
+package cz.habarta.typescript.generator.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+
+/**
+ * Matches class names against multiple glob patterns at once (see {@link Utils#globToRegexp(String)} for glob syntax).
+ * Patterns without wildcards are looked up in hash set.
+ * Other patterns are grouped by literal prefix (part before the first wildcard) and each group is compiled into single regexp
+ * so for each class name only groups with matching prefix are tried.
+ */
+public class GlobMatcher {
+
+    private final Set<String> exactNames = new HashSet<>();
+    private final Map<String, Pattern> patternsByPrefix = new HashMap<>();
+    private final int[] prefixLengths;
+
+    public GlobMatcher(List<String> globs) {
+        final Map<String, List<String>> regexpsByPrefix = new LinkedHashMap<>();
+        for (String glob : globs) {
+            final int wildcardIndex = glob.indexOf('*');
+            if (wildcardIndex == -1) {
+                exactNames.add(glob);
+            } else {
+                final String prefix = glob.substring(0, wildcardIndex);
+                final String rest = glob.substring(wildcardIndex);
+                regexpsByPrefix.computeIfAbsent(prefix, k -> new ArrayList<>()).add(Utils.globToRegexp(rest).pattern());
+            }
+        }
+        for (Map.Entry<String, List<String>> entry : regexpsByPrefix.entrySet()) {
+            final String regexp = entry.getValue().stream()
+                    .distinct()
+                    .map(r -> "(?:" + r + ")")
+                    .collect(Collectors.joining("|"));
+            patternsByPrefix.put(entry.getKey(), Pattern.compile(regexp));
+        }
+        this.prefixLengths = patternsByPrefix.keySet().stream()
+                .mapToInt(String::length)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    public boolean matches(String className) {
+        if (exactNames.contains(className)) {
+            return true;
+        }
+        for (int prefixLength : prefixLengths) {
+            if (prefixLength > className.length()) {
+                break;
+            }
+            final Pattern pattern = patternsByPrefix.get(className.substring(0, prefixLength));
+            if (pattern != null && pattern.matcher(className).region(prefixLength, className.length()).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
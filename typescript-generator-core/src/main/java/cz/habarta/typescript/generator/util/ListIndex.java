@@ -0,0 +1,53 @@
+
+package cz.habarta.typescript.generator.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+
+/**
+ * Lazily built lookup index of list items by key.
+ * When multiple items have the same key the first one is returned (the same as linear search would).
+ * Since models are populated by adding items to their lists, appended items are indexed incrementally.
+ * Other modifications (replacing, inserting or removing items) cause the index to be rebuilt
+ * when they are made through {@link TrackingList}, for other lists only appends are detected.
+ */
+public class ListIndex<K, V> {
+
+    private final List<V> list;
+    private final Function<V, K> keyFunction;
+    private Map<K, V> index;
+    private int indexedSize;
+    private int indexedChangeCount;
+
+    public ListIndex(List<V> list, Function<V, K> keyFunction) {
+        this.list = Objects.requireNonNull(list, "list");
+        this.keyFunction = Objects.requireNonNull(keyFunction, "keyFunction");
+    }
+
+    public synchronized V get(K key) {
+        if (key == null) {
+            return null;
+        }
+        final int changeCount = list instanceof TrackingList ? ((TrackingList<?>) list).getChangeCount() : 0;
+        final int size = list.size();
+        if (index == null || indexedChangeCount != changeCount || size < indexedSize) {
+            index = new HashMap<>();
+            indexedSize = 0;
+            indexedChangeCount = changeCount;
+        }
+        for (int i = indexedSize; i < size; i++) {
+            final V item = list.get(i);
+            final K itemKey = keyFunction.apply(item);
+            if (itemKey != null) {
+                index.putIfAbsent(itemKey, item);
+            }
+        }
+        indexedSize = size;
+        return index.get(key);
+    }
+
+}
@@ -0,0 +1,67 @@
+package cz.habarta.typescript.generator.util;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+
+/**
+ * List view which counts modifications other than appending items to the end of the list.
+ * This allows {@link ListIndex} to index appended items incrementally
+ * and to rebuild the index only after items are replaced, inserted or removed.
+ * Modifications made directly to the underlying list are not counted.
+ */
+public class TrackingList<E> extends AbstractList<E> implements RandomAccess {
+
+    private final List<E> list;
+    private int changeCount;
+
+    private TrackingList(List<E> list) {
+        this.list = Objects.requireNonNull(list, "list");
+    }
+
+    public static <E> List<E> of(List<E> list) {
+        return list instanceof TrackingList ? list : new TrackingList<>(list);
+    }
+
+    /**
+     * Returns number of modifications which were not appends.
+     */
+    public int getChangeCount() {
+        return changeCount;
+    }
+
+    @Override
+    public E get(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        changeCount++;
+        return list.set(index, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        if (index != list.size()) {
+            changeCount++;
+        }
+        list.add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        changeCount++;
+        modCount++;
+        return list.remove(index);
+    }
+
+}
@@ -431,7 +431,7 @@ public final class Utils {
      * Creates regexp for glob pattern.
      * Replaces "*" with "[^.\$]*" and "**" with ".*".
      */
-    private static Pattern globToRegexp(String glob) {
+    public static Pattern globToRegexp(String glob) {
         final Pattern globToRegexpPattern = Pattern.compile("(\\*\\*)|(\\*)");
         final Matcher matcher = globToRegexpPattern.matcher(glob);
         final StringBuffer sb = new StringBuffer();
@@ -1,29 +1,41 @@
-function __getCopyArrayFn<T>(itemCopyFn: (item: T) => T): (array: T[]) => T[] {
+function __getCopyArrayFn<T>(itemCopyFn?: (item: T) => T): (array: T[]) => T[] {
     return (array: T[]) => __copyArray(array, itemCopyFn);
 }
 
-function __copyArray<T>(array: T[], itemCopyFn: (item: T) => T): T[] {
-    return array && array.map(item => item && itemCopyFn(item));
+function __copyArray<T>(array: T[], itemCopyFn?: (item: T) => T): T[] {
+    if (!array) {
+        return array;
+    }
+    if (!itemCopyFn) {
+        return array.slice();
+    }
+    const length = array.length;
+    const result: T[] = new Array(length);
+    for (let i = 0; i < length; i++) {
+        const item = array[i];
+        result[i] = item && itemCopyFn(item);
+    }
+    return result;
 }
 
-function __getCopyObjectFn<T>(itemCopyFn: (item: T) => T): (object: { [index: string]: T }) => { [index: string]: T } {
+function __getCopyObjectFn<T>(itemCopyFn?: (item: T) => T): (object: { [index: string]: T }) => { [index: string]: T } {
     return (object: { [index: string]: T }) => __copyObject(object, itemCopyFn);
 }
 
-function __copyObject<T>(object: { [index: string]: T }, itemCopyFn: (item: T) => T): { [index: string]: T } {
+function __copyObject<T>(object: { [index: string]: T }, itemCopyFn?: (item: T) => T): { [index: string]: T } {
     if (!object) {
         return object;
     }
-    const result: any = {};
+    const result: { [index: string]: T } = {};
     for (const key in object) {
-        if (object.hasOwnProperty(key)) {
+        if (Object.prototype.hasOwnProperty.call(object, key)) {
             const value = object[key];
-            result[key] = value && itemCopyFn(value);
+            result[key] = itemCopyFn && value ? itemCopyFn(value) : value;
         }
     }
     return result;
 }
 
-function __identity<T>(): (value: T) => T {
-    return value => value;
+function __identity<T>(value: T): T {
+    return value;
 }
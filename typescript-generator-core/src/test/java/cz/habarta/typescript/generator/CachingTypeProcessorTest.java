@@ -0,0 +1,117 @@
+
+package cz.habarta.typescript.generator;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+public class CachingTypeProcessorTest {
+
+    @Test
+    public void testCachesTemporaryContextResults() {
+        final Settings settings = TestUtils.settings();
+        final AtomicInteger calls = new AtomicInteger();
+        final CachingTypeProcessor typeProcessor = new CachingTypeProcessor(new CountingTypeProcessor(calls, false));
+        Assertions.assertEquals(1, typeProcessor.discoverClassesUsedInType(String.class, null, settings).size());
+        Assertions.assertEquals(1, typeProcessor.discoverClassesUsedInType(String.class, null, settings).size());
+        Assertions.assertFalse(typeProcessor.isTypeExcluded(String.class, new Object(), settings));
+        Assertions.assertFalse(typeProcessor.isTypeExcluded(String.class, new Object(), settings));
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertEquals(2, typeProcessor.getHits());
+        Assertions.assertEquals(2, typeProcessor.getMisses());
+    }
+
+    @Test
+    public void testContextSensitiveProcessor() {
+        final Settings settings = TestUtils.settings();
+        final AtomicInteger calls = new AtomicInteger();
+        final CachingTypeProcessor typeProcessor = new CachingTypeProcessor(new TypeProcessor.Chain(new CountingTypeProcessor(calls, true)));
+        typeProcessor.discoverClassesUsedInType(String.class, new KeyedTypeContext("a"), settings);
+        typeProcessor.discoverClassesUsedInType(String.class, new KeyedTypeContext("a"), settings);
+        typeProcessor.discoverClassesUsedInType(String.class, new KeyedTypeContext("b"), settings);
+        Assertions.assertEquals(2, calls.get());
+        // contexts without cache key are not cached
+        final Object typeContext = new Object();
+        typeProcessor.discoverClassesUsedInType(String.class, typeContext, settings);
+        typeProcessor.discoverClassesUsedInType(String.class, typeContext, settings);
+        Assertions.assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void testJackson2HitRate() {
+        final Settings settings = TestUtils.settings();
+        settings.jsonLibrary = JsonLibrary.jackson2;
+        final TypeScriptGenerator generator = new TypeScriptGenerator(settings);
+        generator.generateTypeScript(Input.from(Order.class));
+        final CachingTypeProcessor typeProcessor = (CachingTypeProcessor) generator.getCommonTypeProcessor();
+        // String, List<String> and OrderLine are used by multiple properties with different Jackson2 type contexts
+        Assertions.assertTrue(typeProcessor.getHits() >= 5, typeProcessor.toString());
+    }
+
+    private static class KeyedTypeContext implements TypeProcessor.CacheableTypeContext {
+        private final String key;
+
+        public KeyedTypeContext(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public Object getCacheKey() {
+            return key;
+        }
+    }
+
+    private static class Order {
+        public String id;
+        public String note;
+        public List<String> tags;
+        public List<String> labels;
+        public OrderLine firstLine;
+        public List<OrderLine> lines;
+        public Map<String, OrderLine> linesById;
+    }
+
+    private static class OrderLine {
+        public String product;
+        public String description;
+        public List<String> tags;
+        public Order order;
+    }
+
+    @Test
+    public void testBoundedSize() {
+        final Settings settings = TestUtils.settings();
+        final AtomicInteger calls = new AtomicInteger();
+        final CachingTypeProcessor typeProcessor = new CachingTypeProcessor(new CountingTypeProcessor(calls, false), 1);
+        typeProcessor.discoverClassesUsedInType(String.class, null, settings);
+        typeProcessor.discoverClassesUsedInType(Integer.class, null, settings);
+        typeProcessor.discoverClassesUsedInType(String.class, null, settings);
+        Assertions.assertEquals(3, calls.get());
+    }
+
+    private static class CountingTypeProcessor implements TypeProcessor {
+        private final AtomicInteger calls;
+        private final boolean contextSensitive;
+
+        public CountingTypeProcessor(AtomicInteger calls, boolean contextSensitive) {
+            this.calls = calls;
+            this.contextSensitive = contextSensitive;
+        }
+
+        @Override
+        public Result processType(Type javaType, Context context) {
+            calls.incrementAndGet();
+            return new Result(TsType.String, List.of((Class<?>) javaType));
+        }
+
+        @Override
+        public boolean isContextSensitive() {
+            return contextSensitive;
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+
+package cz.habarta.typescript.generator;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+
+public class ClassLoaderCacheTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void testReuse() throws IOException {
+        final File classesDir = new File(tempDir, "classes");
+        final File jar = new File(tempDir, "dependency.jar");
+        Assertions.assertTrue(classesDir.mkdirs());
+        Files.write(jar.toPath(), new byte[0]);
+        final List<URL> urls = Arrays.asList(classesDir.toURI().toURL(), jar.toURI().toURL());
+        final ClassLoader parent = getClass().getClassLoader();
+
+        final URLClassLoader classLoader1;
+        try (ClassLoaderCache.Lease lease = ClassLoaderCache.acquire("test-reuse", urls, parent, true)) {
+            classLoader1 = lease.getClassLoader();
+            Assertions.assertEquals(2, ClassLoaderCache.getClasspath(classLoader1).length);
+        }
+        try (ClassLoaderCache.Lease lease = ClassLoaderCache.acquire("test-reuse", urls, parent, true)) {
+            Assertions.assertSame(classLoader1, lease.getClassLoader());
+        }
+
+        // project classes changed
+        Files.write(new File(classesDir, "Test.class").toPath(), new byte[0]);
+        try (ClassLoaderCache.Lease lease = ClassLoaderCache.acquire("test-reuse", urls, parent, true)) {
+            Assertions.assertNotSame(classLoader1, lease.getClassLoader());
+            Assertions.assertSame(ClassLoaderCache.getDependenciesClassLoader(classLoader1), ClassLoaderCache.getDependenciesClassLoader(lease.getClassLoader()));
+        }
+    }
+
+    @Test
+    public void testDirectoriesTakePrecedence() throws IOException {
+        final File classesDir = new File(tempDir, "classes");
+        Assertions.assertTrue(classesDir.mkdirs());
+        Files.write(new File(classesDir, "resource.txt").toPath(), "directory".getBytes(StandardCharsets.UTF_8));
+        final File jar = new File(tempDir, "dependency.jar");
+        try (JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(jar))) {
+            jarOutputStream.putNextEntry(new JarEntry("resource.txt"));
+            jarOutputStream.write("jar".getBytes(StandardCharsets.UTF_8));
+            jarOutputStream.putNextEntry(new JarEntry("jar-only.txt"));
+            jarOutputStream.write("jar".getBytes(StandardCharsets.UTF_8));
+        }
+        final List<URL> urls = Arrays.asList(classesDir.toURI().toURL(), jar.toURI().toURL());
+        try (ClassLoaderCache.Lease lease = ClassLoaderCache.acquire("test-precedence", urls, getClass().getClassLoader(), true)) {
+            final URLClassLoader classLoader = lease.getClassLoader();
+            Assertions.assertEquals("directory", read(classLoader.getResource("resource.txt")));
+            Assertions.assertEquals("jar", read(classLoader.getResource("jar-only.txt")));
+            Assertions.assertEquals(2, Collections.list(classLoader.getResources("resource.txt")).size());
+        }
+        ClassLoaderCache.clear();
+    }
+
+    @Test
+    public void testEviction() throws IOException {
+        final List<URL> urls = Arrays.asList(tempDir.toURI().toURL());
+        final URLClassLoader classLoader;
+        try (ClassLoaderCache.Lease lease = ClassLoaderCache.acquire("test-eviction-0", urls, null, true)) {
+            classLoader = lease.getClassLoader();
+        }
+        for (int i = 1; i <= ClassLoaderCache.MAX_ENTRIES; i++) {
+            try (ClassLoaderCache.Lease lease = ClassLoaderCache.acquire("test-eviction-" + i, urls, null, true)) {
+                Assertions.assertNotSame(classLoader, lease.getClassLoader());
+            }
+        }
+        try (ClassLoaderCache.Lease lease = ClassLoaderCache.acquire("test-eviction-0", urls, null, true)) {
+            Assertions.assertNotSame(classLoader, lease.getClassLoader());
+        }
+        ClassLoaderCache.clear();
+    }
+
+    private static String read(URL url) throws IOException {
+        try (InputStream inputStream = url.openStream()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void testNoReuse() throws IOException {
+        final List<URL> urls = Arrays.asList(tempDir.toURI().toURL());
+        try (ClassLoaderCache.Lease lease1 = ClassLoaderCache.acquire("test-no-reuse", urls, null, false);
+                ClassLoaderCache.Lease lease2 = ClassLoaderCache.acquire("test-no-reuse", urls, null, false)) {
+            Assertions.assertNotSame(lease1.getClassLoader(), lease2.getClassLoader());
+        }
+    }
+
+}
@@ -11,6 +11,7 @@ import cz.habarta.typescript.generator.emitter.TsDecorator;
 import cz.habarta.typescript.generator.emitter.TsIdentifierReference;
 import cz.habarta.typescript.generator.emitter.TsMethodModel;
 import cz.habarta.typescript.generator.emitter.TsModel;
+import cz.habarta.typescript.generator.emitter.TsParameterModel;
 import cz.habarta.typescript.generator.emitter.TsPropertyModel;
 import cz.habarta.typescript.generator.emitter.TsStringLiteral;
 import cz.habarta.typescript.generator.parser.Model;
@@ -127,6 +128,49 @@ public class DecoratorsTest {
         Assertions.assertTrue(output.contains("@enumerable(false)"));
     }
 
+    @Test
+    public void testParameterDecoratorKeptWhenTypeTransformed() {
+        final Settings settings = TestUtils.settings();
+        settings.outputFileType = TypeScriptFileType.implementationFile;
+        settings.outputKind = TypeScriptOutputKind.module;
+        settings.mapClasses = ClassMapping.asClasses;
+        settings.extensions.add(new ParameterDecoratorExtension());
+        final String output = new TypeScriptGenerator(settings).generateTypeScript(Input.from(City.class));
+        Assertions.assertTrue(output.contains("greet(@Inject(\"token\") value: string | null): void"), output);
+    }
+
+    private static class ParameterDecoratorExtension extends Extension {
+
+        @Override
+        public EmitterExtensionFeatures getFeatures() {
+            final EmitterExtensionFeatures features = new EmitterExtensionFeatures();
+            features.generatesRuntimeCode = true;
+            return features;
+        }
+
+        @Override
+        public List<TransformerDefinition> getTransformers() {
+            return Arrays.asList(
+                    new TransformerDefinition(ModelCompiler.TransformationPhase.BeforeEnums, new TsModelTransformer() {
+                        @Override
+                        public TsModel transformModel(Context context, TsModel model) {
+                            // nullable parameter type is transformed later which must not drop the decorator
+                            final TsParameterModel parameter = new TsParameterModel("value", new TsType.NullableType(TsType.String))
+                                    .withDecorators(Arrays.asList(new TsDecorator(
+                                            new TsIdentifierReference("Inject"),
+                                            Arrays.asList(new TsStringLiteral("token"))
+                                    )));
+                            return model.withBeans(model.getBeans().stream()
+                                    .map(bean -> bean.withMethods(Arrays.asList(new TsMethodModel("greet", null, null, Arrays.asList(parameter), TsType.Void, Collections.emptyList(), null))))
+                                    .collect(Collectors.toList())
+                            );
+                        }
+                    })
+            );
+        }
+
+    }
+
     private static String emit(Emitter emitter, TsModel model) {
         final StringWriter writer = new StringWriter();
         emitter.emit(model, writer, "test", true);
@@ -2,6 +2,7 @@ package cz.habarta.typescript.generator;
 
 import cz.habarta.typescript.generator.compiler.SymbolTable;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
@@ -28,6 +29,17 @@ public class DefaultTypeProcessorTest {
         assertEquals(TsType.Number.optional(), converter.processType(OptionalDouble.class, context).getTsType());
     }
 
+    @Test
+    public void testRepeatedClassification() {
+        final TypeProcessor converter = new DefaultTypeProcessor();
+        final TypeProcessor.Context context = getTestContext(converter);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(TsType.Number, converter.processType(Integer.class, context).getTsType());
+            assertEquals(TsType.Date, converter.processType(java.sql.Timestamp.class, context).getTsType());
+            assertEquals("any[]", converter.processType(ArrayList.class, context).getTsType().toString());
+        }
+    }
+
     @Test
     public void testWildcards() throws NoSuchFieldException {
         TypeProcessor converter = new DefaultTypeProcessor();
@@ -5,12 +5,16 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import cz.habarta.typescript.generator.ext.ClassEnumExtension;
+import cz.habarta.typescript.generator.ext.EnumWithInterfacesExtension;
+import cz.habarta.typescript.generator.util.Utils;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
-import java.util.*;
-
-import cz.habarta.typescript.generator.ext.EnumWithInterfacesExtension;
 
 @SuppressWarnings("unused")
 public class EnumTest {
@@ -300,6 +304,35 @@ public class EnumTest {
             "}";
     }
 
+    @Test
+    public void testEnumWithInterfacePatternsChangedBySubclass() {
+        final PatternsEnumWithInterfacesExtension extension = new PatternsEnumWithInterfacesExtension();
+        extension.setConfiguration(Collections.singletonMap(EnumWithInterfacesExtension.CFG_ENUM_PATTERN, "**.First"));
+        assertTrue(extension.matches("cz.First"));
+        extension.assignEnumPatterns("**.Second");
+        assertTrue(extension.matches("cz.Second"));
+        assertTrue(!extension.matches("cz.First"));
+        extension.setEnumPatterns("**.Third");
+        assertTrue(extension.matches("cz.Third"));
+        assertTrue(!extension.matches("cz.Second"));
+        assertThrows(UnsupportedOperationException.class, () -> extension.assignEnumPatternsInPlace("**.Fourth"));
+    }
+
+    private static class PatternsEnumWithInterfacesExtension extends EnumWithInterfacesExtension {
+        public void assignEnumPatterns(String glob) {
+            enumPatterns = Utils.globsToRegexps(Collections.singletonList(glob));
+        }
+        public void assignEnumPatternsInPlace(String glob) {
+            enumPatterns.addAll(Utils.globsToRegexps(Collections.singletonList(glob)));
+        }
+        public void setEnumPatterns(String glob) {
+            setEnumPatterns(Collections.singletonList(glob));
+        }
+        public boolean matches(String enumName) {
+            return enumMatches(enumName);
+        }
+    }
+
     private static @interface Child {
         public static class NoEnumFactory implements IBaseEnumFactory<Enum<?>> {
         }
@@ -0,0 +1,90 @@
+
+package cz.habarta.typescript.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+
+public class GenerationCacheTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void testSkipsUnchangedGeneration() throws IOException {
+        final File outputFile = new File(tempDir, "output.d.ts");
+        final File cacheFile = new File(tempDir, "cache/output.d.ts.json");
+
+        generate(outputFile, cacheFile, false);
+        Assertions.assertTrue(cacheFile.isFile());
+        final String output = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+        Assertions.assertTrue(output.contains("interface CacheBean"));
+
+        // not regenerated
+        Assertions.assertTrue(outputFile.setLastModified(1_000_000_000L));
+        generate(outputFile, cacheFile, false);
+        Assertions.assertEquals(1_000_000_000L, outputFile.lastModified());
+
+        // regenerated when settings change
+        generate(outputFile, cacheFile, true);
+        Assertions.assertNotEquals(1_000_000_000L, outputFile.lastModified());
+
+        // regenerated when output file was modified
+        Files.write(outputFile.toPath(), "modified".getBytes(StandardCharsets.UTF_8));
+        generate(outputFile, cacheFile, true);
+        Assertions.assertEquals(output, new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8).replace("readonly ", ""));
+    }
+
+    @Test
+    public void testExcludeClassPatternsInvalidateCache() throws IOException {
+        final File outputFile = new File(tempDir, "output.d.ts");
+        final File cacheFile = new File(tempDir, "cache/output.d.ts.json");
+
+        generate(outputFile, cacheFile, settings -> settings.setExcludeFilter(null, Arrays.asList("**$NonExistent")));
+        Assertions.assertTrue(new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8).contains("interface CacheBeanDetail"));
+
+        generate(outputFile, cacheFile, settings -> settings.setExcludeFilter(null, Arrays.asList("**$CacheBeanDetail")));
+        Assertions.assertFalse(new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8).contains("interface CacheBeanDetail"));
+    }
+
+    @Test
+    public void testJavadocContentChangesFingerprint() throws IOException {
+        final File javadocFile = new File(tempDir, "javadoc.xml");
+        Files.write(javadocFile.toPath(), "<javadoc/>".getBytes(StandardCharsets.UTF_8));
+        final Settings settings = TestUtils.settings();
+        settings.javadocXmlFiles = Arrays.asList(javadocFile);
+        final String fingerprint = GenerationCache.getSettingsFingerprint(settings);
+        Assertions.assertEquals(fingerprint, GenerationCache.getSettingsFingerprint(settings));
+
+        Files.write(javadocFile.toPath(), "<javadoc><package/></javadoc>".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertNotEquals(fingerprint, GenerationCache.getSettingsFingerprint(settings));
+    }
+
+    private static void generate(File outputFile, File cacheFile, boolean readOnly) {
+        generate(outputFile, cacheFile, settings -> settings.declarePropertiesAsReadOnly = readOnly);
+    }
+
+    private static void generate(File outputFile, File cacheFile, Consumer<Settings> configuration) {
+        final Settings settings = TestUtils.settings();
+        configuration.accept(settings);
+        settings.generationCacheFile = cacheFile;
+        new TypeScriptGenerator(settings).generateTypeScript(Input.from(CacheBean.class), Output.to(outputFile));
+    }
+
+    private static class CacheBean {
+        public String name;
+        public CacheBeanDetail detail;
+    }
+
+    private static class CacheBeanDetail {
+        public int size;
+    }
+
+}
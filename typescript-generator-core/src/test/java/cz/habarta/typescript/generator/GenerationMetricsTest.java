@@ -0,0 +1,53 @@
+
+package cz.habarta.typescript.generator;
+
+import cz.habarta.typescript.generator.util.Utils;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+
+public class GenerationMetricsTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void testStagesAndReport() throws IOException {
+        final List<GenerationMetrics.Stage> stages = new ArrayList<>();
+        final Settings settings = TestUtils.settings();
+        settings.generateMetricsJson = true;
+        settings.generationMetricsListener = stages::add;
+        final File outputFile = new File(tempDir, "output.d.ts");
+        new TypeScriptGenerator(settings).generateTypeScript(Input.from(MetricsBean.class), Output.to(outputFile));
+
+        final List<String> names = stages.stream().map(stage -> stage.name).collect(Collectors.toList());
+        Assertions.assertEquals("parsing", names.get(0));
+        Assertions.assertTrue(names.contains("enricher Javadoc"));
+        Assertions.assertTrue(names.contains("compiler processModel"));
+        Assertions.assertTrue(names.contains("compiler resolveSymbolNames"));
+        Assertions.assertTrue(names.contains("emission"));
+        final GenerationMetrics.Stage parsing = stages.get(0);
+        Assertions.assertEquals(Integer.valueOf(2), parsing.itemCount);
+        Assertions.assertTrue(parsing.timeMillis >= 0);
+
+        final File metricsFile = new File(tempDir, "typescript-generator-metrics.json");
+        final GenerationMetrics.Report report = Utils.getObjectMapper().readValue(metricsFile, GenerationMetrics.Report.class);
+        Assertions.assertEquals(names, report.stages.stream().map(stage -> stage.name).collect(Collectors.toList()));
+        Assertions.assertTrue(report.totalTimeMillis >= parsing.timeMillis);
+    }
+
+    private static class MetricsBean {
+        public MetricsEnum value;
+    }
+
+    private enum MetricsEnum {
+        A, B
+    }
+
+}
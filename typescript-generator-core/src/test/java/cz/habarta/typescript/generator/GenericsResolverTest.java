@@ -97,6 +97,15 @@ public class GenericsResolverTest {
         Assertions.assertEquals(Arrays.asList("T", "S"), mappedTypeParameters);
     }
 
+    @Test
+    public void testRepeatedResolution() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertEquals(Arrays.asList(null, null, "T"), GenericsResolver.mapGenericVariablesToBase(R123.class, R1.class));
+            Assertions.assertEquals(Utils.createParameterizedType(List.class, Number.class), GenericsResolver.resolveField(P123Number.class, P1.class.getField("field")));
+            Assertions.assertNull(GenericsResolver.mapGenericVariablesToBase(R1.class, R123.class));
+        }
+    }
+
     static class R1<S, T> {
     }
     static class R12<U, V> extends R1<V, U> {
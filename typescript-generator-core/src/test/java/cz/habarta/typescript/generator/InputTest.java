@@ -3,12 +3,14 @@ package cz.habarta.typescript.generator;
 
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ScanResult;
+import java.io.File;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 
 @SuppressWarnings("unused")
@@ -93,6 +95,20 @@ public class InputTest {
         Assertions.assertTrue(output.contains("lastName: string;"));
     }
 
+    @Test
+    public void testClasspathIndex(@TempDir File indexDirectory) {
+        final Input.Parameters parameters = new Input.Parameters();
+        parameters.classesImplementingInterfaces = Arrays.asList(MyJsonInterface.class.getName());
+        parameters.classesWithAnnotations = Arrays.asList(MyJsonClass.class.getName());
+        parameters.scanningAcceptedPackages = Arrays.asList("cz.habarta");
+        parameters.classpathIndexDirectory = indexDirectory;
+        final String output = new TypeScriptGenerator(TestUtils.settings()).generateTypeScript(Input.from(parameters));
+        Assertions.assertTrue(output.contains("firstName: string;"));
+        Assertions.assertTrue(output.contains("lastName: string;"));
+        Assertions.assertTrue(output.contains("name: string;"));
+        Assertions.assertTrue(indexDirectory.list().length > 0);
+    }
+
     @Retention(RetentionPolicy.RUNTIME)
     private static @interface MyJsonClass {
     }
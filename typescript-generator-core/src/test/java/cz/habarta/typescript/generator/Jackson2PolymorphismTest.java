@@ -29,6 +29,40 @@ public class Jackson2PolymorphismTest {
         Assertions.assertTrue(z < y);
     }
 
+    @Test
+    public void testLazyParsing() {
+        final Settings settings = TestUtils.settings();
+        settings.lazyParsing = true;
+        final String output = new TypeScriptGenerator(settings).generateTypeScript(Input.from(Z.class, Shape.class));
+        Assertions.assertTrue(output.contains("interface Z"));
+        Assertions.assertFalse(output.contains("interface X"));
+        Assertions.assertFalse(output.contains("interface Y"));
+        Assertions.assertTrue(output.contains("interface Circle"));
+        Assertions.assertTrue(output.contains("type ShapeUnion"));
+
+        settings.disableTaggedUnions = true;
+        final String outputWithoutUnions = new TypeScriptGenerator(settings).generateTypeScript(Input.from(Shape.class));
+        Assertions.assertTrue(outputWithoutUnions.contains("kind: \"circle\" | \"square\";"), outputWithoutUnions);
+        settings.lazyParsing = false;
+        Assertions.assertEquals(new TypeScriptGenerator(settings).generateTypeScript(Input.from(Shape.class)), outputWithoutUnions);
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.PROPERTY, property = "kind")
+    @JsonSubTypes({
+            @JsonSubTypes.Type(value = Circle.class, name = "circle"),
+            @JsonSubTypes.Type(value = Square.class, name = "square"),
+    })
+    public static abstract class Shape {
+    }
+
+    public static class Circle extends Shape {
+        public double radius;
+    }
+
+    public static class Square extends Shape {
+        public double size;
+    }
+
     @JsonSubTypes({
             @JsonSubTypes.Type(Y.class),
             @JsonSubTypes.Type(X.class)
@@ -8,9 +8,13 @@ import cz.habarta.typescript.generator.parser.Jackson2Parser;
 import cz.habarta.typescript.generator.parser.Model;
 import cz.habarta.typescript.generator.parser.PropertyModel;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 
 public class JavadocTest {
@@ -107,6 +111,28 @@ public class JavadocTest {
         }
     }
 
+    @Test
+    public void testMultipleJavadocFiles(@TempDir File tempDir) throws IOException {
+        final String prefix = JavadocTest.class.getName() + ".";
+        final File file1 = new File(tempDir, "javadoc1.xml");
+        final File file2 = new File(tempDir, "javadoc2.xml");
+        Files.write(file1.toPath(), (""
+                + "<root><package name=\"cz.habarta.typescript.generator\">"
+                + "<class name=\"ClassWithoutJavadoc\" qualified=\"" + prefix + "ClassWithoutJavadoc\"><comment>From first file.</comment></class>"
+                + "<class name=\"ClassWithBrElements\" qualified=\"" + prefix + "ClassWithBrElements\"><comment>Adjacent class.</comment></class>"
+                + "</package></root>").getBytes(StandardCharsets.UTF_8));
+        Files.write(file2.toPath(), (""
+                + "<root><package name=\"cz.habarta.typescript.generator\">"
+                + "<class name=\"ClassWithoutJavadoc\" qualified=\"" + prefix + "ClassWithoutJavadoc\"><comment>From second file.</comment></class>"
+                + "</package></root>").getBytes(StandardCharsets.UTF_8));
+        final Settings settings = TestUtils.settings();
+        settings.javadocXmlFiles = Arrays.asList(file1, file2);
+        final String generated = new TypeScriptGenerator(settings).generateTypeScript(Input.from(ClassWithoutJavadoc.class, ClassWithBrElements.class));
+        Assertions.assertTrue(generated.contains("From first file."), generated);
+        Assertions.assertTrue(generated.contains("Adjacent class."), generated);
+        Assertions.assertFalse(generated.contains("From second file."), generated);
+    }
+
     /**
      * Documentation for ClassWithJavadoc. First line.
      * Second line.
@@ -123,6 +123,24 @@ public class JsonDeserializationTest {
         Assertions.assertEquals(Authentication.Password, data.authentication);
     }
 
+    @Test
+    public void testCopyMethodNameCollision() {
+        final Settings settings = TestUtils.settings();
+        settings.outputKind = TypeScriptOutputKind.module;
+        settings.outputFileType = TypeScriptFileType.implementationFile;
+        settings.mapClasses = ClassMapping.asClasses;
+        settings.extensions.add(new JsonDeserializationExtension());
+        final String output = new TypeScriptGenerator(settings).generateTypeScript(Input.from(CopyNames.class));
+        Assertions.assertTrue(output.contains("static __copyItemsItemItem(data: Address[]): Address[]"), output);
+        Assertions.assertTrue(output.contains("static __copyItemsItemItem2(data: Order[]): Order[]"), output);
+        Assertions.assertTrue(output.contains("instance.itemsItem = __copyArray(data.itemsItem, CopyNames.__copyItemsItemItem2);"), output);
+    }
+
+    private static class CopyNames {
+        public List<List<List<Address>>> items;
+        public List<List<Order>> itemsItem;
+    }
+
     private static class User {
         public String name;
         public Authentication authentication;
@@ -189,6 +189,16 @@ class KotlinTest {
         Assertions.assertTrue(output.contains("interface A2<S>"), errorMessage)
     }
 
+    @Test
+    fun testRepeatedGenerationWithSameSettings() {
+        val settings = TestUtils.settings()
+        settings.nullabilityDefinition = NullabilityDefinition.undefinedInlineUnion
+        val output1 = TypeScriptGenerator(settings).generateTypeScript(Input.from(A::class.java))
+        val output2 = TypeScriptGenerator(settings).generateTypeScript(Input.from(A::class.java))
+        Assertions.assertEquals(output1, output2)
+        Assertions.assertTrue(output2.contains("nullableGenericType?: T;"), output2)
+    }
+
     private class A2<S> where S : Enum<S> {
         fun getData2(): S? {
             return null
@@ -3,11 +3,16 @@ package cz.habarta.typescript.generator;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import cz.habarta.typescript.generator.compiler.ModelCompiler;
+import cz.habarta.typescript.generator.compiler.TsModelInheritance;
+import cz.habarta.typescript.generator.compiler.TsModelTransformer;
+import cz.habarta.typescript.generator.emitter.EmitterExtensionFeatures;
 import cz.habarta.typescript.generator.emitter.TsModel;
 import cz.habarta.typescript.generator.parser.Jackson2Parser;
 import cz.habarta.typescript.generator.parser.Model;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -79,6 +84,58 @@ public class ModelCompilerTest {
         );
     }
 
+    @Test
+    public void testInheritance() throws Exception {
+        final Settings settings = TestUtils.settings();
+        final List<TsModelInheritance> inheritances = new ArrayList<>();
+        settings.extensions.add(new Extension() {
+            @Override
+            public EmitterExtensionFeatures getFeatures() {
+                return new EmitterExtensionFeatures();
+            }
+
+            @Override
+            public List<TransformerDefinition> getTransformers() {
+                return Collections.singletonList(new TransformerDefinition(ModelCompiler.TransformationPhase.BeforeSymbolResolution, new TsModelTransformer() {
+                    @Override
+                    public TsModel transformModel(Context context, TsModel model) {
+                        inheritances.add(context.getInheritance(model));
+                        Assertions.assertSame(inheritances.get(0), context.getInheritance(model));
+                        return model;
+                    }
+                }));
+            }
+        });
+
+        final Model model = new Jackson2Parser(settings, new DefaultTypeProcessor()).parseModel(Leaf.class);
+        new TypeScriptGenerator(settings).getModelCompiler().javaToTypeScript(model);
+
+        final TsModelInheritance inheritance = inheritances.get(0);
+        final TsModel tsModel = inheritance.getModel();
+        final Map<String, TsType> leafProperties = inheritance.getFlattenedProperties(tsModel.getBean(Leaf.class));
+        Assertions.assertEquals(Arrays.asList("name", "base", "middle", "leaf"), new ArrayList<>(leafProperties.keySet()));
+        Assertions.assertSame(leafProperties, inheritance.getFlattenedProperties(tsModel.getBean(Leaf.class)));
+        Assertions.assertEquals(Arrays.asList("name", "base", "middle"), new ArrayList<>(inheritance.getInheritedProperties(tsModel.getBean(Leaf.class)).keySet()));
+        Assertions.assertSame(tsModel.getBean(Middle.class), inheritance.getParentBean(tsModel.getBean(Leaf.class)));
+        Assertions.assertEquals(1, inheritance.getImplementedProperties(tsModel.getBean(Base.class).getAllParents()).size());
+    }
+
+    private static interface Named {
+        public String getName();
+    }
+
+    private static abstract class Base implements Named {
+        public String base;
+    }
+
+    private static abstract class Middle extends Base {
+        public String middle;
+    }
+
+    private static abstract class Leaf extends Middle {
+        public String leaf;
+    }
+
     @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.PROPERTY)
     private static interface WithoutTypeParam {}
 
@@ -2,13 +2,18 @@
 package cz.habarta.typescript.generator;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import cz.habarta.typescript.generator.parser.BeanModel;
 import cz.habarta.typescript.generator.parser.Jackson2Parser;
 import cz.habarta.typescript.generator.parser.Model;
 import cz.habarta.typescript.generator.parser.ModelParser;
+import cz.habarta.typescript.generator.type.JParameterizedType;
+import cz.habarta.typescript.generator.type.TypeKey;
+import cz.habarta.typescript.generator.util.Utils;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -64,9 +69,41 @@ public class ModelParserTest {
         Assertions.assertEquals(0, model.getBeans().size());
     }
 
+    @Test
+    public void testStructuralTypeIdentity() {
+        final Type jdkType = new TypeReference<Map<String, List<RootClass3>>>() {}.getType();
+        final Type customType = Utils.createParameterizedType(Map.class, String.class, Utils.createParameterizedType(List.class, RootClass3.class));
+        Assertions.assertEquals(jdkType.hashCode(), customType.hashCode());
+        Assertions.assertEquals(TypeKey.of(jdkType), TypeKey.of(customType));
+        Assertions.assertNotEquals(TypeKey.of(jdkType), TypeKey.of(new JParameterizedType(Map.class, new Type[] {String.class, RootClass3.class}, null)));
+    }
+
+    @Test
+    public void testParallelParsing() {
+        final List<Class<?>> classes = Arrays.asList(RootClass1.class, RootClass2.class, RootClass3.class, DummyBean.class, DummyEnum.class);
+        final Settings settings = TestUtils.settings();
+        final String sequentialOutput = new TypeScriptGenerator(settings).generateTypeScript(Input.from(classes.toArray(new Type[0])));
+        settings.parallelParsing = true;
+        final String parallelOutput = new TypeScriptGenerator(settings).generateTypeScript(Input.from(classes.toArray(new Type[0])));
+        Assertions.assertEquals(sequentialOutput, parallelOutput);
+
+        final Model sequentialModel = parseModel(RootClass3.class);
+        final Model parallelModel = parseModel(RootClass3.class, true);
+        Assertions.assertEquals(getOrigins(sequentialModel), getOrigins(parallelModel));
+    }
+
+    private static List<Class<?>> getOrigins(Model model) {
+        return model.getBeans().stream().map(BeanModel::getOrigin).collect(Collectors.toList());
+    }
+
     private Model parseModel(Type type, String... excludedClassNames) {
+        return parseModel(type, false, excludedClassNames);
+    }
+
+    private Model parseModel(Type type, boolean parallelParsing, String... excludedClassNames) {
         final Settings settings = new Settings();
         settings.setExcludeFilter(Arrays.asList(excludedClassNames), null);
+        settings.parallelParsing = parallelParsing;
         final ModelParser parser = new Jackson2Parser(settings, new TypeProcessor.Chain(
                 new ExcludingTypeProcessor(settings.getExcludeFilter()),
                 new DefaultTypeProcessor()
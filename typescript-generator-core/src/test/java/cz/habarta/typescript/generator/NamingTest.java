@@ -1,10 +1,14 @@
 
 package cz.habarta.typescript.generator;
 
+import cz.habarta.typescript.generator.compiler.JavaScriptTypeNamingFunction;
 import cz.habarta.typescript.generator.compiler.SymbolTable;
 import cz.habarta.typescript.generator.yield.KeywordInPackage;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -59,6 +63,29 @@ public class NamingTest {
         Assertions.assertEquals("TestA", name);
     }
 
+    @Test
+    public void testTypeNamingFunctionMemoized() {
+        final String function = "function(name, simpleName) { return 'Memo' + simpleName; }";
+        try (JavaScriptTypeNamingFunction namingFunction = new JavaScriptTypeNamingFunction(function)) {
+            final List<String> names = IntStream.range(0, 100).parallel()
+                    .mapToObj(i -> (String) namingFunction.getName("cz.C" + (i % 10), "C" + (i % 10)))
+                    .collect(Collectors.toList());
+            Assertions.assertEquals("MemoC3", names.get(13));
+            Assertions.assertTrue(namingFunction.getStatistics().contains("100 calls, 10 evaluations"), namingFunction.getStatistics());
+        }
+    }
+
+    @Test
+    public void testTypeNamingFunctionFailure() {
+        final String function = "function(name, simpleName) { if (simpleName === 'Bad') throw new Error('bad name'); return 'Ok' + simpleName; }";
+        try (JavaScriptTypeNamingFunction namingFunction = new JavaScriptTypeNamingFunction(function)) {
+            Assertions.assertEquals("OkA", namingFunction.getName("cz.A", "A"));
+            final RuntimeException e = Assertions.assertThrows(RuntimeException.class, () -> namingFunction.getName("cz.Bad", "Bad"));
+            Assertions.assertTrue(e.getMessage().contains("customTypeNamingFunction"), e.getMessage());
+            Assertions.assertEquals("OkB", namingFunction.getName("cz.B", "B"));
+        }
+    }
+
     @Test
     public void testTypeNamingFunctionReturnsUndefined() {
         final Settings settings = TestUtils.settings();
@@ -0,0 +1,98 @@
+
+package cz.habarta.typescript.generator;
+
+import cz.habarta.typescript.generator.emitter.EmitterExtension;
+import cz.habarta.typescript.generator.emitter.EmitterExtensionFeatures;
+import cz.habarta.typescript.generator.emitter.TsModel;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+
+public class OutputTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void testSkipUnchangedOutput() throws IOException {
+        final File outputFile = new File(tempDir, "output.d.ts");
+
+        generate(outputFile, false);
+        final String output = new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8);
+        Assertions.assertTrue(output.contains("// Generated using typescript-generator version"));
+
+        // not replaced (only timestamp differs)
+        final String outdatedTimestamp = output.replaceFirst(" on .*\\.", " on 2000-01-01 00:00:00.");
+        Files.write(outputFile.toPath(), outdatedTimestamp.getBytes(StandardCharsets.UTF_8));
+        Assertions.assertTrue(outputFile.setLastModified(1_000_000_000L));
+        generate(outputFile, false);
+        Assertions.assertEquals(1_000_000_000L, outputFile.lastModified());
+        Assertions.assertEquals(outdatedTimestamp, new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8));
+
+        // replaced when content changes
+        generate(outputFile, true);
+        Assertions.assertNotEquals(1_000_000_000L, outputFile.lastModified());
+        Assertions.assertTrue(new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8).contains("readonly name"));
+
+        Assertions.assertArrayEquals(new String[] {"output.d.ts"}, tempDir.list());
+    }
+
+    @Test
+    public void testAtomicOutputKeepsPermissions() throws IOException {
+        final File outputFile = new File(tempDir, "output.d.ts");
+        Files.write(outputFile.toPath(), "old".getBytes(StandardCharsets.UTF_8));
+        Assumptions.assumeTrue(Files.getFileStore(outputFile.toPath()).supportsFileAttributeView(PosixFileAttributeView.class));
+        final Set<PosixFilePermission> permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(outputFile.toPath(), permissions);
+
+        final Settings settings = TestUtils.settings();
+        new TypeScriptGenerator(settings).generateTypeScript(Input.from(OutputBean.class), Output.to(outputFile, true));
+        Assertions.assertTrue(new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8).contains("name: string"));
+        Assertions.assertEquals(permissions, Files.getPosixFilePermissions(outputFile.toPath()));
+    }
+
+    @Test
+    public void testFailedAtomicOutputIsDiscarded() throws IOException {
+        final File outputFile = new File(tempDir, "output.d.ts");
+        Files.write(outputFile.toPath(), "old".getBytes(StandardCharsets.UTF_8));
+
+        final Settings settings = TestUtils.settings();
+        settings.extensions.add(new EmitterExtension() {
+            @Override
+            public EmitterExtensionFeatures getFeatures() {
+                return new EmitterExtensionFeatures();
+            }
+            @Override
+            public void emitElements(Writer writer, Settings settings, boolean exportKeyword, TsModel model) {
+                throw new IllegalStateException("failed");
+            }
+        });
+        Assertions.assertThrows(IllegalStateException.class, () ->
+                new TypeScriptGenerator(settings).generateTypeScript(Input.from(OutputBean.class), Output.to(outputFile, true)));
+        Assertions.assertEquals("old", new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8));
+        Assertions.assertArrayEquals(new String[] {"output.d.ts"}, tempDir.list());
+    }
+
+    private static void generate(File outputFile, boolean readOnly) {
+        final Settings settings = TestUtils.settings();
+        settings.noFileComment = false;
+        settings.declarePropertiesAsReadOnly = readOnly;
+        settings.skipUnchangedOutput = true;
+        new TypeScriptGenerator(settings).generateTypeScript(Input.from(OutputBean.class), Output.to(outputFile, false, settings.skipUnchangedOutput));
+    }
+
+    private static class OutputBean {
+        public String name;
+    }
+
+}
@@ -0,0 +1,102 @@
+
+package cz.habarta.typescript.generator;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+
+@SuppressWarnings("unused")
+public class PersistentClasspathIndexTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void testIndexReuse() throws URISyntaxException {
+        final File jar = new File(ClassGraph.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        final List<File> classpath = Arrays.asList(jar);
+        final PersistentClasspathIndex index1 = PersistentClasspathIndex.load(tempDir, classpath, null);
+        Assertions.assertEquals(0, index1.getIndexHits());
+        Assertions.assertEquals(1, index1.getIndexMisses());
+        final PersistentClasspathIndex index2 = PersistentClasspathIndex.load(tempDir, classpath, null);
+        Assertions.assertEquals(1, index2.getIndexHits());
+        Assertions.assertEquals(0, index2.getIndexMisses());
+        Assertions.assertEquals(0, index2.getHashedEntries());
+        Assertions.assertEquals(index1.getAllClassNames(), index2.getAllClassNames());
+        Assertions.assertTrue(index2.getAllClassNames().contains(ClassGraph.class.getName()));
+    }
+
+    @Test
+    public void testModifiedJarIsHashed() throws URISyntaxException, IOException {
+        final File originalJar = new File(ClassGraph.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        final File jar = new File(tempDir, "classgraph.jar");
+        Files.copy(originalJar.toPath(), jar.toPath());
+        final File indexDirectory = new File(tempDir, "index");
+        final List<File> classpath = Arrays.asList(jar);
+        final PersistentClasspathIndex index1 = PersistentClasspathIndex.load(indexDirectory, classpath, null);
+        Assertions.assertEquals(1, index1.getHashedEntries());
+        Assertions.assertEquals(1, index1.getIndexMisses());
+        Assertions.assertTrue(jar.setLastModified(jar.lastModified() - 60_000));
+        final PersistentClasspathIndex index2 = PersistentClasspathIndex.load(indexDirectory, classpath, null);
+        Assertions.assertEquals(1, index2.getHashedEntries());
+        Assertions.assertEquals(1, index2.getIndexHits());
+        final PersistentClasspathIndex index3 = PersistentClasspathIndex.load(indexDirectory, classpath, null);
+        Assertions.assertEquals(0, index3.getHashedEntries());
+        Assertions.assertEquals(1, index3.getIndexHits());
+    }
+
+    @Test
+    public void testQueriesMatchClassGraph() throws URISyntaxException {
+        final File testClasses = new File(PersistentClasspathIndexTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        final List<String> acceptedPackages = Collections.singletonList(PersistentClasspathIndexTest.class.getPackage().getName());
+        final PersistentClasspathIndex index = PersistentClasspathIndex.load(tempDir, Arrays.asList(testClasses), acceptedPackages);
+        try (ScanResult scanResult = new ClassGraph().enableClassInfo().enableAnnotationInfo().ignoreClassVisibility()
+                .overrideClasspath(testClasses).acceptPackages(acceptedPackages.toArray(new String[0])).scan()) {
+            final ClasspathIndex expected = ClasspathIndex.of(scanResult);
+            Assertions.assertEquals(Arrays.asList(ExtendedInterface.class.getName(), Implementation.class.getName(), Subclass.class.getName()), index.getClassesImplementing(BaseInterface.class.getName()));
+            Assertions.assertEquals(expected.getClassesImplementing(BaseInterface.class.getName()), index.getClassesImplementing(BaseInterface.class.getName()));
+            Assertions.assertEquals(expected.getSubclasses(Implementation.class.getName()), index.getSubclasses(Implementation.class.getName()));
+            Assertions.assertEquals(
+                    Arrays.asList(Implementation.class.getName(), MetaAnnotated.class.getName(), Subclass.class.getName()),
+                    index.getClassesWithAnnotation(Marker.class.getName()));
+            Assertions.assertEquals(expected.getClassesWithAnnotation(Marker.class.getName()), index.getClassesWithAnnotation(Marker.class.getName()));
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Inherited
+    private @interface Marker {
+    }
+
+    private interface BaseInterface {
+    }
+
+    private interface ExtendedInterface extends BaseInterface {
+    }
+
+    @Marker
+    private static class Implementation implements ExtendedInterface {
+    }
+
+    private static class Subclass extends Implementation {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Marker
+    private @interface MetaAnnotated {
+    }
+
+}
@@ -0,0 +1,120 @@
+
+package cz.habarta.typescript.generator;
+
+import cz.habarta.typescript.generator.emitter.ShardedEmitter;
+import cz.habarta.typescript.generator.ext.TypeGuardsForJackson2PolymorphismExtension;
+import cz.habarta.typescript.generator.p1.A;
+import cz.habarta.typescript.generator.p2.D;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+
+public class ShardedOutputTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void testShardsPerPackage() throws IOException {
+        final Settings settings = createSettings();
+        final File outputFile = new File(tempDir, "main.d.ts");
+        new TypeScriptGenerator(settings).generateTypeScript(Input.from(D.class), Output.to(outputFile));
+
+        final String p1 = read(new File(tempDir, "cz.habarta.typescript.generator.p1.d.ts"));
+        final String p2 = read(new File(tempDir, "cz.habarta.typescript.generator.p2.d.ts"));
+        Assertions.assertTrue(p1.contains("import { B } from \"./cz.habarta.typescript.generator.p2\";"), p1);
+        Assertions.assertTrue(p1.contains("export interface A {"), p1);
+        Assertions.assertTrue(p1.contains("export interface C extends B {"), p1);
+        Assertions.assertTrue(p1.contains("export type E ="), p1);
+        Assertions.assertTrue(p2.contains("import { A, C, E } from \"./cz.habarta.typescript.generator.p1\";"), p2);
+        Assertions.assertTrue(p2.contains("export interface D {"), p2);
+        Assertions.assertFalse(p2.contains("interface A {"), p2);
+        Assertions.assertTrue(outputFile.isFile());
+
+        // unchanged shards are not rewritten
+        final File p1File = new File(tempDir, "cz.habarta.typescript.generator.p1.d.ts");
+        Assertions.assertTrue(p1File.setLastModified(1_000_000_000L));
+        new TypeScriptGenerator(settings).generateTypeScript(Input.from(D.class), Output.to(outputFile));
+        Assertions.assertEquals(1_000_000_000L, p1File.lastModified());
+    }
+
+    @Test
+    public void testShardMapping() throws IOException {
+        final Settings settings = createSettings();
+        settings.outputShardMapping.put("cz.habarta.typescript.generator", "model");
+        final File outputFile = new File(tempDir, "main.d.ts");
+        new TypeScriptGenerator(settings).generateTypeScript(Input.from(D.class), Output.to(outputFile));
+        final String model = read(new File(tempDir, "model.d.ts"));
+        Assertions.assertTrue(model.contains("export interface A {"), model);
+        Assertions.assertTrue(model.contains("export interface D {"), model);
+        Assertions.assertFalse(model.contains("import"), model);
+    }
+
+    @Test
+    public void testStaleShardsAreDeleted() throws IOException {
+        final File outputFile = new File(tempDir, "main.d.ts");
+        final File p1File = new File(tempDir, "cz.habarta.typescript.generator.p1.d.ts");
+        final File p2File = new File(tempDir, "cz.habarta.typescript.generator.p2.d.ts");
+        final File modelFile = new File(tempDir, "model.d.ts");
+        final File otherFile = new File(tempDir, "other.d.ts");
+        Files.write(otherFile.toPath(), "export interface Other {}".getBytes(StandardCharsets.UTF_8));
+
+        new TypeScriptGenerator(createSettings()).generateTypeScript(Input.from(D.class), Output.to(outputFile));
+        Assertions.assertTrue(p1File.isFile());
+        Assertions.assertTrue(p2File.isFile());
+        Assertions.assertTrue(new File(tempDir, "main" + ShardedEmitter.MANIFEST_SUFFIX).isFile());
+
+        // changed mapping
+        final Settings mappedSettings = createSettings();
+        mappedSettings.outputShardMapping.put("cz.habarta.typescript.generator", "model");
+        new TypeScriptGenerator(mappedSettings).generateTypeScript(Input.from(D.class), Output.to(outputFile));
+        Assertions.assertTrue(modelFile.isFile());
+        Assertions.assertFalse(p1File.exists());
+        Assertions.assertFalse(p2File.exists());
+
+        // package without data classes
+        new TypeScriptGenerator(createSettings()).generateTypeScript(Input.from(A.class), Output.to(outputFile));
+        Assertions.assertTrue(p1File.isFile());
+        Assertions.assertFalse(p2File.exists());
+        Assertions.assertFalse(modelFile.exists());
+
+        Assertions.assertTrue(outputFile.isFile());
+        Assertions.assertTrue(otherFile.isFile());
+    }
+
+    @Test
+    public void testRuntimeCodeIsRejected() {
+        final Settings classesSettings = createSettings();
+        classesSettings.outputFileType = TypeScriptFileType.implementationFile;
+        classesSettings.mapClasses = ClassMapping.asClasses;
+        Assertions.assertTrue(Assertions.assertThrows(RuntimeException.class, () -> new TypeScriptGenerator(classesSettings)).getMessage().contains("outputSharding"));
+
+        final Settings clientSettings = createSettings();
+        clientSettings.outputFileType = TypeScriptFileType.implementationFile;
+        clientSettings.generateJaxrsApplicationClient = true;
+        Assertions.assertTrue(Assertions.assertThrows(RuntimeException.class, () -> new TypeScriptGenerator(clientSettings)).getMessage().contains("outputSharding"));
+
+        final Settings extensionSettings = createSettings();
+        extensionSettings.outputFileType = TypeScriptFileType.implementationFile;
+        extensionSettings.extensions.add(new TypeGuardsForJackson2PolymorphismExtension());
+        Assertions.assertTrue(Assertions.assertThrows(RuntimeException.class, () -> new TypeScriptGenerator(extensionSettings)).getMessage().contains("outputSharding"));
+    }
+
+    private static Settings createSettings() {
+        final Settings settings = TestUtils.settings();
+        settings.outputKind = TypeScriptOutputKind.module;
+        settings.outputSharding = true;
+        settings.noFileComment = false;
+        return settings;
+    }
+
+    private static String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+}
@@ -10,6 +10,8 @@ import cz.habarta.typescript.generator.compiler.Symbol;
 import java.util.Arrays;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import org.junit.jupiter.api.Test;
 
 public class TsTypeTest {
@@ -29,6 +31,29 @@ public class TsTypeTest {
         assertNotEquals(new TsType.ReferenceType(new Symbol("Foo")), null);
     }
 
+    @Test
+    public void testStructuralEquals() {
+        final Symbol symbol = new Symbol("Foo");
+        final TsType type1 = new UnionType(new BasicArrayType(new TsType.ReferenceType(symbol)), new TsType.OptionalType(String));
+        final TsType type2 = new UnionType(new BasicArrayType(new TsType.ReferenceType(new Symbol("Foo"))), new TsType.OptionalType(String));
+        assertEquals(type1, type2);
+        assertEquals(type1.hashCode(), type2.hashCode());
+        assertNotEquals(type1, new UnionType(new BasicArrayType(new TsType.ReferenceType(symbol)), String));
+        symbol.setFullName(null, "Bar");
+        assertNotEquals(type1, type2);
+        assertEquals(type1, new UnionType(new BasicArrayType(new TsType.ReferenceType(new Symbol("Bar"))), new TsType.OptionalType(String)));
+    }
+
+    @Test
+    public void testIntern() {
+        assertSame(String.optional(), new TsType.BasicType("string").optional());
+        assertSame(TsType.intern(new BasicArrayType(Number)), TsType.intern(new BasicArrayType(Number)));
+        assertSame(String, TsType.intern(new TsType.BasicType("string")));
+        final TsType.OptionalType customOptional = new TsType.BasicType("bigint").optional();
+        assertEquals(customOptional, new TsType.BasicType("bigint").optional());
+        assertNotSame(customOptional, new TsType.BasicType("bigint").optional());
+    }
+
     @Test
     public void testTypeParentheses() {
         final Settings settings = TestUtils.settings();
@@ -52,4 +77,36 @@ public class TsTypeTest {
         )).format(settings));
     }
 
+    @Test
+    public void testTransformSharesUnchangedTypes() {
+        final TsType.ReferenceType reference = new TsType.ReferenceType(new Symbol("Foo"));
+        final TsType type = new UnionType(new BasicArrayType(reference), new IndexedArrayType(String, new ObjectType(Arrays.asList(
+                new TsProperty("a", Number),
+                new TsProperty("b", reference)
+        ))));
+        final TsType.Transformer identity = (context, t) -> t;
+        assertSame(type, TsType.transformTsType(new TsType.Context(), type, identity));
+
+        final TsType.Transformer numberToString = (context, t) -> t == Number ? String : t;
+        final UnionType transformed = (UnionType) TsType.transformTsType(new TsType.Context(), type, numberToString);
+        assertNotSame(type, transformed);
+        assertSame(((UnionType) type).types.get(0), transformed.types.get(0));
+        final ObjectType objectType = (ObjectType) ((IndexedArrayType) transformed.types.get(1)).elementType;
+        assertEquals(String, objectType.properties.get(0).tsType);
+        assertSame(reference, objectType.properties.get(1).tsType);
+    }
+
+    @Test
+    public void testComposeTransformers() {
+        final TsType type = new UnionType(new BasicArrayType(Number), new IndexedArrayType(String, TsType.Date));
+        final TsType.Transformer maps = (context, t) -> t instanceof IndexedArrayType
+                ? new TsType.GenericBasicType("Record", ((IndexedArrayType) t).indexType, ((IndexedArrayType) t).elementType)
+                : t;
+        final TsType.Transformer dates = (context, t) -> t == TsType.Date ? String : t;
+        final TsType sequential = TsType.transformTsType(new TsType.Context(), TsType.transformTsType(new TsType.Context(), type, maps), dates);
+        final TsType composed = TsType.transformTsType(new TsType.Context(), type, TsType.composeTransformers(Arrays.asList(maps, dates)));
+        assertEquals(sequential, composed);
+        assertEquals("number[] | Record<string, string>", composed.format(TestUtils.settings()));
+    }
+
 }
@@ -1,13 +1,20 @@
 
 package cz.habarta.typescript.generator;
 
+import cz.habarta.typescript.generator.util.GlobMatcher;
+import cz.habarta.typescript.generator.util.ListIndex;
+import cz.habarta.typescript.generator.util.TrackingList;
 import cz.habarta.typescript.generator.util.Utils;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.regex.Pattern;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -26,6 +33,34 @@ public class UtilsTest {
         Assertions.assertEquals("\\Qcz.habarta.test.\\E[^.\\$]*\\Q\\E", Utils.globsToRegexps(Arrays.asList("cz.habarta.test.*")).get(0).toString());
     }
 
+    @Test
+    public void testGlobMatcher() {
+        final List<String> globs = Arrays.asList("cz.habarta.test.*", "cz.habarta.test.**Json", "**Dto", "cz.habarta.Exact", "cz.habarta.*$Inner*");
+        final List<Pattern> regexps = Utils.globsToRegexps(globs);
+        final GlobMatcher matcher = new GlobMatcher(globs);
+        final List<String> classNames = Arrays.asList(
+                "cz.habarta.test.A",
+                "cz.habarta.test.sub.A",
+                "cz.habarta.test.sub.AJson",
+                "cz.habarta.test.Json",
+                "cz.habarta.test",
+                "cz.habarta.Exact",
+                "cz.habarta.Exact2",
+                "cz.habarta.Outer$Inner1",
+                "cz.habarta.Outer$Other",
+                "com.example.UserDto",
+                "com.example.UserDtoX",
+                "Dto"
+        );
+        for (String className : classNames) {
+            Assertions.assertEquals(Utils.classNameMatches(className, regexps), matcher.matches(className), className);
+        }
+        Assertions.assertTrue(matcher.matches("cz.habarta.test.A"));
+        Assertions.assertFalse(matcher.matches("cz.habarta.test.sub.A"));
+        Assertions.assertTrue(matcher.matches("cz.habarta.Exact"));
+        Assertions.assertFalse(new GlobMatcher(Collections.emptyList()).matches("cz.habarta.Exact"));
+    }
+
     @Test
     public void testPathJoin() {
         Assertions.assertEquals("controller", Utils.joinPath("/controller", null));
@@ -76,4 +111,34 @@ public class UtilsTest {
         Assertions.assertFalse(Utils.isPrimitiveType(NewClass.class));
     }
 
+    @Test
+    public void testListIndex() {
+        final List<String> list = new ArrayList<>(Arrays.asList("a1", "b1", "a2"));
+        final ListIndex<Character, String> index = new ListIndex<>(list, item -> item.charAt(0));
+        Assertions.assertEquals("a1", index.get('a'));
+        Assertions.assertNull(index.get('c'));
+        Assertions.assertNull(index.get(null));
+        list.add("c1");
+        Assertions.assertEquals("c1", index.get('c'));
+    }
+
+    @Test
+    public void testListIndexWithTrackingList() {
+        final List<String> list = TrackingList.of(new ArrayList<>(Arrays.asList("a1", "b1", "a2")));
+        final ListIndex<Character, String> index = new ListIndex<>(list, item -> item.charAt(0));
+        Assertions.assertEquals("a1", index.get('a'));
+        list.set(0, "d1");
+        Assertions.assertEquals("a2", index.get('a'));
+        Assertions.assertEquals("d1", index.get('d'));
+        list.remove("b1");
+        list.add("e1");
+        Assertions.assertNull(index.get('b'));
+        Assertions.assertEquals("e1", index.get('e'));
+        list.add(0, "a0");
+        Assertions.assertEquals("a0", index.get('a'));
+        list.removeIf(item -> item.startsWith("a"));
+        Assertions.assertNull(index.get('a'));
+        Assertions.assertEquals(Arrays.asList("d1", "e1"), list);
+    }
+
 }
@@ -0,0 +1,114 @@
+package cz.habarta.typescript.generator.ext;
+
+import cz.habarta.typescript.generator.Input;
+import cz.habarta.typescript.generator.JaxrsApplicationTest;
+import cz.habarta.typescript.generator.Output;
+import cz.habarta.typescript.generator.RestNamespacing;
+import cz.habarta.typescript.generator.Settings;
+import cz.habarta.typescript.generator.TestUtils;
+import cz.habarta.typescript.generator.TypeScriptFileType;
+import cz.habarta.typescript.generator.TypeScriptGenerator;
+import cz.habarta.typescript.generator.TypeScriptOutputKind;
+import cz.habarta.typescript.generator.util.Utils;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.QueryParam;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+public class RequestCoalescingExtensionTest {
+
+    @Test
+    public void test() {
+        final Settings settings = TestUtils.settings();
+        settings.outputFileType = TypeScriptFileType.implementationFile;
+        settings.outputKind = TypeScriptOutputKind.module;
+        settings.generateJaxrsApplicationClient = true;
+        settings.extensions.add(new RequestCoalescingExtension());
+        final String output = new TypeScriptGenerator(settings).generateTypeScript(Input.from(JaxrsApplicationTest.OrganizationApplication.class));
+        final String errorMessage = "Unexpected output: " + output;
+
+        Assertions.assertTrue(output.contains("export interface RequestCoalescingOptions {"), errorMessage);
+        Assertions.assertTrue(output.contains("export class CoalescingHttpClient implements HttpClient {"), errorMessage);
+        Assertions.assertTrue(output.contains("constructor(private httpClient: HttpClient, private coalescingOptions: RequestCoalescingOptions = {})"), errorMessage);
+        Assertions.assertTrue(output.contains("request<R>(requestConfig: { method: string; url: string; queryParams?: any; data?: any; copyFn?: (data: R) => R; }): RestResponse<R>"), errorMessage);
+    }
+
+    @Test
+    public void testWithAxios() {
+        final Settings settings = TestUtils.settings();
+        settings.outputFileType = TypeScriptFileType.implementationFile;
+        settings.outputKind = TypeScriptOutputKind.module;
+        settings.generateJaxrsApplicationClient = true;
+        settings.restNamespacing = RestNamespacing.perResource;
+        settings.extensions.add(new AxiosClientExtension());
+        settings.extensions.add(new RequestCoalescingExtension());
+        final String output = new TypeScriptGenerator(settings).generateTypeScript(Input.from(JaxrsApplicationTest.OrganizationApplication.class));
+        final String errorMessage = "Unexpected output: " + output;
+
+        Assertions.assertTrue(output.contains("export interface RequestCoalescingOptions<O> {"), errorMessage);
+        Assertions.assertTrue(output.contains("export class CoalescingHttpClient<O> implements HttpClient<O> {"), errorMessage);
+        Assertions.assertTrue(output.contains("constructor(private httpClient: HttpClient<O>, private coalescingOptions: RequestCoalescingOptions<O> = {})"), errorMessage);
+        Assertions.assertTrue(output.contains("request<R>(requestConfig: { method: string; url: string; queryParams?: any; data?: any; copyFn?: (data: R) => R; options?: O; }): RestResponse<R>"), errorMessage);
+    }
+
+    /**
+     * Generates client used by behavioral test in <code>src/test/ts/RequestCoalescingTest</code>
+     * (run with <code>npm run RequestCoalescingTest</code>) which sends requests to local HTTP server.
+     */
+    @Test
+    public void testClientForBehavioralTest() throws IOException {
+        final Settings settings = TestUtils.settings();
+        settings.outputFileType = TypeScriptFileType.implementationFile;
+        settings.outputKind = TypeScriptOutputKind.module;
+        settings.generateJaxrsApplicationClient = true;
+        settings.extensions.add(new RequestCoalescingExtension());
+        final File actualFile = new File("target/RequestCoalescingExtensionTest-actual.ts");
+        new TypeScriptGenerator(settings).generateTypeScript(Input.from(ItemResource.class), Output.to(actualFile));
+        final List<String> actualLines = Files.readAllLines(actualFile.toPath(), StandardCharsets.UTF_8);
+        final List<String> expectedLines = Utils.readLines(getClass().getResourceAsStream("RequestCoalescingExtensionTest-expected.ts"));
+        Assertions.assertEquals(expectedLines, actualLines);
+    }
+
+    @Path("items")
+    public static class ItemResource {
+        @GET
+        @Path("{id}")
+        public Item getItem(@PathParam("id") long id, @QueryParam("version") String version) {
+            return null;
+        }
+        @POST
+        public Item createItem(Item item) {
+            return null;
+        }
+        @DELETE
+        @Path("{id}")
+        public void deleteItem(@PathParam("id") long id) {
+        }
+    }
+
+    public static class Item {
+        public long id;
+        public String name;
+    }
+
+    @Test
+    public void testNonPromiseResponse() {
+        final Settings settings = TestUtils.settings();
+        settings.outputFileType = TypeScriptFileType.implementationFile;
+        settings.generateJaxrsApplicationClient = true;
+        settings.restResponseType = "Observable<R>";
+        settings.extensions.add(new RequestCoalescingExtension());
+        Assertions.assertThrows(RuntimeException.class, () -> new TypeScriptGenerator(settings).generateTypeScript(Input.from(JaxrsApplicationTest.OrganizationApplication.class)));
+    }
+
+}
@@ -85,6 +85,17 @@ public class Jackson2ParserPropertiesTest {
         Assertions.assertEquals(Arrays.asList("password1", "id1", "password2", "id2", "name"), getProperties(User4.class));
     }
 
+    @Test
+    public void testIntrospectionCache() {
+        final Jackson2Parser jackson2Parser = (Jackson2Parser) new TypeScriptGenerator(TestUtils.settings()).getModelParser();
+        final List<BeanProperty> properties1 = jackson2Parser.getBeanProperties(User2.class);
+        final List<BeanProperty> properties2 = jackson2Parser.getBeanProperties(User2.class);
+        Assertions.assertEquals(5, properties1.size());
+        for (int i = 0; i < properties1.size(); i++) {
+            Assertions.assertSame(properties1.get(i), properties2.get(i));
+        }
+    }
+
     private List<String> getProperties(Class<?> beanClass) {
         final Settings settings = TestUtils.settings();
         final TypeScriptGenerator typeScriptGenerator = new TypeScriptGenerator(settings);
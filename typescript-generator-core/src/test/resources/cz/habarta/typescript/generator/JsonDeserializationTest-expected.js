@@ -0,0 +1,188 @@
+"use strict";
+Object.defineProperty(exports, "__esModule", { value: true });
+exports.Circle = exports.Rectangle = exports.Square = exports.ShapeMetadata = exports.Shape = exports.Order = exports.PagedList = exports.Address = exports.User = void 0;
+class User {
+    static fromData(data, target) {
+        if (!data) {
+            return data;
+        }
+        const instance = target || new User();
+        instance.name = data.name;
+        instance.authentication = data.authentication;
+        instance.childAccount = data.childAccount;
+        instance.age = data.age;
+        instance.address = Address.fromData(data.address);
+        instance.addresses = __copyArray(data.addresses, Address.fromData);
+        instance.taggedAddresses = __copyObject(data.taggedAddresses, Address.fromData);
+        instance.groupedAddresses = __copyObject(data.groupedAddresses, User.__copyGroupedAddressesItem);
+        instance.listOfTaggedAddresses = __copyArray(data.listOfTaggedAddresses, User.__copyListOfTaggedAddressesItem);
+        instance.tags = __copyArray(data.tags);
+        instance.mapping = __copyObject(data.mapping);
+        instance.listOfListOfString = __copyArray(data.listOfListOfString, __copyArray);
+        instance.orders = PagedList.fromData(data.orders, Order.fromData, __identity);
+        instance.allOrders = __copyArray(data.allOrders, User.__copyAllOrdersItem);
+        instance.shape = Shape.fromDataUnion(data.shape);
+        instance.shapes = __copyArray(data.shapes, Shape.fromDataUnion);
+        return instance;
+    }
+    static __copyGroupedAddressesItem(data) {
+        return __copyArray(data, Address.fromData);
+    }
+    static __copyListOfTaggedAddressesItem(data) {
+        return __copyObject(data, Address.fromData);
+    }
+    static __copyAllOrdersItem(data) {
+        return PagedList.fromData(data, Order.fromData, __identity);
+    }
+}
+exports.User = User;
+class Address {
+    static fromData(data, target) {
+        if (!data) {
+            return data;
+        }
+        const instance = target || new Address();
+        instance.street = data.street;
+        instance.city = data.city;
+        return instance;
+    }
+}
+exports.Address = Address;
+class PagedList {
+    static fromDataFn(constructorFnOfT, constructorFnOfA) {
+        return data => PagedList.fromData(data, constructorFnOfT, constructorFnOfA);
+    }
+    static fromData(data, constructorFnOfT, constructorFnOfA, target) {
+        if (!data) {
+            return data;
+        }
+        const instance = target || new PagedList();
+        instance.page = data.page;
+        instance.items = __copyArray(data.items, constructorFnOfT);
+        instance.additionalInfo = constructorFnOfA(data.additionalInfo);
+        return instance;
+    }
+}
+exports.PagedList = PagedList;
+class Order {
+    static fromData(data, target) {
+        if (!data) {
+            return data;
+        }
+        const instance = target || new Order();
+        instance.id = data.id;
+        return instance;
+    }
+}
+exports.Order = Order;
+class Shape {
+    static fromData(data, target) {
+        if (!data) {
+            return data;
+        }
+        const instance = target || new Shape();
+        instance.kind = data.kind;
+        instance.metadata = ShapeMetadata.fromData(data.metadata);
+        return instance;
+    }
+    static fromDataUnion(data) {
+        if (!data) {
+            return data;
+        }
+        switch (data.kind) {
+            case "square":
+                return Square.fromData(data);
+            case "rectangle":
+                return Rectangle.fromData(data);
+            case "circle":
+                return Circle.fromData(data);
+        }
+    }
+}
+exports.Shape = Shape;
+class ShapeMetadata {
+    static fromData(data, target) {
+        if (!data) {
+            return data;
+        }
+        const instance = target || new ShapeMetadata();
+        instance.group = data.group;
+        return instance;
+    }
+}
+exports.ShapeMetadata = ShapeMetadata;
+class Square extends Shape {
+    static fromData(data, target) {
+        if (!data) {
+            return data;
+        }
+        const instance = target || new Square();
+        super.fromData(data, instance);
+        instance.size = data.size;
+        return instance;
+    }
+}
+exports.Square = Square;
+class Rectangle extends Shape {
+    static fromData(data, target) {
+        if (!data) {
+            return data;
+        }
+        const instance = target || new Rectangle();
+        super.fromData(data, instance);
+        instance.width = data.width;
+        instance.height = data.height;
+        return instance;
+    }
+}
+exports.Rectangle = Rectangle;
+class Circle extends Shape {
+    static fromData(data, target) {
+        if (!data) {
+            return data;
+        }
+        const instance = target || new Circle();
+        super.fromData(data, instance);
+        instance.radius = data.radius;
+        return instance;
+    }
+}
+exports.Circle = Circle;
+function __getCopyArrayFn(itemCopyFn) {
+    return (array) => __copyArray(array, itemCopyFn);
+}
+function __copyArray(array, itemCopyFn) {
+    if (!array) {
+        return array;
+    }
+    if (!itemCopyFn) {
+        return array.slice();
+    }
+    const length = array.length;
+    const result = new Array(length);
+    for (let i = 0; i < length; i++) {
+        const item = array[i];
+        result[i] = item && itemCopyFn(item);
+    }
+    return result;
+}
+function __getCopyObjectFn(itemCopyFn) {
+    return (object) => __copyObject(object, itemCopyFn);
+}
+function __copyObject(object, itemCopyFn) {
+    if (!object) {
+        return object;
+    }
+    const result = {};
+    for (const key in object) {
+        if (Object.prototype.hasOwnProperty.call(object, key)) {
+            const value = object[key];
+            result[key] = itemCopyFn && value ? itemCopyFn(value) : value;
+        }
+    }
+    return result;
+}
+function __identity(value) {
+    return value;
+}
+//# sourceMappingURL=JsonDeserializationTest-expected.js.map
\ No newline at end of file
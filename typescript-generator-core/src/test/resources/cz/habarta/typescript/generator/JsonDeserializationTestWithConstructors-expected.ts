@@ -46,19 +46,31 @@ export class User {
         instance.childAccount = data.childAccount;
         instance.age = data.age;
         instance.address = Address.fromData(data.address);
-        instance.addresses = __getCopyArrayFn(Address.fromData)(data.addresses);
-        instance.taggedAddresses = __getCopyObjectFn(Address.fromData)(data.taggedAddresses);
-        instance.groupedAddresses = __getCopyObjectFn(__getCopyArrayFn(Address.fromData))(data.groupedAddresses);
-        instance.listOfTaggedAddresses = __getCopyArrayFn(__getCopyObjectFn(Address.fromData))(data.listOfTaggedAddresses);
-        instance.tags = __getCopyArrayFn(__identity<string>())(data.tags);
-        instance.mapping = __getCopyObjectFn(__identity<string>())(data.mapping);
-        instance.listOfListOfString = __getCopyArrayFn(__getCopyArrayFn(__identity<string>()))(data.listOfListOfString);
-        instance.orders = PagedList.fromDataFn<Order, Authentication>(Order.fromData, __identity<Authentication>())(data.orders);
-        instance.allOrders = __getCopyArrayFn(PagedList.fromDataFn<Order, Authentication>(Order.fromData, __identity<Authentication>()))(data.allOrders);
+        instance.addresses = __copyArray(data.addresses, Address.fromData);
+        instance.taggedAddresses = __copyObject(data.taggedAddresses, Address.fromData);
+        instance.groupedAddresses = __copyObject(data.groupedAddresses, User.__copyGroupedAddressesItem);
+        instance.listOfTaggedAddresses = __copyArray(data.listOfTaggedAddresses, User.__copyListOfTaggedAddressesItem);
+        instance.tags = __copyArray(data.tags);
+        instance.mapping = __copyObject(data.mapping);
+        instance.listOfListOfString = __copyArray(data.listOfListOfString, __copyArray);
+        instance.orders = PagedList.fromData<Order, Authentication>(data.orders, Order.fromData, __identity);
+        instance.allOrders = __copyArray(data.allOrders, User.__copyAllOrdersItem);
         instance.shape = Shape.fromDataUnion(data.shape);
-        instance.shapes = __getCopyArrayFn(Shape.fromDataUnion)(data.shapes);
+        instance.shapes = __copyArray(data.shapes, Shape.fromDataUnion);
         return instance;
     }
+
+    static __copyGroupedAddressesItem(data: Address[]): Address[] {
+        return __copyArray(data, Address.fromData);
+    }
+
+    static __copyListOfTaggedAddressesItem(data: { [index: string]: Address }): { [index: string]: Address } {
+        return __copyObject(data, Address.fromData);
+    }
+
+    static __copyAllOrdersItem(data: PagedList<Order, Authentication>): PagedList<Order, Authentication> {
+        return PagedList.fromData<Order, Authentication>(data, Order.fromData, __identity);
+    }
 }
 
 export class Address {
@@ -102,7 +114,7 @@ export class PagedList<T, A> {
         }
         const instance = target || new PagedList<T, A>(data);
         instance.page = data.page;
-        instance.items = __getCopyArrayFn(constructorFnOfT)(data.items);
+        instance.items = __copyArray(data.items, constructorFnOfT);
         instance.additionalInfo = constructorFnOfA(data.additionalInfo);
         return instance;
     }
@@ -243,32 +255,44 @@ export type Authentication = "Password" | "Token" | "Fingerprint" | "Voice";
 
 export type ShapeUnion = Square | Rectangle | Circle;
 
-function __getCopyArrayFn<T>(itemCopyFn: (item: T) => T): (array: T[]) => T[] {
+function __getCopyArrayFn<T>(itemCopyFn?: (item: T) => T): (array: T[]) => T[] {
     return (array: T[]) => __copyArray(array, itemCopyFn);
 }
 
-function __copyArray<T>(array: T[], itemCopyFn: (item: T) => T): T[] {
-    return array && array.map(item => item && itemCopyFn(item));
+function __copyArray<T>(array: T[], itemCopyFn?: (item: T) => T): T[] {
+    if (!array) {
+        return array;
+    }
+    if (!itemCopyFn) {
+        return array.slice();
+    }
+    const length = array.length;
+    const result: T[] = new Array(length);
+    for (let i = 0; i < length; i++) {
+        const item = array[i];
+        result[i] = item && itemCopyFn(item);
+    }
+    return result;
 }
 
-function __getCopyObjectFn<T>(itemCopyFn: (item: T) => T): (object: { [index: string]: T }) => { [index: string]: T } {
+function __getCopyObjectFn<T>(itemCopyFn?: (item: T) => T): (object: { [index: string]: T }) => { [index: string]: T } {
     return (object: { [index: string]: T }) => __copyObject(object, itemCopyFn);
 }
 
-function __copyObject<T>(object: { [index: string]: T }, itemCopyFn: (item: T) => T): { [index: string]: T } {
+function __copyObject<T>(object: { [index: string]: T }, itemCopyFn?: (item: T) => T): { [index: string]: T } {
     if (!object) {
         return object;
     }
-    const result: any = {};
+    const result: { [index: string]: T } = {};
     for (const key in object) {
-        if (object.hasOwnProperty(key)) {
+        if (Object.prototype.hasOwnProperty.call(object, key)) {
             const value = object[key];
-            result[key] = value && itemCopyFn(value);
+            result[key] = itemCopyFn && value ? itemCopyFn(value) : value;
         }
     }
     return result;
 }
 
-function __identity<T>(): (value: T) => T {
-    return value => value;
+function __identity<T>(value: T): T {
+    return value;
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+"use strict";
+Object.defineProperty(exports, "__esModule", { value: true });
+exports.CoalescingHttpClient = exports.RestApplicationClient = void 0;
+class RestApplicationClient {
+    constructor(httpClient) {
+        this.httpClient = httpClient;
+    }
+    /**
+     * HTTP POST /items
+     * Java method: cz.habarta.typescript.generator.ext.RequestCoalescingExtensionTest$ItemResource.createItem
+     */
+    createItem(item) {
+        return this.httpClient.request({ method: "POST", url: uriEncoding `items`, data: item });
+    }
+    /**
+     * HTTP DELETE /items/{id}
+     * Java method: cz.habarta.typescript.generator.ext.RequestCoalescingExtensionTest$ItemResource.deleteItem
+     */
+    deleteItem(id) {
+        return this.httpClient.request({ method: "DELETE", url: uriEncoding `items/${id}` });
+    }
+    /**
+     * HTTP GET /items/{id}
+     * Java method: cz.habarta.typescript.generator.ext.RequestCoalescingExtensionTest$ItemResource.getItem
+     */
+    getItem(id, queryParams) {
+        return this.httpClient.request({ method: "GET", url: uriEncoding `items/${id}`, queryParams: queryParams });
+    }
+}
+exports.RestApplicationClient = RestApplicationClient;
+function uriEncoding(template, ...substitutions) {
+    let result = "";
+    for (let i = 0; i < substitutions.length; i++) {
+        result += template[i];
+        result += encodeURIComponent(substitutions[i]);
+    }
+    result += template[template.length - 1];
+    return result;
+}
+/**
+ * HttpClient which shares one response between identical GET requests which are in progress at the same time
+ * and optionally caches responses of GET requests.
+ * Requests with body or options are never shared.
+ * Note that shared response data is the same object for all callers.
+ */
+class CoalescingHttpClient {
+    constructor(httpClient, coalescingOptions = {}) {
+        this.httpClient = httpClient;
+        this.coalescingOptions = coalescingOptions;
+        this.inFlight = {};
+        this.cache = {};
+    }
+    request(requestConfig) {
+        if (requestConfig.method !== "GET" || requestConfig.data !== undefined || requestConfig.options !== undefined) {
+            return this.send(requestConfig);
+        }
+        const key = requestConfig.method + " " + requestConfig.url + " " + JSON.stringify(requestConfig.queryParams || {});
+        const cached = this.cache[key];
+        if (cached) {
+            if (cached.expires > Date.now()) {
+                return cached.response;
+            }
+            delete this.cache[key];
+        }
+        const inFlight = this.inFlight[key];
+        if (inFlight) {
+            return inFlight;
+        }
+        const response = this.send(requestConfig);
+        this.inFlight[key] = response;
+        const cacheTimeToLive = this.coalescingOptions.cacheTimeToLive;
+        response.then(() => {
+            delete this.inFlight[key];
+            if (cacheTimeToLive) {
+                const now = Date.now();
+                this.removeExpired(now);
+                this.cache[key] = { expires: now + cacheTimeToLive, response: response };
+            }
+        }, () => {
+            delete this.inFlight[key];
+        });
+        return response;
+    }
+    clearCache() {
+        this.cache = {};
+    }
+    removeExpired(now) {
+        for (const key in this.cache) {
+            if (this.cache[key].expires <= now) {
+                delete this.cache[key];
+            }
+        }
+    }
+    send(requestConfig) {
+        const batch = this.coalescingOptions.batch;
+        return batch
+            ? batch(requestConfig, () => this.httpClient.request(requestConfig))
+            : this.httpClient.request(requestConfig);
+    }
+}
+exports.CoalescingHttpClient = CoalescingHttpClient;
+//# sourceMappingURL=RequestCoalescingExtensionTest-expected.js.map
\ No newline at end of file
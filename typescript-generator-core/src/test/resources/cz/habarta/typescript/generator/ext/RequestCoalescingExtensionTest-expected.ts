@@ -0,0 +1,134 @@
+
+export interface Item {
+    id: number;
+    name: string;
+}
+
+export interface HttpClient {
+
+    request<R>(requestConfig: { method: string; url: string; queryParams?: any; data?: any; copyFn?: (data: R) => R; }): RestResponse<R>;
+}
+
+export class RestApplicationClient {
+
+    constructor(protected httpClient: HttpClient) {
+    }
+
+    /**
+     * HTTP POST /items
+     * Java method: cz.habarta.typescript.generator.ext.RequestCoalescingExtensionTest$ItemResource.createItem
+     */
+    createItem(item: Item): RestResponse<Item> {
+        return this.httpClient.request({ method: "POST", url: uriEncoding`items`, data: item });
+    }
+
+    /**
+     * HTTP DELETE /items/{id}
+     * Java method: cz.habarta.typescript.generator.ext.RequestCoalescingExtensionTest$ItemResource.deleteItem
+     */
+    deleteItem(id: number): RestResponse<void> {
+        return this.httpClient.request({ method: "DELETE", url: uriEncoding`items/${id}` });
+    }
+
+    /**
+     * HTTP GET /items/{id}
+     * Java method: cz.habarta.typescript.generator.ext.RequestCoalescingExtensionTest$ItemResource.getItem
+     */
+    getItem(id: number, queryParams?: { version?: string; }): RestResponse<Item> {
+        return this.httpClient.request({ method: "GET", url: uriEncoding`items/${id}`, queryParams: queryParams });
+    }
+}
+
+export type RestResponse<R> = Promise<R>;
+
+function uriEncoding(template: TemplateStringsArray, ...substitutions: any[]): string {
+    let result = "";
+    for (let i = 0; i < substitutions.length; i++) {
+        result += template[i];
+        result += encodeURIComponent(substitutions[i]);
+    }
+    result += template[template.length - 1];
+    return result;
+}
+
+
+// Added by 'RequestCoalescingExtension' extension
+
+export interface RequestCoalescingOptions {
+    /**
+     * Time in milliseconds for which successful GET responses are cached (keyed by method, URL and query parameters).
+     * Caching is disabled when not specified.
+     */
+    cacheTimeToLive?: number;
+    /**
+     * Hook which receives every request which is about to be sent and can for example delay it and send it together with other requests.
+     * It must eventually call `send` function or return its own response.
+     */
+    batch?: <R>(requestConfig: { method: string; url: string; queryParams?: any; data?: any; copyFn?: (data: R) => R; }, send: () => RestResponse<R>) => RestResponse<R>;
+}
+
+/**
+ * HttpClient which shares one response between identical GET requests which are in progress at the same time
+ * and optionally caches responses of GET requests.
+ * Requests with body or options are never shared.
+ * Note that shared response data is the same object for all callers.
+ */
+export class CoalescingHttpClient implements HttpClient {
+
+    private inFlight: { [key: string]: RestResponse<any> } = {};
+    private cache: { [key: string]: { expires: number; response: RestResponse<any> } } = {};
+
+    constructor(private httpClient: HttpClient, private coalescingOptions: RequestCoalescingOptions = {}) {
+    }
+
+    request<R>(requestConfig: { method: string; url: string; queryParams?: any; data?: any; copyFn?: (data: R) => R; }): RestResponse<R> {
+        if (requestConfig.method !== "GET" || requestConfig.data !== undefined || (requestConfig as any).options !== undefined) {
+            return this.send(requestConfig);
+        }
+        const key = requestConfig.method + " " + requestConfig.url + " " + JSON.stringify(requestConfig.queryParams || {});
+        const cached = this.cache[key];
+        if (cached) {
+            if (cached.expires > Date.now()) {
+                return cached.response;
+            }
+            delete this.cache[key];
+        }
+        const inFlight = this.inFlight[key];
+        if (inFlight) {
+            return inFlight;
+        }
+        const response = this.send(requestConfig);
+        this.inFlight[key] = response;
+        const cacheTimeToLive = this.coalescingOptions.cacheTimeToLive;
+        response.then(() => {
+            delete this.inFlight[key];
+            if (cacheTimeToLive) {
+                const now = Date.now();
+                this.removeExpired(now);
+                this.cache[key] = { expires: now + cacheTimeToLive, response: response };
+            }
+        }, () => {
+            delete this.inFlight[key];
+        });
+        return response;
+    }
+
+    clearCache(): void {
+        this.cache = {};
+    }
+
+    private removeExpired(now: number): void {
+        for (const key in this.cache) {
+            if (this.cache[key].expires <= now) {
+                delete this.cache[key];
+            }
+        }
+    }
+
+    private send<R>(requestConfig: { method: string; url: string; queryParams?: any; data?: any; copyFn?: (data: R) => R; }): RestResponse<R> {
+        const batch = this.coalescingOptions.batch;
+        return batch
+            ? batch(requestConfig, () => this.httpClient.request(requestConfig))
+            : this.httpClient.request(requestConfig);
+    }
+}
@@ -0,0 +1,36 @@
+"use strict";
+Object.defineProperty(exports, "__esModule", { value: true });
+const perf_hooks_1 = require("perf_hooks");
+const JsonDeserializationTest_expected_1 = require("../../resources/cz/habarta/typescript/generator/JsonDeserializationTest-expected");
+// Measures generated `fromData` methods deserializing page of 50 000 users (each with nested arrays, maps, generic classes and unions).
+// To compare with other version of generated code replace JsonDeserializationTest-expected.ts (for example using `git show`) and run it again.
+const itemCount = 50000;
+const warmupIterations = 10;
+const measuredIterations = 20;
+const user = require("../JsonDeserializationTest/JsonDeserializationTest-expected-test-data");
+const items = [];
+for (let i = 0; i < itemCount; i++) {
+    items.push(user);
+}
+// parsed again so each item is separate object graph as in real response
+const payload = JSON.parse(JSON.stringify({ page: 1, items: items, additionalInfo: "Token" }));
+function deserialize() {
+    return JsonDeserializationTest_expected_1.PagedList.fromData(payload, JsonDeserializationTest_expected_1.User.fromData, authentication => authentication);
+}
+for (let i = 0; i < warmupIterations; i++) {
+    deserialize();
+}
+const times = [];
+for (let i = 0; i < measuredIterations; i++) {
+    const start = perf_hooks_1.performance.now();
+    const result = deserialize();
+    times.push(perf_hooks_1.performance.now() - start);
+    if (result.items.length !== itemCount || !(result.items[itemCount - 1] instanceof JsonDeserializationTest_expected_1.User)) {
+        throw new Error("Unexpected result");
+    }
+}
+times.sort((a, b) => a - b);
+const mean = times.reduce((sum, time) => sum + time, 0) / times.length;
+console.log(`JsonDeserializationBenchmark: ${itemCount} items, ${measuredIterations} iterations, `
+    + `min ${times[0].toFixed(1)} ms, median ${times[Math.floor(times.length / 2)].toFixed(1)} ms, mean ${mean.toFixed(1)} ms`);
+//# sourceMappingURL=JsonDeserializationBenchmark.js.map
\ No newline at end of file
@@ -0,0 +1,38 @@
+import { performance } from "perf_hooks";
+import { Authentication, PagedList, User } from "../../resources/cz/habarta/typescript/generator/JsonDeserializationTest-expected";
+
+// Measures generated `fromData` methods deserializing page of 50 000 users (each with nested arrays, maps, generic classes and unions).
+// To compare with other version of generated code replace JsonDeserializationTest-expected.ts (for example using `git show`) and run it again.
+
+const itemCount = 50000;
+const warmupIterations = 10;
+const measuredIterations = 20;
+
+const user = require("../JsonDeserializationTest/JsonDeserializationTest-expected-test-data");
+const items: User[] = [];
+for (let i = 0; i < itemCount; i++) {
+    items.push(user);
+}
+// parsed again so each item is separate object graph as in real response
+const payload: PagedList<User, Authentication> = JSON.parse(JSON.stringify({ page: 1, items: items, additionalInfo: "Token" }));
+
+function deserialize(): PagedList<User, Authentication> {
+    return PagedList.fromData<User, Authentication>(payload, User.fromData, authentication => authentication);
+}
+
+for (let i = 0; i < warmupIterations; i++) {
+    deserialize();
+}
+const times: number[] = [];
+for (let i = 0; i < measuredIterations; i++) {
+    const start = performance.now();
+    const result = deserialize();
+    times.push(performance.now() - start);
+    if (result.items.length !== itemCount || !(result.items[itemCount - 1] instanceof User)) {
+        throw new Error("Unexpected result");
+    }
+}
+times.sort((a, b) => a - b);
+const mean = times.reduce((sum, time) => sum + time, 0) / times.length;
+console.log(`JsonDeserializationBenchmark: ${itemCount} items, ${measuredIterations} iterations, `
+    + `min ${times[0].toFixed(1)} ms, median ${times[Math.floor(times.length / 2)].toFixed(1)} ms, mean ${mean.toFixed(1)} ms`);
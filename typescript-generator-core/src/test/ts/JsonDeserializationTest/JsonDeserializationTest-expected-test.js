@@ -0,0 +1,110 @@
+"use strict";
+Object.defineProperty(exports, "__esModule", { value: true });
+var JsonDeserializationTest_expected_1 = require("../../resources/cz/habarta/typescript/generator/JsonDeserializationTest-expected");
+// load JSON data
+var data = require("./JsonDeserializationTest-expected-test-data");
+assertEquals(typeof data, "object");
+assertEquals(data instanceof JsonDeserializationTest_expected_1.User, false);
+// deserialize to classes
+var user = JsonDeserializationTest_expected_1.User.fromData(data);
+assertType(user, "object");
+assertType(user, JsonDeserializationTest_expected_1.User);
+// .name
+assertType(user.name, "string");
+// .authentication
+assertType(user.authentication, "string");
+// .childAccount
+assertType(user.childAccount, "boolean");
+// .age
+assertType(user.age, "number");
+// .address
+assertType(user.address, JsonDeserializationTest_expected_1.Address);
+// .addresses
+assertType(user.addresses, "object" /*array*/);
+assertType(user.addresses, Array);
+// .taggedAddresses
+assertType(user.taggedAddresses, "object");
+assertType(user.taggedAddresses["address3"], JsonDeserializationTest_expected_1.Address);
+// .groupedAddresses
+assertType(user.groupedAddresses, "object");
+assertType(user.groupedAddresses["addresses4"], Array);
+assertType(user.groupedAddresses["addresses4"][0], JsonDeserializationTest_expected_1.Address);
+// .listOfTaggedAddresses
+assertType(user.listOfTaggedAddresses, Array);
+assertType(user.listOfTaggedAddresses[0], "object");
+assertType(user.listOfTaggedAddresses[0]["address6"], JsonDeserializationTest_expected_1.Address);
+// .tags
+assertType(user.tags, Array);
+assertType(user.tags[0], "string");
+// .mapping
+assertType(user.mapping, "object");
+assertType(user.mapping["key"], "string");
+// .listOfListOfString
+assertType(user.listOfListOfString, Array);
+assertType(user.listOfListOfString[0], Array);
+assertType(user.listOfListOfString[0][0], "string");
+// .orders
+assertType(user.orders, JsonDeserializationTest_expected_1.PagedList);
+assertType(user.orders.page, "number");
+assertType(user.orders.items, Array);
+assertType(user.orders.items[0], JsonDeserializationTest_expected_1.Order);
+assertType(user.orders.items[0].id, "string");
+assertType(user.orders.additionalInfo, "string");
+// .allOrders
+assertType(user.allOrders, Array);
+assertType(user.allOrders[0], JsonDeserializationTest_expected_1.PagedList);
+assertType(user.allOrders[0].page, "number");
+assertType(user.allOrders[0].items, Array);
+assertType(user.allOrders[0].items[0], JsonDeserializationTest_expected_1.Order);
+assertType(user.allOrders[0].items[0].id, "string");
+assertType(user.allOrders[0].additionalInfo, "string");
+// .shape
+assertType(user.shape, "object");
+assertType(user.shape, JsonDeserializationTest_expected_1.Square);
+assertType(user.shape.kind, "string");
+assertType(user.shape.metadata, JsonDeserializationTest_expected_1.ShapeMetadata);
+assertType(user.shape.metadata.group, "string");
+assertType(user.shape.size, "number");
+// .shapes
+assertType(user.shapes, Array);
+assertType(user.shapes[0], "object");
+assertType(user.shapes[0], JsonDeserializationTest_expected_1.Rectangle);
+assertType(user.shapes[0].kind, "string");
+assertType(user.shapes[0].metadata, JsonDeserializationTest_expected_1.ShapeMetadata);
+assertType(user.shapes[0].metadata.group, "string");
+assertType(user.shapes[0].width, "number");
+assertType(user.shapes[0].height, "number");
+JsonDeserializationTest_expected_1.User.prototype.equals = function (other) {
+    return this.name === other.name;
+};
+// test augmentation
+var user1 = JsonDeserializationTest_expected_1.User.fromData(data);
+var user2 = JsonDeserializationTest_expected_1.User.fromData(data);
+assertEquals(user1.equals(user2), true);
+user2.name = "name2";
+assertEquals(user1.equals(user2), false);
+var serializedData = JSON.stringify(user2);
+require('fs').writeFileSync("./target/JsonDeserializationTest-actual-test-data-2.json", serializedData);
+var data2 = require("../../../../target/JsonDeserializationTest-actual-test-data");
+var actualUser2 = JsonDeserializationTest_expected_1.User.fromData(data2);
+assertEquals(actualUser2.name, "user1");
+assertEquals(actualUser2.authentication, "Password");
+console.log("Test finished.");
+function assertType(value, type, message) {
+    if (typeof type === "string") {
+        assertEquals(typeof value, type, message);
+    }
+    else {
+        assertEquals(value instanceof type, true, message);
+    }
+}
+function assertEquals(actual, expected, message) {
+    if (actual !== expected) {
+        fail((message ? message + " " : "") +
+            "\"expected [".concat(expected, "] but found [").concat(actual, "]"));
+    }
+}
+function fail(message) {
+    throw new Error(message);
+}
+//# sourceMappingURL=JsonDeserializationTest-expected-test.js.map
\ No newline at end of file
@@ -0,0 +1,120 @@
+"use strict";
+Object.defineProperty(exports, "__esModule", { value: true });
+const assert = require("assert");
+const http = require("http");
+const RequestCoalescingExtensionTest_expected_1 = require("../../resources/cz/habarta/typescript/generator/ext/RequestCoalescingExtensionTest-expected");
+// mock server which records received requests and responds after short delay so requests stay in flight for a while
+const receivedRequests = [];
+const server = http.createServer((request, response) => {
+    receivedRequests.push(request.method + " " + request.url);
+    request.resume();
+    request.on("end", () => {
+        setTimeout(() => {
+            const item = { id: receivedRequests.length, name: request.method + " " + request.url };
+            response.setHeader("Content-Type", "application/json");
+            response.end(JSON.stringify(item));
+        }, 50);
+    });
+});
+class NodeHttpClient {
+    constructor(port) {
+        this.port = port;
+    }
+    request(requestConfig) {
+        const queryParams = requestConfig.queryParams || {};
+        const query = Object.keys(queryParams)
+            .map(name => encodeURIComponent(name) + "=" + encodeURIComponent(queryParams[name]))
+            .join("&");
+        return new Promise((resolve, reject) => {
+            const request = http.request({
+                host: "127.0.0.1",
+                port: this.port,
+                method: requestConfig.method,
+                path: "/" + requestConfig.url + (query ? "?" + query : ""),
+                headers: { "Content-Type": "application/json" },
+            }, response => {
+                let body = "";
+                response.setEncoding("utf8");
+                response.on("data", chunk => body += chunk);
+                response.on("end", () => resolve(JSON.parse(body)));
+            });
+            request.on("error", reject);
+            if (requestConfig.data !== undefined) {
+                request.write(JSON.stringify(requestConfig.data));
+            }
+            request.end();
+        });
+    }
+}
+function delay(milliseconds) {
+    return new Promise(resolve => setTimeout(resolve, milliseconds));
+}
+function createClient(options) {
+    const port = server.address().port;
+    const coalescingClient = new RequestCoalescingExtensionTest_expected_1.CoalescingHttpClient(new NodeHttpClient(port), options);
+    return { coalescingClient: coalescingClient, client: new RequestCoalescingExtensionTest_expected_1.RestApplicationClient(coalescingClient) };
+}
+async function testDeduplication() {
+    const { client } = createClient();
+    receivedRequests.length = 0;
+    const responses = await Promise.all([
+        client.getItem(1),
+        client.getItem(1),
+        client.getItem(1, { version: "2" }),
+        client.getItem(2),
+    ]);
+    assert.deepStrictEqual(receivedRequests.slice().sort(), ["GET /items/1", "GET /items/1?version=2", "GET /items/2"]);
+    assert.strictEqual(responses[0], responses[1]);
+    assert.notStrictEqual(responses[0], responses[2]);
+    // without cache finished request is sent again
+    await client.getItem(1);
+    assert.strictEqual(receivedRequests.length, 4);
+}
+async function testCacheExpiration() {
+    const { coalescingClient, client } = createClient({ cacheTimeToLive: 200 });
+    receivedRequests.length = 0;
+    const first = await client.getItem(1);
+    const second = await client.getItem(1);
+    assert.strictEqual(receivedRequests.length, 1);
+    assert.strictEqual(first, second);
+    await delay(250);
+    const third = await client.getItem(1);
+    assert.strictEqual(receivedRequests.length, 2);
+    assert.notStrictEqual(first, third);
+    // expired entries for other keys are removed when new response is cached
+    await client.getItem(2, { version: "1" });
+    await client.getItem(2, { version: "2" });
+    await delay(250);
+    await client.getItem(2, { version: "3" });
+    assert.deepStrictEqual(Object.keys(coalescingClient.cache), ["GET items/2 {\"version\":\"3\"}"]);
+}
+async function testNonGetRequestsPassThrough() {
+    const { client } = createClient({ cacheTimeToLive: 1000 });
+    receivedRequests.length = 0;
+    const item = { id: 1, name: "item" };
+    const responses = await Promise.all([client.createItem(item), client.createItem(item)]);
+    await client.createItem(item);
+    assert.deepStrictEqual(receivedRequests, ["POST /items", "POST /items", "POST /items"]);
+    assert.notStrictEqual(responses[0], responses[1]);
+    // requests without body are not shared either
+    receivedRequests.length = 0;
+    await Promise.all([client.deleteItem(1), client.deleteItem(1)]);
+    await client.deleteItem(1);
+    assert.deepStrictEqual(receivedRequests, ["DELETE /items/1", "DELETE /items/1", "DELETE /items/1"]);
+}
+server.listen(0, "127.0.0.1", async () => {
+    try {
+        await testDeduplication();
+        await testCacheExpiration();
+        await testNonGetRequestsPassThrough();
+        console.log("RequestCoalescingTest passed");
+    }
+    catch (e) {
+        console.error(e);
+        process.exitCode = 1;
+    }
+    finally {
+        server.close();
+    }
+});
+//# sourceMappingURL=RequestCoalescingTest.js.map
\ No newline at end of file
@@ -0,0 +1,125 @@
+import * as assert from "assert";
+import * as http from "http";
+import { AddressInfo } from "net";
+import { CoalescingHttpClient, HttpClient, Item, RequestCoalescingOptions, RestApplicationClient } from "../../resources/cz/habarta/typescript/generator/ext/RequestCoalescingExtensionTest-expected";
+
+// mock server which records received requests and responds after short delay so requests stay in flight for a while
+const receivedRequests: string[] = [];
+const server = http.createServer((request, response) => {
+    receivedRequests.push(request.method + " " + request.url);
+    request.resume();
+    request.on("end", () => {
+        setTimeout(() => {
+            const item: Item = { id: receivedRequests.length, name: request.method + " " + request.url };
+            response.setHeader("Content-Type", "application/json");
+            response.end(JSON.stringify(item));
+        }, 50);
+    });
+});
+
+class NodeHttpClient implements HttpClient {
+
+    constructor(private port: number) {
+    }
+
+    request<R>(requestConfig: { method: string; url: string; queryParams?: any; data?: any; copyFn?: (data: R) => R; }): Promise<R> {
+        const queryParams = requestConfig.queryParams || {};
+        const query = Object.keys(queryParams)
+            .map(name => encodeURIComponent(name) + "=" + encodeURIComponent(queryParams[name]))
+            .join("&");
+        return new Promise<R>((resolve, reject) => {
+            const request = http.request({
+                host: "127.0.0.1",
+                port: this.port,
+                method: requestConfig.method,
+                path: "/" + requestConfig.url + (query ? "?" + query : ""),
+                headers: { "Content-Type": "application/json" },
+            }, response => {
+                let body = "";
+                response.setEncoding("utf8");
+                response.on("data", chunk => body += chunk);
+                response.on("end", () => resolve(JSON.parse(body)));
+            });
+            request.on("error", reject);
+            if (requestConfig.data !== undefined) {
+                request.write(JSON.stringify(requestConfig.data));
+            }
+            request.end();
+        });
+    }
+}
+
+function delay(milliseconds: number): Promise<void> {
+    return new Promise<void>(resolve => setTimeout(resolve, milliseconds));
+}
+
+function createClient(options?: RequestCoalescingOptions): { coalescingClient: CoalescingHttpClient; client: RestApplicationClient } {
+    const port = (server.address() as AddressInfo).port;
+    const coalescingClient = new CoalescingHttpClient(new NodeHttpClient(port), options);
+    return { coalescingClient: coalescingClient, client: new RestApplicationClient(coalescingClient) };
+}
+
+async function testDeduplication(): Promise<void> {
+    const { client } = createClient();
+    receivedRequests.length = 0;
+    const responses = await Promise.all([
+        client.getItem(1),
+        client.getItem(1),
+        client.getItem(1, { version: "2" }),
+        client.getItem(2),
+    ]);
+    assert.deepStrictEqual(receivedRequests.slice().sort(), ["GET /items/1", "GET /items/1?version=2", "GET /items/2"]);
+    assert.strictEqual(responses[0], responses[1]);
+    assert.notStrictEqual(responses[0], responses[2]);
+    // without cache finished request is sent again
+    await client.getItem(1);
+    assert.strictEqual(receivedRequests.length, 4);
+}
+
+async function testCacheExpiration(): Promise<void> {
+    const { coalescingClient, client } = createClient({ cacheTimeToLive: 200 });
+    receivedRequests.length = 0;
+    const first = await client.getItem(1);
+    const second = await client.getItem(1);
+    assert.strictEqual(receivedRequests.length, 1);
+    assert.strictEqual(first, second);
+    await delay(250);
+    const third = await client.getItem(1);
+    assert.strictEqual(receivedRequests.length, 2);
+    assert.notStrictEqual(first, third);
+    // expired entries for other keys are removed when new response is cached
+    await client.getItem(2, { version: "1" });
+    await client.getItem(2, { version: "2" });
+    await delay(250);
+    await client.getItem(2, { version: "3" });
+    assert.deepStrictEqual(Object.keys((coalescingClient as any).cache), ["GET items/2 {\"version\":\"3\"}"]);
+}
+
+async function testNonGetRequestsPassThrough(): Promise<void> {
+    const { client } = createClient({ cacheTimeToLive: 1000 });
+    receivedRequests.length = 0;
+    const item: Item = { id: 1, name: "item" };
+    const responses = await Promise.all([client.createItem(item), client.createItem(item)]);
+    await client.createItem(item);
+    assert.deepStrictEqual(receivedRequests, ["POST /items", "POST /items", "POST /items"]);
+    assert.notStrictEqual(responses[0], responses[1]);
+    // requests without body are not shared either
+    receivedRequests.length = 0;
+    await Promise.all([client.deleteItem(1), client.deleteItem(1)]);
+    await client.deleteItem(1);
+    assert.deepStrictEqual(receivedRequests, ["DELETE /items/1", "DELETE /items/1", "DELETE /items/1"]);
+}
+
+server.listen(0, "127.0.0.1", async () => {
+    try {
+        await testDeduplication();
+        await testCacheExpiration();
+        await testNonGetRequestsPassThrough();
+        console.log("RequestCoalescingTest passed");
+    } catch (e) {
+        console.error(e);
+        process.exitCode = 1;
+    } finally {
+        server.close();
+    }
+});
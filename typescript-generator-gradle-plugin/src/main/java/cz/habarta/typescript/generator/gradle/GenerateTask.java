@@ -1,6 +1,7 @@
 
 package cz.habarta.typescript.generator.gradle;
 
+import cz.habarta.typescript.generator.ClassLoaderCache;
 import cz.habarta.typescript.generator.ClassMapping;
 import cz.habarta.typescript.generator.DateMapping;
 import cz.habarta.typescript.generator.EnumMapping;
@@ -116,6 +117,7 @@ public class GenerateTask extends DefaultTask {
     public List<String> nullableAnnotations;
     public boolean primitivePropertiesRequired;
     public boolean generateInfoJson;
+    public boolean generateMetricsJson;
     public boolean generateNpmPackageJson;
     public String npmName;
     public String npmVersion;
@@ -128,6 +130,15 @@ public class GenerateTask extends DefaultTask {
     public String indentString;
     public boolean jackson2ModuleDiscovery;
     public List<String> jackson2Modules;
+    public boolean writeOutputAtomically;
+    public boolean skipUnchangedOutput;
+    public boolean generationCache;
+    public boolean parallelParsing;
+    public boolean lazyParsing;
+    public boolean outputSharding;
+    public List<String> outputShardMapping;
+    public boolean reuseClasspath;
+    public String classpathIndexDirectory;
     public Logger.Level loggingLevel;
 
     private Settings createSettings(URLClassLoader classLoader) {
@@ -199,6 +210,8 @@ public class GenerateTask extends DefaultTask {
         settings.loadNullableAnnotations(classLoader, nullableAnnotations);
         settings.primitivePropertiesRequired = primitivePropertiesRequired;
         settings.generateInfoJson = generateInfoJson;
+        settings.generateMetricsJson = generateMetricsJson;
+        settings.generationMetricsListener = stage -> TypeScriptGenerator.getLogger().verbose("Generation stage " + stage);
         settings.generateNpmPackageJson = generateNpmPackageJson;
         settings.npmName = npmName == null && generateNpmPackageJson ? getProject().getName() : npmName;
         settings.npmVersion = npmVersion == null && generateNpmPackageJson ? settings.getDefaultNpmVersion() : npmVersion;
@@ -211,6 +224,12 @@ public class GenerateTask extends DefaultTask {
         settings.setIndentString(indentString);
         settings.jackson2ModuleDiscovery = jackson2ModuleDiscovery;
         settings.loadJackson2Modules(classLoader, jackson2Modules);
+        settings.writeOutputAtomically = writeOutputAtomically;
+        settings.skipUnchangedOutput = skipUnchangedOutput;
+        settings.parallelParsing = parallelParsing;
+        settings.lazyParsing = lazyParsing;
+        settings.outputSharding = outputSharding;
+        settings.outputShardMapping = Settings.convertToMap(outputShardMapping, "outputShardMapping");
         settings.classLoader = classLoader;
         return settings;
     }
@@ -238,7 +257,8 @@ public class GenerateTask extends DefaultTask {
         }
         urls.addAll(getFilesFromConfiguration("compileClasspath"));
 
-        try (URLClassLoader classLoader = Settings.createClassLoader(getProject().getName(), urls.toArray(new URL[0]), Thread.currentThread().getContextClassLoader())) {
+        try (ClassLoaderCache.Lease classLoaderLease = ClassLoaderCache.acquire(getProject().getName(), new ArrayList<>(urls), Thread.currentThread().getContextClassLoader(), reuseClasspath)) {
+            final URLClassLoader classLoader = classLoaderLease.getClassLoader();
 
             final Settings settings = createSettings(classLoader);
 
@@ -253,14 +273,18 @@ public class GenerateTask extends DefaultTask {
             parameters.isClassNameExcluded = settings.getExcludeFilter();
             parameters.classLoader = classLoader;
             parameters.scanningAcceptedPackages = scanningAcceptedPackages;
+            parameters.classpathIndexDirectory = classpathIndexDirectory != null ? getProject().file(classpathIndexDirectory) : null;
             parameters.debug = loggingLevel == Logger.Level.Debug;
 
             final File output = outputFile != null
                     ? getProject().file(outputFile)
                     : new File(new File(getProject().getBuildDir(), "typescript-generator"), getProject().getName() + settings.getExtension());
             settings.validateFileName(output);
+            if (generationCache) {
+                settings.generationCacheFile = new File(new File(getProject().getBuildDir(), "typescript-generator-cache"), output.getName() + ".json");
+            }
 
-            new TypeScriptGenerator(settings).generateTypeScript(Input.from(parameters), Output.to(output));
+            new TypeScriptGenerator(settings).generateTypeScript(Input.from(parameters), Output.to(output, settings.writeOutputAtomically, settings.skipUnchangedOutput));
         }
     }
 
@@ -1,6 +1,7 @@
 
 package cz.habarta.typescript.generator.maven;
 
+import cz.habarta.typescript.generator.ClassLoaderCache;
 import cz.habarta.typescript.generator.ClassMapping;
 import cz.habarta.typescript.generator.DateMapping;
 import cz.habarta.typescript.generator.EnumMapping;
@@ -740,6 +741,15 @@ public class GenerateMojo extends AbstractMojo {
     @Parameter
     private boolean generateInfoJson;
 
+    /**
+     * If <code>true</code> <code>typescript-generator-metrics.json</code> file will be generated next to the output file.
+     * It contains wall time, allocated bytes and number of processed items for individual generation stages
+     * (classpath scanning, parsing, model enrichers, model transformations, extensions and emission).
+     * The same metrics are also logged when {@link #loggingLevel} is <code>Verbose</code> or <code>Debug</code>.
+     */
+    @Parameter
+    private boolean generateMetricsJson;
+
     /**
      * If <code>true</code> NPM <code>package.json</code> will be generated.
      * Only applicable when {@link #outputKind} is set to <code>module</code>.
@@ -838,6 +848,98 @@ public class GenerateMojo extends AbstractMojo {
     @Parameter
     private List<String> jackson2Modules;
 
+    /**
+     * If <code>true</code> output files are written to temporary files first which then atomically replace target files.
+     * This way file watchers (for example <code>tsc --watch</code>) never see partially written files.
+     */
+    @Parameter
+    private boolean writeOutputAtomically;
+
+    /**
+     * If <code>true</code> output files are replaced only when their content changes (generation timestamp in file comment is ignored).
+     * Unchanged files keep their modification time so incremental tools (<code>tsc --watch</code>, webpack, IDEs) do not rebuild them.
+     */
+    @Parameter
+    private boolean skipUnchangedOutput;
+
+    /**
+     * If <code>true</code> generation is skipped when nothing changed since the previous build.
+     * The cache is stored in <code>${project.build.directory}/typescript-generator-cache</code> directory
+     * and it is invalidated when typescript-generator version, plugin configuration, input classes, class files of processed classes
+     * or output files change.
+     * Note that configuration of extensions is only compared by extension class names.
+     */
+    @Parameter
+    private boolean generationCache;
+
+    /**
+     * If <code>true</code> discovered classes are parsed in parallel using all available processors.
+     * Generated output is the same as when classes are parsed sequentially.
+     * This can significantly speed up generation for large models.
+     */
+    @Parameter
+    private boolean parallelParsing;
+
+    /**
+     * If <code>true</code> subclasses listed in <code>@JsonSubTypes</code> annotation are not discovered
+     * when the annotated class doesn't have discriminant property
+     * (for example when <code>@JsonTypeInfo</code> is missing, uses <code>JsonTypeInfo.As.WRAPPER_OBJECT</code>
+     * or tagged union is disabled using <code>disableTaggedUnionAnnotations</code>).
+     * Nothing else changes: subclasses of classes with discriminant property and all other classes
+     * are discovered and parsed the same way as without this parameter.
+     * Note that it changes generated output: such subclasses are only generated
+     * when they are input classes or when they are referenced from other declarations,
+     * without this parameter they are always generated.
+     * This parameter is only used by <code>jackson2</code> library.
+     */
+    @Parameter
+    private boolean lazyParsing;
+
+    /**
+     * If <code>true</code> data declarations are split into multiple modules, one module per Java package.
+     * Modules are written next to the output file and are named by Java package (or by <code>outputShardMapping</code>).
+     * Other declarations (for example REST interfaces) and declarations added by extensions are written to the output file.
+     * References between modules are imported automatically.
+     * Modules are only rewritten when their content changes so incremental TypeScript builds are not invalidated.
+     * Written modules are listed in <code>&lt;output file name without extension&gt;.shards.json</code> manifest next to the output file
+     * and modules written by previous run which are not generated anymore are deleted.
+     * This parameter can only be used with <code>outputKind</code> set to <code>module</code>
+     * and cannot be used together with <code>namespace</code> or <code>mapPackagesToNamespaces</code> parameters.
+     * Since only references from declarations are imported, this parameter also cannot be used with generated runtime code
+     * (<code>mapClasses</code> set to <code>asClasses</code>, REST clients or extensions generating runtime code).
+     */
+    @Parameter
+    private boolean outputSharding;
+
+    /**
+     * Specifies custom grouping of Java packages into modules when <code>outputSharding</code> is enabled.
+     * Each item has format <code>javaPackage:moduleName</code>, for example <code>com.example.model:model</code>.
+     * Mapping applies to specified package and all its subpackages, the most specific mapping wins.
+     * Packages without mapping are written to module named by Java package.
+     */
+    @Parameter
+    private List<String> outputShardMapping;
+
+    /**
+     * If <code>true</code> class loader and classpath scan results are kept in memory and reused by subsequent executions in the same JVM,
+     * for example when running in Maven daemon (<code>mvnd</code>) or in IDE.
+     * Dependencies (jar files) and project classes (directories) are loaded using separate class loaders
+     * so only project classes are reloaded when they change.
+     */
+    @Parameter
+    private boolean reuseClasspath;
+
+    /**
+     * Directory with persistent classpath index used instead of full classpath scanning
+     * (when <code>classPatterns</code>, <code>classesWithAnnotations</code>, <code>classesImplementingInterfaces</code>,
+     * <code>classesExtendingClasses</code> or <code>classesFromAutomaticJaxrsApplication</code> parameter is used).
+     * Class information of each jar file is stored in this directory under hash of jar content
+     * so only new or changed jar files are scanned. Project classes (directories) are always scanned.
+     * Directory can be shared by multiple projects, for example <code>${user.home}/.cache/typescript-generator/classpath-index</code>.
+     */
+    @Parameter
+    private File classpathIndexDirectory;
+
     /**
      * Specifies level of logging output.
      * Supported values are:
@@ -931,6 +1033,8 @@ public class GenerateMojo extends AbstractMojo {
         settings.loadNullableAnnotations(classLoader, nullableAnnotations);
         settings.primitivePropertiesRequired = primitivePropertiesRequired;
         settings.generateInfoJson = generateInfoJson;
+        settings.generateMetricsJson = generateMetricsJson;
+        settings.generationMetricsListener = stage -> TypeScriptGenerator.getLogger().verbose("Generation stage " + stage);
         settings.generateNpmPackageJson = generateNpmPackageJson;
         settings.npmName = npmName == null && generateNpmPackageJson ? project.getArtifactId() : npmName;
         settings.npmVersion = npmVersion == null && generateNpmPackageJson ? settings.getDefaultNpmVersion() : npmVersion;
@@ -943,6 +1047,12 @@ public class GenerateMojo extends AbstractMojo {
         settings.setIndentString(indentString);
         settings.jackson2ModuleDiscovery = jackson2ModuleDiscovery;
         settings.loadJackson2Modules(classLoader, jackson2Modules);
+        settings.writeOutputAtomically = writeOutputAtomically;
+        settings.skipUnchangedOutput = skipUnchangedOutput;
+        settings.parallelParsing = parallelParsing;
+        settings.lazyParsing = lazyParsing;
+        settings.outputSharding = outputSharding;
+        settings.outputShardMapping = Settings.convertToMap(outputShardMapping, "outputShardMapping");
         settings.classLoader = classLoader;
         return settings;
     }
@@ -966,7 +1076,8 @@ public class GenerateMojo extends AbstractMojo {
             throw new RuntimeException(e);
         }
 
-        try (URLClassLoader classLoader = Settings.createClassLoader(project.getArtifactId(), urls.toArray(new URL[0]), Thread.currentThread().getContextClassLoader())) {
+        try (ClassLoaderCache.Lease classLoaderLease = ClassLoaderCache.acquire(project.getArtifactId(), urls, Thread.currentThread().getContextClassLoader(), reuseClasspath)) {
+            final URLClassLoader classLoader = classLoaderLease.getClassLoader();
 
             final Settings settings = createSettings(classLoader);
 
@@ -981,14 +1092,18 @@ public class GenerateMojo extends AbstractMojo {
             parameters.isClassNameExcluded = settings.getExcludeFilter();
             parameters.classLoader = classLoader;
             parameters.scanningAcceptedPackages = scanningAcceptedPackages;
+            parameters.classpathIndexDirectory = classpathIndexDirectory;
             parameters.debug = loggingLevel == Logger.Level.Debug;
 
             final File output = outputFile != null
                     ? outputFile
                     : new File(new File(projectBuildDirectory, "typescript-generator"), project.getArtifactId() + settings.getExtension());
             settings.validateFileName(output);
+            if (generationCache) {
+                settings.generationCacheFile = new File(new File(projectBuildDirectory, "typescript-generator-cache"), output.getName() + ".json");
+            }
 
-            new TypeScriptGenerator(settings).generateTypeScript(Input.from(parameters), Output.to(output));
+            new TypeScriptGenerator(settings).generateTypeScript(Input.from(parameters), Output.to(output, settings.writeOutputAtomically, settings.skipUnchangedOutput));
 
         } catch (IOException e) {
             throw new RuntimeException(e);